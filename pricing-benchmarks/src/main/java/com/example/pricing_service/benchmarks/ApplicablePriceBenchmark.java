@@ -0,0 +1,72 @@
+package com.example.pricing_service.benchmarks;
+
+import com.example.pricing_service.application.service.impl.PriceServiceImpl;
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.infraestructure.commons.exceptions.PriceNotFoundException;
+import com.example.pricing_service.infraestructure.rest.mapper.PriceMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PriceServiceImpl#getApplicablePrice} over an in-memory repository, for growing catalogs and
+ * growing numbers of overlapping prices per product. The miss benchmarks ask for a product that has no price,
+ * once through the exception and once through the empty {@link Optional} the controller uses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApplicablePriceBenchmark {
+
+    private static final int LOOKUPS = 1 << 12;
+
+    @Param({"1000", "100000"})
+    private int products;
+
+    @Param({"1", "4", "16"})
+    private int overlap;
+
+    private PriceServiceImpl priceService;
+    private long[] productIds;
+    private LocalDateTime[] applicationDates;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PriceMapper priceMapper = BenchmarkMappers.priceMapper();
+        priceService = new PriceServiceImpl(
+                new InMemoryPriceRepository(PriceDataset.generate(products, overlap), priceMapper), priceMapper);
+        applicationDates = PriceDataset.applicationDates(LOOKUPS);
+        productIds = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            productIds[i] = 1 + Math.floorMod(i * 7_919L, products);
+        }
+    }
+
+    @Benchmark
+    public PriceRequest hit() {
+        int i = next++ & (LOOKUPS - 1);
+        return priceService.getApplicablePrice(productIds[i], PriceDataset.BRAND_ID, applicationDates[i]);
+    }
+
+    @Benchmark
+    public Object missThrowing() {
+        int i = next++ & (LOOKUPS - 1);
+        try {
+            return priceService.getApplicablePrice(products + productIds[i], PriceDataset.BRAND_ID, applicationDates[i]);
+        } catch (PriceNotFoundException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Optional<PriceRequest> missOptional() {
+        int i = next++ & (LOOKUPS - 1);
+        return priceService.findApplicablePrice(products + productIds[i], PriceDataset.BRAND_ID, applicationDates[i]);
+    }
+}
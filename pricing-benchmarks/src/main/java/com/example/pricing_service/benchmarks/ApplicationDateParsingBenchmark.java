@@ -0,0 +1,57 @@
+package com.example.pricing_service.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the {@code applicationDate} request parameter: the conversion Spring MVC applies to a parameter
+ * annotated with {@code @DateTimeFormat(iso = DATE_TIME)}, and the plain JDK parsers for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApplicationDateParsingBenchmark {
+
+    private static final TypeDescriptor SOURCE = TypeDescriptor.valueOf(String.class);
+
+    @Param({"2020-06-14T10:00:00", "2020-06-14T10:00:00.123456"})
+    private String applicationDate;
+
+    private DefaultFormattingConversionService conversionService;
+    private TypeDescriptor target;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchFieldException {
+        conversionService = new DefaultFormattingConversionService();
+        target = new TypeDescriptor(RequestParameters.class.getDeclaredField("applicationDate"));
+    }
+
+    @Benchmark
+    public Object springConversion() {
+        return conversionService.convert(applicationDate, SOURCE, target);
+    }
+
+    @Benchmark
+    public LocalDateTime isoDateTime() {
+        return LocalDateTime.parse(applicationDate, DateTimeFormatter.ISO_DATE_TIME);
+    }
+
+    @Benchmark
+    public LocalDateTime isoLocalDateTime() {
+        return LocalDateTime.parse(applicationDate);
+    }
+
+    private static class RequestParameters {
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime applicationDate;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.pricing_service.benchmarks;
+
+import com.example.pricing_service.infraestructure.rest.mapper.BrandMapperImpl;
+import com.example.pricing_service.infraestructure.rest.mapper.PriceMapper;
+import com.example.pricing_service.infraestructure.rest.mapper.PriceMapperImpl;
+import com.example.pricing_service.infraestructure.rest.mapper.ProductMapperImpl;
+import com.example.pricing_service.infraestructure.rest.mapper.ReferenceMapperImpl;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Builds the MapStruct mappers the way Spring wires them, without starting a context.
+ */
+final class BenchmarkMappers {
+
+    private BenchmarkMappers() {
+    }
+
+    static PriceMapper priceMapper() {
+        ReferenceMapperImpl referenceMapper = new ReferenceMapperImpl();
+        ProductMapperImpl productMapper = new ProductMapperImpl();
+        inject(productMapper, List.of(referenceMapper));
+        PriceMapperImpl priceMapper = new PriceMapperImpl();
+        inject(priceMapper, List.of(new BrandMapperImpl(), productMapper, referenceMapper));
+        return priceMapper;
+    }
+
+    private static void inject(Object target, List<Object> dependencies) {
+        for (Field field : target.getClass().getDeclaredFields()) {
+            for (Object dependency : dependencies) {
+                if (field.getType().isInstance(dependency)) {
+                    try {
+                        field.setAccessible(true);
+                        field.set(target, dependency);
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException("Cannot wire " + field, e);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.pricing_service.benchmarks;
+
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceInterval;
+import com.example.pricing_service.domain.model.PriceLookup;
+import com.example.pricing_service.domain.port.PriceRepository;
+import com.example.pricing_service.infraestructure.index.PriceIntervalIndex;
+import com.example.pricing_service.infraestructure.rest.mapper.PriceMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * {@link PriceRepository} answering from a {@link PriceIntervalIndex}, the same structure the service reads from
+ * once it has started, so the benchmarks measure everything above the database. Writes go to a map of the prices
+ * by ID and to the index.
+ */
+final class InMemoryPriceRepository implements PriceRepository {
+
+    private final PriceIntervalIndex priceIntervalIndex = new PriceIntervalIndex();
+    private final Map<Long, Price> pricesById = new ConcurrentHashMap<>();
+    private final Map<PairKey, AtomicInteger> lastPriceLists = new ConcurrentHashMap<>();
+    private final AtomicLong lastId = new AtomicLong();
+    private final PriceMapper priceMapper;
+
+    InMemoryPriceRepository(List<Price> prices, PriceMapper priceMapper) {
+        this.priceMapper = priceMapper;
+        prices.forEach(this::store);
+        priceIntervalIndex.load(prices.stream());
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        return priceIntervalIndex.findApplicablePrice(productId, brandId, applicationDate);
+    }
+
+    @Override
+    public Optional<PriceRequest> findApplicablePriceRequest(Long productId, Long brandId, LocalDateTime applicationDate) {
+        return priceIntervalIndex.findApplicablePrice(productId, brandId, applicationDate)
+                .map(priceMapper::toPriceRequest);
+    }
+
+    @Override
+    public List<Optional<Price>> findApplicablePrices(List<PriceLookup> lookups) {
+        return lookups.stream()
+                .map(lookup -> priceIntervalIndex.findApplicablePrice(
+                        lookup.getProductId(), lookup.getBrandId(), lookup.getApplicationDate()))
+                .toList();
+    }
+
+    @Override
+    public Stream<PriceRequest> streamApplicablePrices(Long brandId, LocalDateTime applicationDate) {
+        return pricesById.values().stream()
+                .filter(price -> price.getBrand().getId().equals(brandId))
+                .map(price -> price.getProduct().getId())
+                .distinct()
+                .sorted()
+                .map(productId -> findApplicablePriceRequest(productId, brandId, applicationDate))
+                .flatMap(Optional::stream);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findNextPriceBoundary(Long productId, Long brandId, LocalDateTime date) {
+        return priceIntervalIndex.findNextBoundary(productId, brandId, date);
+    }
+
+    @Override
+    public List<PriceInterval> findPriceTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        return priceIntervalIndex.findSegments(productId, brandId, from, to).stream()
+                .map(segment -> new PriceInterval(segment.start(), segment.end(), segment.price()))
+                .toList();
+    }
+
+    @Override
+    public Price savePrice(Price price) {
+        if (price.getId() == null) {
+            price.setId(lastId.incrementAndGet());
+        } else {
+            Optional.ofNullable(pricesById.get(price.getId())).ifPresent(priceIntervalIndex::remove);
+        }
+        store(price);
+        priceIntervalIndex.add(price);
+        return price;
+    }
+
+    @Override
+    public List<Price> savePrices(List<Price> prices) {
+        return prices.stream().map(this::savePrice).toList();
+    }
+
+    @Override
+    public Optional<Price> findPricetoDelete(Long brandId, Long productId, Integer priceList, LocalDateTime startDate,
+                                             LocalDateTime endDate) {
+        return pricesById.values().stream()
+                .filter(price -> price.getBrand().getId().equals(brandId)
+                        && price.getProduct().getId().equals(productId)
+                        && price.getPriceList().equals(priceList)
+                        && price.getStartDate().equals(startDate)
+                        && price.getEndDate().equals(endDate))
+                .findFirst();
+    }
+
+    @Override
+    public void deletePrice(Price price) {
+        Optional.ofNullable(pricesById.remove(price.getId())).ifPresent(priceIntervalIndex::remove);
+    }
+
+    @Override
+    public List<Price> findAllById(List<Long> priceIds) {
+        return priceIds.stream().map(pricesById::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public Integer allocatePriceList(Long product, Long brand) {
+        return allocatePriceLists(product, brand, 1);
+    }
+
+    @Override
+    public Integer allocatePriceLists(Long product, Long brand, int count) {
+        return lastPriceLists.computeIfAbsent(new PairKey(product, brand), key -> new AtomicInteger())
+                .addAndGet(count) - count + 1;
+    }
+
+    private void store(Price price) {
+        pricesById.put(price.getId(), price);
+        lastId.accumulateAndGet(price.getId(), Math::max);
+        lastPriceLists.computeIfAbsent(new PairKey(price.getProduct().getId(), price.getBrand().getId()),
+                key -> new AtomicInteger()).accumulateAndGet(price.getPriceList(), Math::max);
+    }
+
+    private record PairKey(Long productId, Long brandId) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.pricing_service.benchmarks;
+
+import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.Product;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic price catalog for the benchmarks: one brand and {@code products} products, each with a base
+ * price covering the whole year and {@code overlap - 1} shorter promotions of higher priority on top of it,
+ * so a lookup has up to {@code overlap} candidate prices to resolve.
+ */
+final class PriceDataset {
+
+    static final long BRAND_ID = 1L;
+    static final LocalDateTime YEAR_START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    static final int HOURS_PER_YEAR = 366 * 24;
+
+    private static final long SEED = 42L;
+
+    private PriceDataset() {
+    }
+
+    static List<Price> generate(int products, int overlap) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Brand brand = Brand.builder().id(BRAND_ID).build();
+        List<Price> prices = new ArrayList<>(products * overlap);
+        long priceId = 1;
+        for (long productId = 1; productId <= products; productId++) {
+            Product product = Product.builder().id(productId).build();
+            prices.add(price(priceId++, brand, product, 1, 0, (1_000 + random.nextInt(9_000)) / 100.0,
+                    YEAR_START, YEAR_START.plusHours(HOURS_PER_YEAR)));
+            for (int promotion = 1; promotion < overlap; promotion++) {
+                LocalDateTime start = YEAR_START.plusHours(random.nextInt(HOURS_PER_YEAR - 24));
+                prices.add(price(priceId++, brand, product, promotion + 1, 1 + random.nextInt(3),
+                        (500 + random.nextInt(5_000)) / 100.0, start, start.plusHours(1 + random.nextInt(24 * 14))));
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * Application dates spread over the year, to be cycled through by the lookups.
+     */
+    static LocalDateTime[] applicationDates(int count) {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        LocalDateTime[] dates = new LocalDateTime[count];
+        for (int i = 0; i < count; i++) {
+            dates[i] = YEAR_START.plusMinutes(1 + random.nextInt(HOURS_PER_YEAR * 60 - 2));
+        }
+        return dates;
+    }
+
+    private static Price price(long id, Brand brand, Product product, int priceList, int priority, double amount,
+                               LocalDateTime startDate, LocalDateTime endDate) {
+        return Price.builder()
+                .id(id)
+                .brand(brand)
+                .product(product)
+                .priceList(priceList)
+                .priority(priority)
+                .price(amount)
+                .currency("EUR")
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.pricing_service.benchmarks;
+
+import com.example.pricing_service.domain.dto.PriceDto;
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.infraestructure.entity.BrandEntity;
+import com.example.pricing_service.infraestructure.entity.PriceEntity;
+import com.example.pricing_service.infraestructure.entity.ProductEntity;
+import com.example.pricing_service.infraestructure.rest.mapper.PriceMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The MapStruct {@link PriceMapper} conversions on the read and write paths of a price.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceMapperBenchmark {
+
+    private PriceMapper priceMapper;
+    private Price price;
+    private PriceEntity priceEntity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        priceMapper = BenchmarkMappers.priceMapper();
+        price = PriceDataset.generate(1, 1).get(0);
+        priceEntity = PriceEntity.builder()
+                .id(1L)
+                .brand(BrandEntity.builder().id(1L).name("ZARA").userId(1L).productList(Collections.emptySet()).build())
+                .product(ProductEntity.builder().id(35455L).name("Product Name").userId(1L)
+                        .priceList(Collections.emptyList()).build())
+                .priceList(1)
+                .priority(0)
+                .price(35.50)
+                .currency("EUR")
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59))
+                .build();
+    }
+
+    @Benchmark
+    public PriceRequest toPriceRequest() {
+        return priceMapper.toPriceRequest(price);
+    }
+
+    @Benchmark
+    public Price toPrice() {
+        return priceMapper.toPrice(priceEntity);
+    }
+
+    @Benchmark
+    public Price toShallowPrice() {
+        return priceMapper.toShallowPrice(priceEntity);
+    }
+
+    @Benchmark
+    public PriceEntity toPriceEntity() {
+        return priceMapper.toPriceEntity(price);
+    }
+
+    @Benchmark
+    public PriceDto toPriceDtoFromPrice() {
+        return priceMapper.toPriceDtoFromPrice(price);
+    }
+}
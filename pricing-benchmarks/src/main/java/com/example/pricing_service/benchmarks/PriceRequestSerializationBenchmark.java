@@ -0,0 +1,50 @@
+package com.example.pricing_service.benchmarks;
+
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the {@link PriceRequest} returned by {@code GET /v1/prices}, with an
+ * {@link ObjectMapper} configured like the one Spring Boot gives the controllers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceRequestSerializationBenchmark {
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private PriceRequest priceRequest;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(PriceRequest.class);
+        reader = objectMapper.readerFor(PriceRequest.class);
+        priceRequest = new PriceRequest(35455L, 1L, 1, LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59), 35.50, "EUR");
+        json = writer.writeValueAsBytes(priceRequest);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(priceRequest);
+    }
+
+    @Benchmark
+    public PriceRequest deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+}
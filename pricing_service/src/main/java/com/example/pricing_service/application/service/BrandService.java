@@ -1,17 +1,26 @@
 package com.example.pricing_service.application.service;
 
 import com.example.pricing_service.domain.dto.BrandDto;
+import com.example.pricing_service.domain.dto.BrandLookupResultDto;
+import com.example.pricing_service.domain.dto.BrandProductsDto;
 import com.example.pricing_service.domain.dto.request.BrandRequest;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface BrandService {
     BrandRequest getBrandById(String id);
 
+    List<BrandLookupResultDto> getBrandsByIds(List<Long> ids, Long productId, LocalDateTime applicationDate);
+
     BrandRequest getBrandByName(String name);
 
     BrandDto createBrand(BrandDto brandDto);
 
     BrandDto updateBrand(String id, BrandDto brandDto);
 
+    void updateBrandProducts(String id, BrandProductsDto brandProductsDto);
+
     void deleteBrandById(String id);
 
     void deleteBrandByName(String name);
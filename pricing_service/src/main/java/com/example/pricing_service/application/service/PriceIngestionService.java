@@ -0,0 +1,9 @@
+package com.example.pricing_service.application.service;
+
+import com.example.pricing_service.domain.dto.PriceIngestionReportDto;
+
+import java.io.InputStream;
+
+public interface PriceIngestionService {
+    PriceIngestionReportDto ingestPrices(InputStream prices);
+}
@@ -1,16 +1,29 @@
 package com.example.pricing_service.application.service;
 
+import com.example.pricing_service.domain.dto.BasketDto;
+import com.example.pricing_service.domain.dto.BasketPriceDto;
 import com.example.pricing_service.domain.dto.PriceDto;
+import com.example.pricing_service.domain.dto.PriceLookupDto;
+import com.example.pricing_service.domain.dto.PriceLookupResultDto;
+import com.example.pricing_service.domain.dto.PriceTimelineEntryDto;
 import com.example.pricing_service.domain.dto.request.PriceRequest;
 import com.example.pricing_service.domain.model.Price;
 import com.example.pricing_service.infraestructure.entity.PriceEntity;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface PriceService {
     PriceRequest getApplicablePrice(Long productId, Long brandId, LocalDateTime applicationDate);
+    Optional<PriceRequest> findApplicablePrice(Long productId, Long brandId, LocalDateTime applicationDate);
+    List<PriceLookupResultDto> getApplicablePrices(List<PriceLookupDto> lookups);
+    BasketPriceDto priceBasket(BasketDto basket);
+    long exportApplicablePrices(Long brandId, LocalDateTime applicationDate, Consumer<PriceRequest> consumer);
+    List<PriceTimelineEntryDto> getPriceTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to);
     PriceDto createPrice(PriceDto priceDto);
+    List<PriceDto> createPrices(List<PriceDto> priceDtos);
     void deletePrice(Long productId, Long brandId, Integer priceList, LocalDateTime startDate, LocalDateTime endDate);
     List<Price> findPricesByIds(List<Long> priceIds);
 }
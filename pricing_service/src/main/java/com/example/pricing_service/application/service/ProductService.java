@@ -1,11 +1,17 @@
 package com.example.pricing_service.application.service;
 
 import com.example.pricing_service.domain.dto.ProductDto;
+import com.example.pricing_service.domain.dto.ProductLookupResultDto;
 import com.example.pricing_service.domain.dto.request.ProductRequest;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface ProductService {
     ProductRequest getProductById(String id);
 
+    List<ProductLookupResultDto> getProductsByIds(List<Long> ids, Long brandId, LocalDateTime applicationDate);
+
     ProductDto createProduct(ProductDto productDto);
 
     ProductDto updateProduct(String id, ProductDto productDto);
@@ -0,0 +1,80 @@
+package com.example.pricing_service.application.service.impl;
+
+import com.example.pricing_service.application.service.PriceService;
+import com.example.pricing_service.domain.dto.PriceLookupDto;
+import com.example.pricing_service.domain.dto.PriceLookupResultDto;
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The steps the multi-get endpoints of products and brands share: checking the requested IDs, reading the
+ * distinct ones in a single query and pricing every found one with a single batch lookup.
+ */
+final class BatchLookups {
+    static final int MAX_BATCH_SIZE = 1_000;
+
+    private BatchLookups() {
+    }
+
+    /**
+     * @param ids The requested IDs.
+     * @param badRequest Creates the exception thrown for invalid IDs from its message.
+     * @param badRequestMessage The message when the IDs are missing or contain null.
+     * @param tooLargeMessage The message when there are more than {@link #MAX_BATCH_SIZE} IDs.
+     */
+    static void checkIds(List<Long> ids, Function<String, ? extends RuntimeException> badRequest,
+                         String badRequestMessage, String tooLargeMessage) {
+        if (ids == null || ids.isEmpty() || ids.stream().anyMatch(Objects::isNull)) {
+            throw badRequest.apply(badRequestMessage);
+        }
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw badRequest.apply(tooLargeMessage);
+        }
+    }
+
+    /**
+     * @param ids The requested IDs, possibly repeated.
+     * @param finder Reads the items with the given distinct IDs.
+     * @param idOf The ID of an item.
+     * @param mapper Maps a read item to the answered one.
+     * @return The answered items by ID, for the IDs that exist.
+     */
+    static <T, R> Map<Long, R> findAllById(List<Long> ids, Function<List<Long>, List<T>> finder,
+                                           Function<T, Long> idOf, Function<T, R> mapper) {
+        Map<Long, R> found = new HashMap<>();
+        finder.apply(List.copyOf(new LinkedHashSet<>(ids)))
+                .forEach(item -> found.put(idOf.apply(item), mapper.apply(item)));
+        return found;
+    }
+
+    /**
+     * @param priceService Resolves the lookups.
+     * @param ids The IDs to price.
+     * @param lookupOf The lookup of an ID at the application date.
+     * @param idOf The ID a lookup result belongs to.
+     * @param applicationDate The date the prices apply at, or null for now.
+     * @return The applicable prices by ID, for the IDs that have one.
+     */
+    static Map<Long, PriceRequest> findApplicablePrices(PriceService priceService, Collection<Long> ids,
+                                                        BiFunction<Long, LocalDateTime, PriceLookupDto> lookupOf,
+                                                        Function<PriceLookupResultDto, Long> idOf,
+                                                        LocalDateTime applicationDate) {
+        LocalDateTime date = applicationDate == null ? LocalDateTime.now() : applicationDate;
+        Map<Long, PriceRequest> prices = new HashMap<>();
+        priceService.getApplicablePrices(ids.stream()
+                        .map(id -> lookupOf.apply(id, date))
+                        .toList()).stream()
+                .filter(PriceLookupResultDto::isFound)
+                .forEach(result -> prices.put(idOf.apply(result), result.getPrice()));
+        return prices;
+    }
+}
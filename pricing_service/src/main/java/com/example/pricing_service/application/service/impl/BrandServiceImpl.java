@@ -1,32 +1,46 @@
 package com.example.pricing_service.application.service.impl;
 
 import com.example.pricing_service.application.service.BrandService;
+import com.example.pricing_service.application.service.PriceService;
 import com.example.pricing_service.domain.dto.BrandDto;
+import com.example.pricing_service.domain.dto.BrandLookupResultDto;
+import com.example.pricing_service.domain.dto.BrandProductsDto;
+import com.example.pricing_service.domain.dto.PriceLookupDto;
+import com.example.pricing_service.domain.dto.PriceLookupResultDto;
 import com.example.pricing_service.domain.dto.request.BrandRequest;
+import com.example.pricing_service.domain.dto.request.PriceRequest;
 import com.example.pricing_service.domain.model.Brand;
-import com.example.pricing_service.domain.model.Product;
 import com.example.pricing_service.domain.port.BrandRepository;
 import com.example.pricing_service.domain.port.ProductRepository;
+import com.example.pricing_service.infraestructure.commons.exceptions.BrandBadRequestException;
 import com.example.pricing_service.infraestructure.commons.exceptions.BrandNotFoundException;
+import com.example.pricing_service.infraestructure.commons.exceptions.ProductNotFoundException;
 import com.example.pricing_service.infraestructure.rest.mapper.BrandMapper;
 import com.example.pricing_service.infraestructure.rest.mapper.ProductMapper;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.BRAND_BAD_REQUEST;
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.BRAND_BATCH_TOO_LARGE;
 import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.BRAND_NOT_FOUND;
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.SOME_PRODUCTS_NOT_FOUND;
 
 @Service
 public class BrandServiceImpl implements BrandService {
     private final BrandRepository  brandRepository;
     private final ProductRepository productRepository;
     private final BrandMapper brandMapper;
+    private final PriceService priceService;
 
-    public BrandServiceImpl(BrandRepository brandRepository, ProductRepository productRepository, ProductMapper productMapper, BrandMapper brandMapper) {
+    public BrandServiceImpl(BrandRepository brandRepository, ProductRepository productRepository, ProductMapper productMapper, BrandMapper brandMapper,
+                            PriceService priceService) {
         this.brandRepository = brandRepository;
         this.productRepository = productRepository;
         this.brandMapper = brandMapper;
+        this.priceService = priceService;
     }
 
 
@@ -36,6 +50,39 @@ public class BrandServiceImpl implements BrandService {
                 .orElseThrow(() -> new BrandNotFoundException(BRAND_NOT_FOUND + " with ID: " + id));
     }
 
+    /**
+     * Retrieves many brands in a single request.
+     *
+     * The brands are read with a single query, without their products, and answered in request order, the
+     * missing ones reported as not found. Given a product, every found brand also carries the product's
+     * applicable price in that brand at the given date, or now, all resolved with a single batch lookup.
+     *
+     * @param ids The brands' IDs.
+     * @param productId The product to price in every brand, or null to leave the prices out.
+     * @param applicationDate The date the prices apply at, or null for now.
+     * @return One {@link BrandLookupResultDto} per ID, in request order.
+     */
+    @Override
+    public List<BrandLookupResultDto> getBrandsByIds(List<Long> ids, Long productId, LocalDateTime applicationDate) {
+        BatchLookups.checkIds(ids, BrandBadRequestException::new, BRAND_BAD_REQUEST, BRAND_BATCH_TOO_LARGE);
+
+        Map<Long, BrandRequest> brands = BatchLookups.findAllById(ids, brandRepository::findAllById,
+                Brand::getId, brandMapper::toBrandRequest);
+        Map<Long, PriceRequest> prices = productId == null || brands.isEmpty() ? Map.of()
+                : BatchLookups.findApplicablePrices(priceService, brands.keySet(),
+                        (brandId, date) -> new PriceLookupDto(productId, brandId, date),
+                        PriceLookupResultDto::getBrandId, applicationDate);
+
+        return ids.stream()
+                .map(id -> BrandLookupResultDto.builder()
+                        .id(id)
+                        .found(brands.containsKey(id))
+                        .brand(brands.get(id))
+                        .price(prices.get(id))
+                        .build())
+                .toList();
+    }
+
     @Override
     public BrandRequest getBrandByName(String name) {
         return fetchBrandByName(name)
@@ -70,13 +117,6 @@ public class BrandServiceImpl implements BrandService {
     public BrandDto createBrand(BrandDto brandDto) {
         Brand brand = brandMapper.toBrandFromDto(brandDto);
 
-        List<Product> products = Optional.ofNullable(brandDto.getProductIds())
-                .filter(ids -> !ids.isEmpty())
-                .map(productRepository::findAllById)
-                .orElse(Collections.emptyList());
-
-        brand.setProductList(new ArrayList<>(products));
-
         Brand savedBrand = brandRepository.saveBrand(brand);
 
         return brandMapper.toBrandDto(savedBrand);
@@ -88,16 +128,44 @@ public class BrandServiceImpl implements BrandService {
         if (!id.equals(brandDto.getId().toString())) {
             throw new IllegalArgumentException("It is not possible to change the brand ID. The ID provided is: " + brandDto.getId());
         }
-        return brandRepository.findBrandById(id)
-                .map(existingBrand -> {
-                    existingBrand.setName(brandDto.getName());
-                    List<Product> products = productRepository.findAllById(brandDto.getProductIds());
-                    existingBrand.setProductList(products);
-                    existingBrand.setUserId(brandDto.getUserId());
-                    return brandRepository.saveBrand(existingBrand);
-                })
-                .map(brandMapper::toBrandDto)
-                .orElseThrow(() -> new BrandNotFoundException("Error updating Brand with ID " + id + BRAND_NOT_FOUND));
+        if (brandRepository.findExistingIds(Set.of(brandDto.getId())).isEmpty()) {
+            throw new BrandNotFoundException("Error updating Brand with ID " + id + BRAND_NOT_FOUND);
+        }
+        Brand savedBrand = brandRepository.saveBrand(brandMapper.toBrandFromDto(brandDto));
+        return brandMapper.toBrandDto(savedBrand);
+    }
+
+    /**
+     * Adds products to and removes products from the brand without rewriting the products it keeps. Products
+     * that already belong to the brand are not added twice.
+     *
+     * @param id The brand's ID.
+     * @param brandProductsDto The IDs of the products to add and to remove.
+     */
+    @Override
+    @Transactional
+    public void updateBrandProducts(String id, BrandProductsDto brandProductsDto) {
+        Set<Long> addedProductIds = idsOf(brandProductsDto.getAddProductIds());
+        Set<Long> removedProductIds = idsOf(brandProductsDto.getRemoveProductIds());
+        if ((addedProductIds.isEmpty() && removedProductIds.isEmpty())
+                || !Collections.disjoint(addedProductIds, removedProductIds)) {
+            throw new BrandBadRequestException(BRAND_BAD_REQUEST);
+        }
+
+        Long brandId = Long.valueOf(id);
+        if (brandRepository.findExistingIds(Set.of(brandId)).isEmpty()) {
+            throw new BrandNotFoundException("Error updating the products of Brand with ID " + id + BRAND_NOT_FOUND);
+        }
+        if (productRepository.findExistingIds(addedProductIds).size() < addedProductIds.size()) {
+            throw new ProductNotFoundException(SOME_PRODUCTS_NOT_FOUND);
+        }
+
+        brandRepository.removeProductsFromBrand(brandId, removedProductIds);
+        brandRepository.addProductsToBrand(brandId, addedProductIds);
+    }
+
+    private static Set<Long> idsOf(List<Long> ids) {
+        return ids == null ? Set.of() : new LinkedHashSet<>(ids);
     }
 
     @Override
@@ -0,0 +1,112 @@
+package com.example.pricing_service.application.service.impl;
+
+import com.example.pricing_service.application.service.PriceService;
+import com.example.pricing_service.domain.dto.BasketDto;
+import com.example.pricing_service.domain.dto.BasketPriceDto;
+import com.example.pricing_service.domain.dto.PriceDto;
+import com.example.pricing_service.domain.dto.PriceLookupDto;
+import com.example.pricing_service.domain.dto.PriceLookupResultDto;
+import com.example.pricing_service.domain.dto.PriceTimelineEntryDto;
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.infraestructure.cache.ApplicablePriceCache;
+import com.example.pricing_service.infraestructure.cache.ApplicablePriceCacheEntityListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * {@link PriceService} that reads applicable prices through the {@link ApplicablePriceCache} and delegates
+ * everything else to {@link PriceServiceImpl}.
+ *
+ * Cached entries are invalidated by the {@link ApplicablePriceCacheEntityListener} whenever a price of their
+ * (product, brand) pair is written.
+ */
+@Primary
+@Service
+@ConditionalOnProperty(prefix = "pricing.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachedPriceServiceImpl implements PriceService {
+
+    private final PriceServiceImpl priceServiceImpl;
+    private final ApplicablePriceCache applicablePriceCache;
+
+    public CachedPriceServiceImpl(PriceServiceImpl priceServiceImpl, ApplicablePriceCache applicablePriceCache) {
+        this.priceServiceImpl = priceServiceImpl;
+        this.applicablePriceCache = applicablePriceCache;
+    }
+
+    /**
+     * Fetches the applicable price for a given product and brand on a specific date, from the cache when possible.
+     * Invalid parameters and missing prices are never cached.
+     *
+     * @param productId The ID of the product.
+     * @param brandId The ID of the brand.
+     * @param applicationDate The date to find the applicable price for.
+     * @return A {@link PriceRequest} with the price details.
+     */
+    @Override
+    public PriceRequest getApplicablePrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        if (productId == null || brandId == null || applicationDate == null) {
+            return priceServiceImpl.getApplicablePrice(productId, brandId, applicationDate);
+        }
+        return applicablePriceCache.get(productId, brandId, applicationDate,
+                () -> priceServiceImpl.getApplicablePrice(productId, brandId, applicationDate));
+    }
+
+    /**
+     * Same as {@link #getApplicablePrice(Long, Long, LocalDateTime)}, reporting a missing price as an empty result.
+     */
+    @Override
+    public Optional<PriceRequest> findApplicablePrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        if (productId == null || brandId == null || applicationDate == null) {
+            return priceServiceImpl.findApplicablePrice(productId, brandId, applicationDate);
+        }
+        return applicablePriceCache.find(productId, brandId, applicationDate,
+                () -> priceServiceImpl.findApplicablePrice(productId, brandId, applicationDate));
+    }
+
+    @Override
+    public List<PriceLookupResultDto> getApplicablePrices(List<PriceLookupDto> lookups) {
+        return priceServiceImpl.getApplicablePrices(lookups);
+    }
+
+    @Override
+    public BasketPriceDto priceBasket(BasketDto basket) {
+        return priceServiceImpl.priceBasket(basket);
+    }
+
+    @Override
+    public long exportApplicablePrices(Long brandId, LocalDateTime applicationDate, Consumer<PriceRequest> consumer) {
+        return priceServiceImpl.exportApplicablePrices(brandId, applicationDate, consumer);
+    }
+
+    @Override
+    public List<PriceTimelineEntryDto> getPriceTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        return priceServiceImpl.getPriceTimeline(productId, brandId, from, to);
+    }
+
+    @Override
+    public PriceDto createPrice(PriceDto priceDto) {
+        return priceServiceImpl.createPrice(priceDto);
+    }
+
+    @Override
+    public List<PriceDto> createPrices(List<PriceDto> priceDtos) {
+        return priceServiceImpl.createPrices(priceDtos);
+    }
+
+    @Override
+    public void deletePrice(Long brandId, Long productId, Integer priceList, LocalDateTime startDate, LocalDateTime endDate) {
+        priceServiceImpl.deletePrice(brandId, productId, priceList, startDate, endDate);
+    }
+
+    @Override
+    public List<Price> findPricesByIds(List<Long> priceIds) {
+        return priceServiceImpl.findPricesByIds(priceIds);
+    }
+}
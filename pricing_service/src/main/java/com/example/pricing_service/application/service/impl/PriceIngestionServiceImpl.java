@@ -0,0 +1,189 @@
+package com.example.pricing_service.application.service.impl;
+
+import com.example.pricing_service.application.service.PriceIngestionService;
+import com.example.pricing_service.application.service.PriceService;
+import com.example.pricing_service.domain.dto.PriceDto;
+import com.example.pricing_service.domain.dto.PriceIngestionFailureDto;
+import com.example.pricing_service.domain.dto.PriceIngestionReportDto;
+import com.example.pricing_service.domain.port.BrandRepository;
+import com.example.pricing_service.domain.port.ProductRepository;
+import com.example.pricing_service.infraestructure.commons.exceptions.BrandNotFoundException;
+import com.example.pricing_service.infraestructure.commons.exceptions.PriceBadRequestException;
+import com.example.pricing_service.infraestructure.commons.exceptions.PriceNotFoundException;
+import com.example.pricing_service.infraestructure.commons.exceptions.ProductNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRICE_BULK_ROW_CONFLICT;
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRICE_BULK_ROW_FAILED;
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRICE_BULK_UNREADABLE;
+
+/**
+ * Loads large amounts of prices from a JSON array or an NDJSON stream.
+ *
+ * The body is read one price at a time and written in chunks of {@link #CHUNK_SIZE}, each chunk in its own
+ * transaction through {@link PriceService#createPrices(List)}. A row that cannot be read, fails validation or
+ * references an unknown product or brand is reported and skipped. When a chunk is rejected by the database its
+ * rows are retried one by one so only the offending rows are reported.
+ *
+ * A row rejected while being stored is reported with a fixed message for its kind of failure, never with the
+ * exception's own message, which may carry SQL or driver details. Unexpected failures are logged.
+ */
+@Slf4j
+@Service
+public class PriceIngestionServiceImpl implements PriceIngestionService {
+
+    static final int CHUNK_SIZE = 1_000;
+
+    private static final String MALFORMED_JSON = "Malformed JSON, the rest of the body was skipped: ";
+
+    private final PriceService priceService;
+    private final ProductRepository productRepository;
+    private final BrandRepository brandRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    public PriceIngestionServiceImpl(PriceService priceService, ProductRepository productRepository,
+                                     BrandRepository brandRepository, Validator validator, ObjectMapper objectMapper) {
+        this.priceService = priceService;
+        this.productRepository = productRepository;
+        this.brandRepository = brandRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Creates every valid price of the body and reports the rows that could not be created.
+     *
+     * Rows are numbered from 1 in the order they appear in the body.
+     *
+     * @param prices A JSON array or newline-delimited JSON objects, each one a {@link PriceDto}.
+     * @return A {@link PriceIngestionReportDto} with the number of rows received and created, and the failures.
+     * @throws PriceBadRequestException if the body cannot be read at all.
+     */
+    @Override
+    public PriceIngestionReportDto ingestPrices(InputStream prices) {
+        PriceIngestionReportDto report = PriceIngestionReportDto.builder().build();
+        List<IngestionRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        int row = 0;
+        try (MappingIterator<PriceDto> rows = objectMapper.readerFor(PriceDto.class).readValues(prices)) {
+            while (true) {
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                } catch (JsonProcessingException e) {
+                    fail(report, ++row, MALFORMED_JSON + e.getOriginalMessage());
+                    break;
+                }
+                row++;
+                try {
+                    chunk.add(new IngestionRow(row, rows.nextValue()));
+                } catch (JsonMappingException e) {
+                    fail(report, row, e.getOriginalMessage());
+                } catch (JsonProcessingException e) {
+                    fail(report, row, MALFORMED_JSON + e.getOriginalMessage());
+                    break;
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    ingestChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new PriceBadRequestException(PRICE_BULK_UNREADABLE);
+        }
+
+        ingestChunk(chunk, report);
+        report.setReceived(row);
+        return report;
+    }
+
+    private void ingestChunk(List<IngestionRow> chunk, PriceIngestionReportDto report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<Long> products = productRepository.findExistingIds(chunk.stream()
+                .map(row -> row.price().getProduct()).filter(Objects::nonNull).distinct().toList());
+        Set<Long> brands = brandRepository.findExistingIds(chunk.stream()
+                .map(row -> row.price().getBrand()).filter(Objects::nonNull).distinct().toList());
+
+        List<IngestionRow> valid = new ArrayList<>(chunk.size());
+        for (IngestionRow row : chunk) {
+            List<String> errors = validate(row.price(), products, brands);
+            if (errors.isEmpty()) {
+                valid.add(row);
+            } else {
+                report.getFailures().add(new PriceIngestionFailureDto(row.row(), errors));
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            report.setCreated(report.getCreated() + priceService.createPrices(valid.stream()
+                    .map(IngestionRow::price)
+                    .toList()).size());
+        } catch (RuntimeException e) {
+            valid.forEach(row -> ingestRow(row, report));
+        }
+    }
+
+    private void ingestRow(IngestionRow row, PriceIngestionReportDto report) {
+        try {
+            priceService.createPrice(row.price());
+            report.setCreated(report.getCreated() + 1);
+        } catch (RuntimeException e) {
+            fail(report, row.row(), describe(row, e));
+        }
+    }
+
+    private static String describe(IngestionRow row, RuntimeException e) {
+        if (e instanceof PriceBadRequestException || e instanceof PriceNotFoundException
+                || e instanceof ProductNotFoundException || e instanceof BrandNotFoundException) {
+            return e.getMessage().trim();
+        }
+        if (e instanceof DataIntegrityViolationException) {
+            return PRICE_BULK_ROW_CONFLICT.trim();
+        }
+        log.warn("Bulk price row {} could not be stored", row.row(), e);
+        return PRICE_BULK_ROW_FAILED.trim();
+    }
+
+    private List<String> validate(PriceDto priceDto, Set<Long> products, Set<Long> brands) {
+        List<String> errors = new ArrayList<>(validator.validate(priceDto).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .toList());
+        if (priceDto.getProduct() != null && !products.contains(priceDto.getProduct())) {
+            errors.add("Product " + priceDto.getProduct() + " not found");
+        }
+        if (priceDto.getBrand() != null && !brands.contains(priceDto.getBrand())) {
+            errors.add("Brand " + priceDto.getBrand() + " not found");
+        }
+        return errors;
+    }
+
+    private static void fail(PriceIngestionReportDto report, int row, String error) {
+        report.getFailures().add(new PriceIngestionFailureDto(row, List.of(error)));
+    }
+
+    private record IngestionRow(int row, PriceDto price) {
+    }
+}
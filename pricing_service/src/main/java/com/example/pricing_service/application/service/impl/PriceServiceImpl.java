@@ -1,10 +1,18 @@
 package com.example.pricing_service.application.service.impl;
 
 import com.example.pricing_service.application.validation.ValidationResult;
+import com.example.pricing_service.domain.dto.BasketDto;
+import com.example.pricing_service.domain.dto.BasketLineDto;
+import com.example.pricing_service.domain.dto.BasketLinePriceDto;
+import com.example.pricing_service.domain.dto.BasketPriceDto;
 import com.example.pricing_service.domain.dto.PriceDto;
+import com.example.pricing_service.domain.dto.PriceLookupDto;
+import com.example.pricing_service.domain.dto.PriceLookupResultDto;
+import com.example.pricing_service.domain.dto.PriceTimelineEntryDto;
 import com.example.pricing_service.domain.dto.request.PriceRequest;
 import com.example.pricing_service.application.service.PriceService;
 import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceLookup;
 import com.example.pricing_service.infraestructure.commons.exceptions.PriceBadRequestException;
 import com.example.pricing_service.infraestructure.commons.exceptions.PriceNotFoundException;
 import com.example.pricing_service.domain.port.PriceRepository;
@@ -12,17 +20,28 @@ import com.example.pricing_service.infraestructure.rest.mapper.PriceMapper;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRICE_BAD_REQUEST;
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRICE_BATCH_TOO_LARGE;
 import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRICE_NOT_FOUND;
 
 @Service
 public class PriceServiceImpl implements PriceService {
 
+    private static final int MAX_BATCH_SIZE = 10_000;
+
     private final PriceRepository priceRepository;
     private final PriceMapper priceMapper;
 
@@ -42,19 +61,190 @@ public class PriceServiceImpl implements PriceService {
      */
     @Override
     public PriceRequest getApplicablePrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        return findApplicablePrice(productId, brandId, applicationDate)
+                .orElseThrow(() -> new PriceNotFoundException(PRICE_NOT_FOUND));
+    }
+
+    /**
+     * Fetches the applicable price for a given product and brand on a specific date, reporting a missing price
+     * as an empty result instead of an exception.
+     *
+     * @param productId The ID of the product.
+     * @param brandId The ID of the brand.
+     * @param applicationDate The date to find the applicable price for.
+     * @return An {@link Optional} containing the {@link PriceRequest}, or empty if no price is found.
+     * @throws PriceBadRequestException if the parameters are invalid.
+     */
+    @Override
+    public Optional<PriceRequest> findApplicablePrice(Long productId, Long brandId, LocalDateTime applicationDate) {
         return validateParameters(productId, brandId, applicationDate)
                 .filter(ValidationResult::valid)
-                .map(result -> fetchPrice(productId, brandId, applicationDate)
-                        .orElseThrow(() -> new PriceNotFoundException(PRICE_NOT_FOUND)))
+                .map(result -> fetchPrice(productId, brandId, applicationDate))
                 .orElseThrow(() -> new PriceBadRequestException(PRICE_BAD_REQUEST));
     }
 
+    /**
+     * Fetches the applicable price of many (product, brand, date) tuples in one go.
+     *
+     * Every tuple gets its own result, in request order; a tuple without a price is reported as not found
+     * instead of failing the whole batch.
+     *
+     * @param lookups The tuples to resolve.
+     * @return One {@link PriceLookupResultDto} per tuple.
+     * @throws PriceBadRequestException if the batch is missing, too large or holds an invalid tuple.
+     */
+    @Override
+    public List<PriceLookupResultDto> getApplicablePrices(List<PriceLookupDto> lookups) {
+        if (lookups == null) {
+            throw new PriceBadRequestException(PRICE_BAD_REQUEST);
+        }
+        if (lookups.size() > MAX_BATCH_SIZE) {
+            throw new PriceBadRequestException(PRICE_BATCH_TOO_LARGE);
+        }
+        boolean invalid = lookups.stream()
+                .anyMatch(lookup -> lookup == null || !validateParameters(lookup.getProductId(), lookup.getBrandId(),
+                        lookup.getApplicationDate()).map(ValidationResult::valid).orElse(false));
+        if (invalid) {
+            throw new PriceBadRequestException(PRICE_BAD_REQUEST);
+        }
+
+        List<Optional<Price>> prices = priceRepository.findApplicablePrices(lookups.stream()
+                .map(priceMapper::toPriceLookup)
+                .toList());
+
+        List<PriceLookupResultDto> results = new ArrayList<>(lookups.size());
+        for (int i = 0; i < lookups.size(); i++) {
+            PriceLookupDto lookup = lookups.get(i);
+            PriceRequest priceRequest = prices.get(i).map(priceMapper::toPriceRequest).orElse(null);
+            results.add(PriceLookupResultDto.builder()
+                    .productId(lookup.getProductId())
+                    .brandId(lookup.getBrandId())
+                    .applicationDate(lookup.getApplicationDate())
+                    .found(priceRequest != null)
+                    .price(priceRequest)
+                    .build());
+        }
+        return results;
+    }
+
+    /**
+     * Prices every line of a basket at one instant.
+     *
+     * All the lines are resolved with a single repository call, then each line's total is computed and added
+     * to the subtotal of its currency in the same pass. Amounts are summed as {@link BigDecimal} so the totals
+     * carry no floating point drift. A line without a price is reported as missing and left out of the totals.
+     *
+     * @param basket The instant and the (product, brand, quantity) lines to price.
+     * @return The {@link BasketPriceDto} with one line per basket line, in request order.
+     * @throws PriceBadRequestException if the basket is missing, too large or holds an invalid line.
+     */
+    @Override
+    public BasketPriceDto priceBasket(BasketDto basket) {
+        if (basket == null || basket.getLines() == null) {
+            throw new PriceBadRequestException(PRICE_BAD_REQUEST);
+        }
+        List<BasketLineDto> lines = basket.getLines();
+        if (lines.size() > MAX_BATCH_SIZE) {
+            throw new PriceBadRequestException(PRICE_BATCH_TOO_LARGE);
+        }
+        LocalDateTime applicationDate = basket.getApplicationDate();
+        boolean invalid = lines.stream()
+                .anyMatch(line -> line == null || line.getQuantity() == null || line.getQuantity() <= 0
+                        || !validateParameters(line.getProductId(), line.getBrandId(), applicationDate)
+                        .map(ValidationResult::valid).orElse(false));
+        if (invalid) {
+            throw new PriceBadRequestException(PRICE_BAD_REQUEST);
+        }
+
+        List<Optional<Price>> prices = priceRepository.findApplicablePrices(lines.stream()
+                .map(line -> new PriceLookup(line.getProductId(), line.getBrandId(), applicationDate))
+                .toList());
+
+        List<BasketLinePriceDto> linePrices = new ArrayList<>(lines.size());
+        Map<String, BigDecimal> totals = new TreeMap<>();
+        List<Integer> missingLines = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            BasketLineDto line = lines.get(i);
+            Price price = prices.get(i).orElse(null);
+            BigDecimal lineTotal = null;
+            if (price == null) {
+                missingLines.add(i);
+            } else {
+                lineTotal = BigDecimal.valueOf(price.getPrice()).multiply(BigDecimal.valueOf(line.getQuantity()));
+                totals.merge(price.getCurrency(), lineTotal, BigDecimal::add);
+            }
+            linePrices.add(BasketLinePriceDto.builder()
+                    .productId(line.getProductId())
+                    .brandId(line.getBrandId())
+                    .quantity(line.getQuantity())
+                    .found(price != null)
+                    .price(price != null ? priceMapper.toPriceRequest(price) : null)
+                    .lineTotal(lineTotal)
+                    .build());
+        }
+
+        return BasketPriceDto.builder()
+                .applicationDate(applicationDate)
+                .lines(linePrices)
+                .totals(totals)
+                .missingLines(missingLines)
+                .build();
+    }
+
+    /**
+     * Hands the applicable price of every product of a brand at a given date to {@code consumer}, one at a time
+     * and in product ID order, while the rows are read from the database. Nothing is accumulated, so memory use
+     * does not depend on the size of the catalog.
+     *
+     * @param brandId The ID of the brand.
+     * @param applicationDate The date to find the applicable prices for.
+     * @param consumer Receives each {@link PriceRequest}.
+     * @return The number of prices exported.
+     * @throws PriceBadRequestException if the parameters are invalid.
+     */
     @Override
     @Transactional
-    public PriceDto createPrice(PriceDto priceDto) {
-        Integer lastPriceList = priceRepository.findMaxPriceListByProductAndBrand(priceDto.getProduct(), priceDto.getBrand());
+    public long exportApplicablePrices(Long brandId, LocalDateTime applicationDate, Consumer<PriceRequest> consumer) {
+        if (brandId == null || brandId <= 0 || applicationDate == null) {
+            throw new PriceBadRequestException(PRICE_BAD_REQUEST);
+        }
+        long exported = 0;
+        try (Stream<PriceRequest> prices = priceRepository.streamApplicablePrices(brandId, applicationDate)) {
+            Iterator<PriceRequest> iterator = prices.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                exported++;
+            }
+        }
+        return exported;
+    }
 
-        priceDto.setPriceList(lastPriceList + 1);
+    /**
+     * Lists every effective price of a product and brand over a window, the same answers point lookups at each
+     * instant of the window would give, in a single read.
+     *
+     * @param productId The ID of the product.
+     * @param brandId The ID of the brand.
+     * @param from The start of the window, inclusive.
+     * @param to The end of the window, exclusive.
+     * @return The effective prices in chronological order, each over its half-open range clipped to the window.
+     * @throws PriceBadRequestException if the parameters are invalid or the window is empty.
+     */
+    @Override
+    public List<PriceTimelineEntryDto> getPriceTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        boolean valid = validateParameters(productId, brandId, from).map(ValidationResult::valid).orElse(false);
+        if (!valid || to == null || !from.isBefore(to)) {
+            throw new PriceBadRequestException(PRICE_BAD_REQUEST);
+        }
+        return priceRepository.findPriceTimeline(productId, brandId, from, to).stream()
+                .map(priceMapper::toPriceTimelineEntryDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public PriceDto createPrice(PriceDto priceDto) {
+        priceDto.setPriceList(priceRepository.allocatePriceList(priceDto.getProduct(), priceDto.getBrand()));
         return Optional.of(priceDto)
                 .map(priceMapper::toPriceFromDto)
                 .map(priceRepository::savePrice)
@@ -62,6 +252,43 @@ public class PriceServiceImpl implements PriceService {
                 .orElseThrow(() -> new PriceBadRequestException("Error saving a price"));
     }
 
+    /**
+     * Creates many prices in a single transaction.
+     *
+     * Price list numbers are allocated in one block per (product, brand) pair and the prices are inserted in
+     * batches, so the cost per price does not depend on how many prices the pairs already have. Either every
+     * price is created or none is.
+     *
+     * @param priceDtos The prices to create, already validated.
+     * @return The created prices, in the same order.
+     * @throws PriceBadRequestException if the list is missing.
+     */
+    @Override
+    @Transactional
+    public List<PriceDto> createPrices(List<PriceDto> priceDtos) {
+        if (priceDtos == null) {
+            throw new PriceBadRequestException(PRICE_BAD_REQUEST);
+        }
+
+        Map<PairKey, List<PriceDto>> byPair = new LinkedHashMap<>();
+        priceDtos.forEach(priceDto -> byPair
+                .computeIfAbsent(new PairKey(priceDto.getProduct(), priceDto.getBrand()), key -> new ArrayList<>())
+                .add(priceDto));
+        byPair.forEach((pair, pairPrices) -> {
+            int priceList = priceRepository.allocatePriceLists(pair.productId(), pair.brandId(), pairPrices.size());
+            for (PriceDto priceDto : pairPrices) {
+                priceDto.setPriceList(priceList++);
+            }
+        });
+
+        return priceRepository.savePrices(priceDtos.stream()
+                        .map(priceMapper::toPriceFromDto)
+                        .toList())
+                .stream()
+                .map(priceMapper::toPriceDtoFromPrice)
+                .toList();
+    }
+
     @Override
     @Transactional
     public void deletePrice(Long brandId, Long productId, Integer priceList, LocalDateTime startDate, LocalDateTime endDate) {
@@ -116,8 +343,9 @@ public class PriceServiceImpl implements PriceService {
      * @return An {@link Optional} containing a {@link PriceRequest} if a price is found, or empty if not.
      */
     private Optional<PriceRequest> fetchPrice(Long productId, Long brandId, LocalDateTime applicationDate) {
-        return priceRepository.findApplicablePrice(productId, brandId, applicationDate)
-                .map(priceMapper::toPriceRequest);
+        return priceRepository.findApplicablePriceRequest(productId, brandId, applicationDate);
     }
 
+    private record PairKey(Long productId, Long brandId) {
+    }
 }
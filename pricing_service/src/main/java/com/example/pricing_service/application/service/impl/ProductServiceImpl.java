@@ -1,41 +1,46 @@
 package com.example.pricing_service.application.service.impl;
 
-import com.example.pricing_service.application.service.BrandService;
 import com.example.pricing_service.application.service.PriceService;
 import com.example.pricing_service.application.service.ProductService;
-import com.example.pricing_service.domain.dto.BrandDto;
+import com.example.pricing_service.domain.dto.PriceLookupDto;
+import com.example.pricing_service.domain.dto.PriceLookupResultDto;
 import com.example.pricing_service.domain.dto.ProductDto;
+import com.example.pricing_service.domain.dto.ProductLookupResultDto;
+import com.example.pricing_service.domain.dto.request.PriceRequest;
 import com.example.pricing_service.domain.dto.request.ProductRequest;
-import com.example.pricing_service.domain.model.Brand;
 import com.example.pricing_service.domain.model.Price;
 import com.example.pricing_service.domain.model.Product;
 import com.example.pricing_service.domain.port.BrandRepository;
 import com.example.pricing_service.domain.port.ProductRepository;
 import com.example.pricing_service.infraestructure.commons.exceptions.*;
-import com.example.pricing_service.infraestructure.rest.mapper.BrandMapper;
 import com.example.pricing_service.infraestructure.rest.mapper.ProductMapper;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRODUCT_ALREADY_EXISTS;
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRODUCT_BAD_REQUEST;
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRODUCT_BATCH_TOO_LARGE;
 import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRODUCT_NOT_FOUND;
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.SOME_BRANDS_NOT_FOUND;
 
 @Service
 public class ProductServiceImpl implements ProductService {
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
-    private final BrandService brandService;
     private final BrandRepository brandRepository;
-    private final BrandMapper brandMapper;
     private final PriceService priceService;
 
-    public ProductServiceImpl(ProductRepository productRepository, BrandService brandService, BrandRepository brandRepository, BrandMapper brandMapper, ProductMapper productMapper, PriceService priceService) {
+    public ProductServiceImpl(ProductRepository productRepository, BrandRepository brandRepository, ProductMapper productMapper, PriceService priceService) {
         this.productRepository = productRepository;
-        this.brandService = brandService;
         this.brandRepository = brandRepository;
-        this.brandMapper = brandMapper;
         this.productMapper = productMapper;
         this.priceService = priceService;
     }
@@ -46,6 +51,39 @@ public class ProductServiceImpl implements ProductService {
                 .orElseThrow(() -> new ProductNotFoundException(PRODUCT_NOT_FOUND + " with ID: " + id));
     }
 
+    /**
+     * Retrieves many products in a single request.
+     *
+     * The products are read with a single query and answered in request order, the missing ones reported as not
+     * found. Given a brand, every found product also carries its applicable price for that brand at the given
+     * date, or now, all resolved with a single batch lookup.
+     *
+     * @param ids The products' IDs.
+     * @param brandId The brand to price the products for, or null to leave the prices out.
+     * @param applicationDate The date the prices apply at, or null for now.
+     * @return One {@link ProductLookupResultDto} per ID, in request order.
+     */
+    @Override
+    public List<ProductLookupResultDto> getProductsByIds(List<Long> ids, Long brandId, LocalDateTime applicationDate) {
+        BatchLookups.checkIds(ids, ProductBadRequestException::new, PRODUCT_BAD_REQUEST, PRODUCT_BATCH_TOO_LARGE);
+
+        Map<Long, ProductRequest> products = BatchLookups.findAllById(ids, productRepository::findAllById,
+                Product::getId, productMapper::toProductRequest);
+        Map<Long, PriceRequest> prices = brandId == null || products.isEmpty() ? Map.of()
+                : BatchLookups.findApplicablePrices(priceService, products.keySet(),
+                        (productId, date) -> new PriceLookupDto(productId, brandId, date),
+                        PriceLookupResultDto::getProductId, applicationDate);
+
+        return ids.stream()
+                .map(id -> ProductLookupResultDto.builder()
+                        .id(id)
+                        .found(products.containsKey(id))
+                        .product(products.get(id))
+                        .price(prices.get(id))
+                        .build())
+                .toList();
+    }
+
     /**
      * Retrieves the applicable price from the repository based on the given parameters.
      *
@@ -60,65 +98,52 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional
     public ProductDto createProduct(ProductDto productDto) {
-        List<Long> brandIds = productDto.getBrandIds();
-        List<Brand> existingBrands = brandRepository.findAllById(brandIds);
-
-        if (existingBrands.size() != brandIds.size()) {
-            throw new BrandNotFoundException("Some of the provided brands do not exist");
+        Set<Long> brandIds = brandIdsOf(productDto);
+        if (brandRepository.findExistingIds(brandIds).size() != brandIds.size()) {
+            throw new BrandNotFoundException(SOME_BRANDS_NOT_FOUND);
         }
 
         Product newProduct = productMapper.toProductFromDto(productDto);
 
-        return Optional.of(newProduct)
-                .filter(product -> !productRepository.existsByHashCode(product.hashCode()))
-                .map(product -> {
-                    Product savedProduct = productRepository.saveProduct(product);
-                    updateBrandsWithNewProduct(brandIds, savedProduct.getId());
+        return productRepository.saveNewProduct(newProduct)
+                .map(savedProduct -> {
+                    syncBrands(savedProduct.getId(), brandIds, Set.of());
                     return savedProduct;
                 })
                 .map(productMapper::toProductDto)
-                .orElseThrow(() -> new ProductAlreadyExistsException("A product with the same attributes already exists"));
+                .orElseThrow(() -> new ProductAlreadyExistsException(PRODUCT_ALREADY_EXISTS));
     }
 
     /**
-     * Update the brands associated with the new product using the join table.
+     * Makes the given brands exactly the product's brands. Only the difference with the product's current brands
+     * is written to the {@code product_brand} join table, with one statement for the removed brands and one for
+     * the added ones, so the cost does not depend on how many products the brands have.
      *
-     * @param brandIds List of IDs of the brands to be associated.
-     * @param productId ID of the newly created product.
+     * @param productId ID of the product.
+     * @param brandIds IDs of the brands the product must belong to.
+     * @param currentBrandIds IDs of the brands the product belongs to now.
+     * @throws BrandNotFoundException if any of the added brands does not exist.
      */
-    private void updateBrandsWithNewProduct(List<Long> brandIds, Long productId) {
-        Product product = productRepository.findProductById(String.valueOf(productId)).orElseThrow(() ->
-                new ProductNotFoundException("Product not found"));
-
-        List<Brand> currentBrands = brandRepository.findBrandsByProductId(productId);
-
-        currentBrands.forEach(brand -> {
-            if (!brandIds.contains(brand.getId())) {
-                brand.getProductList().removeIf(p -> p.getId().equals(product.getId()));
-                BrandDto brandDto = brandMapper.toBrandDto(brand);
-                List<Long> updatedProductIds = brand.getProductList().stream()
-                        .map(Product::getId)
-                        .toList();
-                brandDto.setProductIds(updatedProductIds);
-                brandService.updateBrand(String.valueOf(brand.getId()), brandDto);
-            }
-        });
-
-        brandIds.forEach(brandId -> {
-            Brand brand = brandRepository.findBrandById(String.valueOf(brandId)).orElseThrow(() ->
-                    new BrandNotFoundException("Brand not found with ID: " + brandId));
-
-            if (!brand.getProductList().contains(product)) {
-                brand.getProductList().add(product);
-                brandRepository.saveBrand(brand);
-            }
-        });
+    private void syncBrands(Long productId, Set<Long> brandIds, Set<Long> currentBrandIds) {
+        Set<Long> removed = new HashSet<>(currentBrandIds);
+        removed.removeAll(brandIds);
+        Set<Long> added = new LinkedHashSet<>(brandIds);
+        added.removeAll(currentBrandIds);
+
+        brandRepository.removeProductFromBrands(productId, removed);
+        if (brandRepository.addProductToBrands(productId, added) != added.size()) {
+            throw new BrandNotFoundException(SOME_BRANDS_NOT_FOUND);
+        }
+    }
+
+    private static Set<Long> brandIdsOf(ProductDto productDto) {
+        return productDto.getBrandIds() == null ? Set.of() : new LinkedHashSet<>(productDto.getBrandIds());
     }
 
     @Override
     @Transactional
     public ProductDto updateProduct(String id, ProductDto productDto) {
-        List<Long> brandIds = productDto.getBrandIds();
+        Set<Long> brandIds = brandIdsOf(productDto);
         List<Long> priceIds = productDto.getPriceIds();
         return productRepository.findProductById(id)
                 .map(existingProduct -> {
@@ -127,7 +152,8 @@ public class ProductServiceImpl implements ProductService {
                     existingProduct.setCategory(productDto.getCategory());
                     List<Price> prices = priceService.findPricesByIds(priceIds);
                     existingProduct.setPriceList(prices);
-                    updateBrandsWithNewProduct(brandIds, existingProduct.getId());
+                    syncBrands(existingProduct.getId(), brandIds,
+                            brandRepository.findBrandIdsByProductId(existingProduct.getId()));
                     return productRepository.saveProduct(existingProduct);
                 })
                 .map(productMapper::toProductDto)
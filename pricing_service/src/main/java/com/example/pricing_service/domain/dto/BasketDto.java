@@ -0,0 +1,19 @@
+package com.example.pricing_service.domain.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class BasketDto {
+
+    private LocalDateTime applicationDate;
+
+    private List<BasketLineDto> lines;
+}
@@ -0,0 +1,18 @@
+package com.example.pricing_service.domain.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class BasketLineDto {
+
+    private Long productId;
+
+    private Long brandId;
+
+    private Integer quantity;
+}
@@ -0,0 +1,27 @@
+package com.example.pricing_service.domain.dto;
+
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class BasketLinePriceDto {
+
+    private Long productId;
+
+    private Long brandId;
+
+    private Integer quantity;
+
+    private boolean found;
+
+    private PriceRequest price;
+
+    private BigDecimal lineTotal;
+}
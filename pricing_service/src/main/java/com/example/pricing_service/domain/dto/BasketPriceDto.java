@@ -0,0 +1,25 @@
+package com.example.pricing_service.domain.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class BasketPriceDto {
+
+    private LocalDateTime applicationDate;
+
+    private List<BasketLinePriceDto> lines;
+
+    private Map<String, BigDecimal> totals;
+
+    private List<Integer> missingLines;
+}
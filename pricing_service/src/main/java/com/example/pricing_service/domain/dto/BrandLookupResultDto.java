@@ -0,0 +1,22 @@
+package com.example.pricing_service.domain.dto;
+
+import com.example.pricing_service.domain.dto.request.BrandRequest;
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class BrandLookupResultDto {
+
+    private Long id;
+
+    private boolean found;
+
+    private BrandRequest brand;
+
+    private PriceRequest price;
+}
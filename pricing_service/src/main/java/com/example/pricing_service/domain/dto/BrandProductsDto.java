@@ -0,0 +1,18 @@
+package com.example.pricing_service.domain.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class BrandProductsDto {
+
+    private List<Long> addProductIds;
+
+    private List<Long> removeProductIds;
+}
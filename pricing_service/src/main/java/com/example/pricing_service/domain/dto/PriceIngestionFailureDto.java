@@ -0,0 +1,18 @@
+package com.example.pricing_service.domain.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class PriceIngestionFailureDto {
+
+    private int row;
+
+    private List<String> errors;
+}
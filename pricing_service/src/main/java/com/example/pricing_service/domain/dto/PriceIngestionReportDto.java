@@ -0,0 +1,22 @@
+package com.example.pricing_service.domain.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class PriceIngestionReportDto {
+
+    private int received;
+
+    private int created;
+
+    @Builder.Default
+    private List<PriceIngestionFailureDto> failures = new ArrayList<>();
+}
@@ -0,0 +1,20 @@
+package com.example.pricing_service.domain.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class PriceLookupDto {
+
+    private Long productId;
+
+    private Long brandId;
+
+    private LocalDateTime applicationDate;
+}
@@ -0,0 +1,25 @@
+package com.example.pricing_service.domain.dto;
+
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class PriceLookupResultDto {
+
+    private Long productId;
+
+    private Long brandId;
+
+    private LocalDateTime applicationDate;
+
+    private boolean found;
+
+    private PriceRequest price;
+}
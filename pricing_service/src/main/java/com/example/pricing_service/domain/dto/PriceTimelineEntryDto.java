@@ -0,0 +1,24 @@
+package com.example.pricing_service.domain.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class PriceTimelineEntryDto {
+
+    private LocalDateTime segmentStart;
+
+    private LocalDateTime segmentEnd;
+
+    private Integer priceList;
+
+    private Double price;
+
+    private String currency;
+}
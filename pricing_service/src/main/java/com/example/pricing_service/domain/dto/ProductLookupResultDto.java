@@ -0,0 +1,22 @@
+package com.example.pricing_service.domain.dto;
+
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.domain.dto.request.ProductRequest;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class ProductLookupResultDto {
+
+    private Long id;
+
+    private boolean found;
+
+    private ProductRequest product;
+
+    private PriceRequest price;
+}
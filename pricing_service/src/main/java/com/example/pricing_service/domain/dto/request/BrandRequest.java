@@ -1,6 +1,5 @@
 package com.example.pricing_service.domain.dto.request;
 
-import com.example.pricing_service.domain.model.Product;
 import lombok.*;
 
 import java.util.List;
@@ -13,5 +12,5 @@ import java.util.List;
 @Builder
 public class BrandRequest {
     private String name;
-    private List<Product> productList;
+    private List<Long> productIds;
 }
@@ -1,6 +1,5 @@
 package com.example.pricing_service.domain.dto.request;
 
-import com.example.pricing_service.domain.model.Price;
 import com.example.pricing_service.infraestructure.commons.constants.CategoryType;
 import lombok.*;
 
@@ -15,5 +14,5 @@ import java.util.List;
 public class ProductRequest {
     private String name;
     private CategoryType category;
-    private List<Price> priceList;
+    private List<Long> priceIds;
 }
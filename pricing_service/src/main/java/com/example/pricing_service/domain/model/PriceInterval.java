@@ -0,0 +1,19 @@
+package com.example.pricing_service.domain.model;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Effective price of a (product, brand) pair over the half-open range {@code [segmentStart, segmentEnd)}.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class PriceInterval {
+    private LocalDateTime segmentStart;
+    private LocalDateTime segmentEnd;
+    private Price price;
+}
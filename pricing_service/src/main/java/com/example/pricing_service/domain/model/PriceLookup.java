@@ -0,0 +1,16 @@
+package com.example.pricing_service.domain.model;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class PriceLookup {
+    private Long productId;
+    private Long brandId;
+    private LocalDateTime applicationDate;
+}
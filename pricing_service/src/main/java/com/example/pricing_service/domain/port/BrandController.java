@@ -1,15 +1,22 @@
 package com.example.pricing_service.domain.port;
 
 import com.example.pricing_service.domain.dto.BrandDto;
+import com.example.pricing_service.domain.dto.BrandLookupResultDto;
+import com.example.pricing_service.domain.dto.BrandProductsDto;
 import com.example.pricing_service.domain.dto.request.BrandRequest;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface BrandController {
     ResponseEntity<BrandRequest> getBrandById(String id);
+    ResponseEntity<List<BrandLookupResultDto>> getBrandsByIds(List<Long> ids, Long productId, LocalDateTime applicationDate);
     ResponseEntity<BrandRequest> getBrandByName(String name);
     ResponseEntity<?> createBrand(BrandDto brandDto, HttpServletRequest request);
     ResponseEntity<?> updateBrand(String id, BrandDto brandDto, HttpServletRequest request);
+    ResponseEntity<?> updateBrandProducts(String id, BrandProductsDto brandProductsDto, HttpServletRequest request);
     ResponseEntity<?> deleteBrandById(String id, HttpServletRequest request);
     ResponseEntity<?> deleteBrandByName(String name, HttpServletRequest request);
 }
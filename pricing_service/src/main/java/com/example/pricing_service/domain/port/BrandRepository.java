@@ -2,8 +2,10 @@ package com.example.pricing_service.domain.port;
 
 import com.example.pricing_service.domain.model.Brand;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface BrandRepository {
     Optional<Brand> findBrandByName(String name);
@@ -18,5 +20,19 @@ public interface BrandRepository {
 
     List<Brand> findAllById(List<Long> brandIds);
 
+    Set<Long> findExistingIds(Collection<Long> brandIds);
+
     List<Brand> findBrandsByProductId(Long productId);
+
+    Set<Long> findBrandIdsByProductId(Long productId);
+
+    int addProductToBrands(Long productId, Collection<Long> brandIds);
+
+    void removeProductFromBrands(Long productId, Collection<Long> brandIds);
+
+    Set<Long> findProductIdsByBrandId(Long brandId);
+
+    int addProductsToBrand(Long brandId, Collection<Long> productIds);
+
+    int removeProductsFromBrand(Long brandId, Collection<Long> productIds);
 }
@@ -1,13 +1,28 @@
 package com.example.pricing_service.domain.port;
 
+import com.example.pricing_service.domain.dto.BasketDto;
+import com.example.pricing_service.domain.dto.BasketPriceDto;
 import com.example.pricing_service.domain.dto.PriceDto;
+import com.example.pricing_service.domain.dto.PriceIngestionReportDto;
+import com.example.pricing_service.domain.dto.PriceLookupDto;
+import com.example.pricing_service.domain.dto.PriceLookupResultDto;
+import com.example.pricing_service.domain.dto.PriceTimelineEntryDto;
 import com.example.pricing_service.domain.dto.request.PriceRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface PriceController {
     ResponseEntity<PriceRequest> getPrice(Long productId, Long brandId, LocalDateTime applicationDate);
+    ResponseEntity<List<PriceLookupResultDto>> getPrices(List<PriceLookupDto> lookups);
+    ResponseEntity<BasketPriceDto> priceBasket(BasketDto basket);
+    ResponseEntity<List<PriceTimelineEntryDto>> getPriceTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to);
+    void exportPrices(Long brandId, LocalDateTime applicationDate, HttpServletResponse response) throws IOException;
     ResponseEntity<PriceDto> createPrice(PriceDto priceDto);
+    ResponseEntity<PriceIngestionReportDto> createPrices(InputStream prices);
     ResponseEntity<Void> deletePrice(Long productId, Long brandId, Integer priceList, LocalDateTime startDate, LocalDateTime endDate);
 }
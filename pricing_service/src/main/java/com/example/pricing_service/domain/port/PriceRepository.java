@@ -1,18 +1,30 @@
 package com.example.pricing_service.domain.port;
 
+import com.example.pricing_service.domain.dto.request.PriceRequest;
 import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceInterval;
+import com.example.pricing_service.domain.model.PriceLookup;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PriceRepository {
     Optional<Price> findApplicablePrice(Long productId, Long brandId, LocalDateTime applicationDate);
+    Optional<PriceRequest> findApplicablePriceRequest(Long productId, Long brandId, LocalDateTime applicationDate);
+    List<Optional<Price>> findApplicablePrices(List<PriceLookup> lookups);
+    Stream<PriceRequest> streamApplicablePrices(Long brandId, LocalDateTime applicationDate);
+    Optional<LocalDateTime> findNextPriceBoundary(Long productId, Long brandId, LocalDateTime date);
+    List<PriceInterval> findPriceTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to);
     Price savePrice(Price price);
+    List<Price> savePrices(List<Price> prices);
     Optional<Price> findPricetoDelete(Long brandId, Long productId, Integer priceList, LocalDateTime startDate,
                               LocalDateTime endDate);
     void deletePrice(Price price);
     List<Price> findAllById(List<Long> priceIds);
 
-    Integer findMaxPriceListByProductAndBrand(Long product, Long brand);
+    Integer allocatePriceList(Long product, Long brand);
+
+    Integer allocatePriceLists(Long product, Long brand, int count);
 }
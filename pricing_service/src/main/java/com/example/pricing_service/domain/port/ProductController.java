@@ -1,11 +1,16 @@
 package com.example.pricing_service.domain.port;
 
 import com.example.pricing_service.domain.dto.ProductDto;
+import com.example.pricing_service.domain.dto.ProductLookupResultDto;
 import com.example.pricing_service.domain.dto.request.ProductRequest;
 import org.springframework.http.ResponseEntity;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface ProductController {
     ResponseEntity<ProductRequest> getProductById(String id);
+    ResponseEntity<List<ProductLookupResultDto>> getProductsByIds(List<Long> ids, Long brandId, LocalDateTime applicationDate);
     ResponseEntity<ProductDto> createProduct(ProductDto productDto);
     ResponseEntity<Void> updateProduct(String id, ProductDto productDto);
     ResponseEntity<Void> deleteProductById(String id);
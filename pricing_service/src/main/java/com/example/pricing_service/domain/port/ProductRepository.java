@@ -2,8 +2,10 @@ package com.example.pricing_service.domain.port;
 
 import com.example.pricing_service.domain.model.Product;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ProductRepository {
     Optional<Product> findProductById(String id);
@@ -12,7 +14,15 @@ public interface ProductRepository {
 
     void deleteById(long id);
 
-    boolean existsByHashCode(int hashCode);
+    /**
+     * Stores a new product unless one with the same name, user and category already exists.
+     *
+     * @param product The product to create.
+     * @return The stored product, or empty if it is a duplicate.
+     */
+    Optional<Product> saveNewProduct(Product product);
 
     List<Product> findAllById(List<Long> productIds);
+
+    Set<Long> findExistingIds(Collection<Long> productIds);
 }
@@ -1,14 +1,22 @@
 package com.example.pricing_service.infraestructure.adapters;
 
 import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Product;
 import com.example.pricing_service.domain.port.BrandRepository;
 import com.example.pricing_service.infraestructure.commons.exceptions.BrandBadRequestException;
+import com.example.pricing_service.infraestructure.entity.BrandEntity;
 import com.example.pricing_service.infraestructure.repository.BrandJpaRepository;
 import com.example.pricing_service.infraestructure.rest.mapper.BrandMapper;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 public class BrandRepositoryImpl implements BrandRepository {
@@ -20,23 +28,67 @@ public class BrandRepositoryImpl implements BrandRepository {
         this.brandMapper = brandMapper;
     }
 
+    /**
+     * Finds the brand with its products, fetched along with it in a single query.
+     *
+     * @param name The brand's name.
+     * @return The brand, or empty if it does not exist.
+     */
     @Override
     public Optional<Brand> findBrandByName(String name) {
         return brandJpaRepository.findByName(name)
                 .map(brandMapper::toBrand);
     }
 
+    /**
+     * Finds the brand with its products, fetched along with it in a single query.
+     *
+     * @param id The brand's ID.
+     * @return The brand, or empty if it does not exist.
+     */
     @Override
     public Optional<Brand> findBrandById(String id) {
-        return brandJpaRepository.findById(Long.valueOf(id))
+        return brandJpaRepository.findWithProductListById(Long.valueOf(id))
                 .map(brandMapper::toBrand);
     }
 
+    /**
+     * Saves the brand's own columns, inserting the brand if it does not exist yet, and then writes only the
+     * {@code product_brand} rows of the products added to or removed from it. The brand's products are taken by
+     * ID and never loaded, and IDs of products that do not exist are skipped.
+     *
+     * @param brand The brand to save.
+     * @return The saved brand.
+     */
     @Override
     public Brand saveBrand(Brand brand) {
-        return Optional.ofNullable(brand)
-                .map(brandMapper::toBrandEntity)
-                .map(brandJpaRepository::save)
+        if (brand == null) {
+            throw new BrandBadRequestException("Error saving the brand");
+        }
+        Optional<BrandEntity> existingBrand = Optional.ofNullable(brand.getId())
+                .flatMap(brandJpaRepository::findById);
+        BrandEntity brandEntity = existingBrand
+                .orElseGet(() -> BrandEntity.builder().productList(new HashSet<>()).build());
+        brandEntity.setName(brand.getName());
+        brandEntity.setUserId(brand.getUserId());
+        Long brandId = existingBrand.isPresent() ? brandEntity.getId() : brandJpaRepository.save(brandEntity).getId();
+
+        Set<Long> productIds = Optional.ofNullable(brand.getProductList()).orElse(Collections.emptyList()).stream()
+                .map(Product::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> currentProductIds = existingBrand.isPresent()
+                ? findProductIdsByBrandId(brandId) : Collections.emptySet();
+
+        Set<Long> removedProductIds = new HashSet<>(currentProductIds);
+        removedProductIds.removeAll(productIds);
+        Set<Long> addedProductIds = new HashSet<>(productIds);
+        addedProductIds.removeAll(currentProductIds);
+
+        removeProductsFromBrand(brandId, removedProductIds);
+        addProductsToBrand(brandId, addedProductIds);
+
+        return brandJpaRepository.findWithProductListById(brandId)
                 .map(brandMapper::toBrand)
                 .orElseThrow(() -> new BrandBadRequestException("Error saving the brand"));
     }
@@ -51,10 +103,20 @@ public class BrandRepositoryImpl implements BrandRepository {
         brandJpaRepository.deleteByName(name);
     }
 
+    /**
+     * Finds the brands without their products, in a single query that stays the same size however many
+     * products the brands have.
+     *
+     * @param brandIds The brands' IDs.
+     * @return The brands that exist, in no particular order, with no product list.
+     */
     @Override
     public List<Brand> findAllById(List<Long> brandIds) {
+        if (brandIds == null || brandIds.isEmpty()) {
+            return Collections.emptyList();
+        }
         return brandJpaRepository.findAllById(brandIds).stream()
-                .map(brandMapper::toBrand)
+                .map(brandMapper::toBrandSummary)
                 .toList();
     }
 
@@ -64,4 +126,99 @@ public class BrandRepositoryImpl implements BrandRepository {
                 .map(brandMapper::toBrand)
                 .toList();
     }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> brandIds) {
+        if (brandIds == null || brandIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(brandJpaRepository.findExistingIds(brandIds));
+    }
+
+    /**
+     * Reads the IDs of the product's brands straight from the {@code product_brand} join table, without loading
+     * any brand.
+     *
+     * @param productId The product's ID.
+     * @return The IDs of the brands the product belongs to.
+     */
+    @Override
+    public Set<Long> findBrandIdsByProductId(Long productId) {
+        return new HashSet<>(brandJpaRepository.findBrandIdsByProductId(productId));
+    }
+
+    /**
+     * Adds the product to the brands with a single {@code INSERT ... SELECT} on the join table, whatever the
+     * number of products the brands already have. IDs of brands that do not exist are skipped.
+     *
+     * @param productId The product's ID.
+     * @param brandIds The IDs of brands the product does not belong to yet.
+     * @return The number of brands the product was added to.
+     */
+    @Override
+    public int addProductToBrands(Long productId, Collection<Long> brandIds) {
+        if (brandIds == null || brandIds.isEmpty()) {
+            return 0;
+        }
+        return brandJpaRepository.addProductToBrands(productId, brandIds);
+    }
+
+    /**
+     * Removes the product from the brands with a single {@code DELETE} on the join table.
+     *
+     * @param productId The product's ID.
+     * @param brandIds The IDs of the brands to remove the product from.
+     */
+    @Override
+    public void removeProductFromBrands(Long productId, Collection<Long> brandIds) {
+        if (brandIds == null || brandIds.isEmpty()) {
+            return;
+        }
+        brandJpaRepository.removeProductFromBrands(productId, brandIds);
+    }
+
+    /**
+     * Reads the IDs of the brand's products straight from the {@code product_brand} join table, without loading
+     * any product.
+     *
+     * @param brandId The brand's ID.
+     * @return The IDs of the products of the brand.
+     */
+    @Override
+    public Set<Long> findProductIdsByBrandId(Long brandId) {
+        return new HashSet<>(brandJpaRepository.findProductIdsByBrandId(brandId));
+    }
+
+    /**
+     * Adds the products to the brand with a single {@code INSERT ... SELECT} on the join table. IDs of products
+     * that do not exist or already belong to the brand are skipped. The persistence context is cleared
+     * afterwards, so a brand loaded before is read again with its new products.
+     *
+     * @param brandId The brand's ID.
+     * @param productIds The IDs of the products to add.
+     * @return The number of products added to the brand.
+     */
+    @Override
+    public int addProductsToBrand(Long brandId, Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return 0;
+        }
+        return brandJpaRepository.addProductsToBrand(brandId, productIds);
+    }
+
+    /**
+     * Removes the products from the brand with a single {@code DELETE} on the join table. The persistence
+     * context is cleared afterwards, like {@link #addProductsToBrand(Long, Collection)} does.
+     *
+     * @param brandId The brand's ID.
+     * @param productIds The IDs of the products to remove.
+     * @return The number of products removed from the brand.
+     */
+    @Override
+    public int removeProductsFromBrand(Long brandId, Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return 0;
+        }
+        return brandJpaRepository.removeProductsFromBrand(brandId, productIds);
+    }
 }
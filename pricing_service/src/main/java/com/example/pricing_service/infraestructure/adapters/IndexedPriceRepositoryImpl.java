@@ -0,0 +1,210 @@
+package com.example.pricing_service.infraestructure.adapters;
+
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceInterval;
+import com.example.pricing_service.domain.model.PriceLookup;
+import com.example.pricing_service.domain.port.PriceRepository;
+import com.example.pricing_service.infraestructure.entity.PriceEntity;
+import com.example.pricing_service.infraestructure.index.PriceIndexEntityListener;
+import com.example.pricing_service.infraestructure.index.PriceIndexLoadedEvent;
+import com.example.pricing_service.infraestructure.index.PriceIntervalIndex;
+import com.example.pricing_service.infraestructure.repository.PriceJpaRepository;
+import com.example.pricing_service.infraestructure.rest.mapper.PriceMapper;
+import com.example.pricing_service.infraestructure.snapshot.PriceSnapshotStore;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * {@link PriceRepository} that serves applicable-price lookups from the {@link PriceIntervalIndex}
+ * and delegates everything else to the database-backed {@link PriceRepositoryImpl}. Until the index is
+ * loaded, lookups are answered from the {@link PriceSnapshotStore} when one is configured.
+ *
+ * The index itself is kept up to date by the {@link PriceIndexEntityListener}.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "pricing.index", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IndexedPriceRepositoryImpl implements PriceRepository {
+
+    private final PriceRepositoryImpl priceRepositoryImpl;
+    private final PriceJpaRepository priceJpaRepository;
+    private final PriceMapper priceMapper;
+    private final PriceIntervalIndex priceIntervalIndex;
+    private final ObjectProvider<PriceSnapshotStore> priceSnapshotStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public IndexedPriceRepositoryImpl(PriceRepositoryImpl priceRepositoryImpl, PriceJpaRepository priceJpaRepository,
+                                      PriceMapper priceMapper, PriceIntervalIndex priceIntervalIndex,
+                                      ObjectProvider<PriceSnapshotStore> priceSnapshotStore,
+                                      ApplicationEventPublisher eventPublisher) {
+        this.priceRepositoryImpl = priceRepositoryImpl;
+        this.priceJpaRepository = priceJpaRepository;
+        this.priceMapper = priceMapper;
+        this.priceIntervalIndex = priceIntervalIndex;
+        this.priceSnapshotStore = priceSnapshotStore;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Loads every stored price into the index once the application has started, then stops serving from the
+     * startup snapshot and announces the index with a {@link PriceIndexLoadedEvent}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void loadIndex() {
+        try (Stream<PriceEntity> priceEntities = priceJpaRepository.streamAll()) {
+            priceIntervalIndex.load(priceEntities.map(priceMapper::toShallowPrice));
+        }
+        priceSnapshotStore.ifAvailable(PriceSnapshotStore::release);
+        eventPublisher.publishEvent(new PriceIndexLoadedEvent());
+    }
+
+    /**
+     * Retrieves the highest-priority price for a product and brand at a given date. While the index is still
+     * loading the startup snapshot answers when there is one, and the database otherwise.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param applicationDate The date for which the price is needed.
+     * @return An {@link Optional} containing the applicable {@link Price}, or empty if no price is found.
+     */
+    @Override
+    public Optional<Price> findApplicablePrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        if (!priceIntervalIndex.isReady()) {
+            PriceSnapshotStore snapshot = availableSnapshot();
+            return snapshot != null
+                    ? snapshot.findApplicablePrice(productId, brandId, applicationDate)
+                    : priceRepositoryImpl.findApplicablePrice(productId, brandId, applicationDate);
+        }
+        return priceIntervalIndex.findApplicablePrice(productId, brandId, applicationDate);
+    }
+
+    @Override
+    public Optional<PriceRequest> findApplicablePriceRequest(Long productId, Long brandId, LocalDateTime applicationDate) {
+        if (!priceIntervalIndex.isReady()) {
+            PriceSnapshotStore snapshot = availableSnapshot();
+            return snapshot != null
+                    ? snapshot.findApplicablePrice(productId, brandId, applicationDate).map(priceMapper::toPriceRequest)
+                    : priceRepositoryImpl.findApplicablePriceRequest(productId, brandId, applicationDate);
+        }
+        return priceIntervalIndex.findApplicablePrice(productId, brandId, applicationDate)
+                .map(priceMapper::toPriceRequest);
+    }
+
+    /**
+     * Resolves every lookup against the index in a single pass, falling back to the database while the index
+     * is still loading.
+     *
+     * @param lookups The (product, brand, date) tuples to resolve.
+     * @return One {@link Optional} per lookup, in the same order, empty when no price applies.
+     */
+    @Override
+    public List<Optional<Price>> findApplicablePrices(List<PriceLookup> lookups) {
+        if (!priceIntervalIndex.isReady()) {
+            PriceSnapshotStore snapshot = availableSnapshot();
+            if (snapshot == null) {
+                return priceRepositoryImpl.findApplicablePrices(lookups);
+            }
+            return lookups.stream()
+                    .map(lookup -> snapshot.findApplicablePrice(
+                            lookup.getProductId(), lookup.getBrandId(), lookup.getApplicationDate()))
+                    .toList();
+        }
+        return lookups.stream()
+                .map(lookup -> priceIntervalIndex.findApplicablePrice(
+                        lookup.getProductId(), lookup.getBrandId(), lookup.getApplicationDate()))
+                .toList();
+    }
+
+    @Override
+    public Stream<PriceRequest> streamApplicablePrices(Long brandId, LocalDateTime applicationDate) {
+        return priceRepositoryImpl.streamApplicablePrices(brandId, applicationDate);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findNextPriceBoundary(Long productId, Long brandId, LocalDateTime date) {
+        if (!priceIntervalIndex.isReady()) {
+            PriceSnapshotStore snapshot = availableSnapshot();
+            return snapshot != null
+                    ? snapshot.findNextBoundary(productId, brandId, date)
+                    : priceRepositoryImpl.findNextPriceBoundary(productId, brandId, date);
+        }
+        return priceIntervalIndex.findNextBoundary(productId, brandId, date);
+    }
+
+    /**
+     * Resolves the pair's effective prices over the window from its timeline in the index, or from the
+     * database while the index is still loading.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param from The start of the window, inclusive.
+     * @param to The end of the window, exclusive.
+     * @return The effective prices in chronological order, clipped to the window.
+     */
+    @Override
+    public List<PriceInterval> findPriceTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        if (!priceIntervalIndex.isReady()) {
+            return priceRepositoryImpl.findPriceTimeline(productId, brandId, from, to);
+        }
+        return priceIntervalIndex.findSegments(productId, brandId, from, to).stream()
+                .map(segment -> PriceInterval.builder()
+                        .segmentStart(segment.start())
+                        .segmentEnd(segment.end())
+                        .price(segment.price())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public Price savePrice(Price price) {
+        return priceRepositoryImpl.savePrice(price);
+    }
+
+    @Override
+    public List<Price> savePrices(List<Price> prices) {
+        return priceRepositoryImpl.savePrices(prices);
+    }
+
+    @Override
+    public Optional<Price> findPricetoDelete(Long brandId, Long productId, Integer priceList, LocalDateTime startDate, LocalDateTime endDate) {
+        return priceRepositoryImpl.findPricetoDelete(brandId, productId, priceList, startDate, endDate);
+    }
+
+    @Override
+    public void deletePrice(Price price) {
+        priceRepositoryImpl.deletePrice(price);
+    }
+
+    @Override
+    public List<Price> findAllById(List<Long> priceIds) {
+        return priceRepositoryImpl.findAllById(priceIds);
+    }
+
+    @Override
+    public Integer allocatePriceList(Long product, Long brand) {
+        return priceRepositoryImpl.allocatePriceList(product, brand);
+    }
+
+    @Override
+    public Integer allocatePriceLists(Long product, Long brand, int count) {
+        return priceRepositoryImpl.allocatePriceLists(product, brand, count);
+    }
+
+    private PriceSnapshotStore availableSnapshot() {
+        PriceSnapshotStore snapshot = priceSnapshotStore.getIfAvailable();
+        return snapshot != null && snapshot.isAvailable() ? snapshot : null;
+    }
+}
@@ -1,32 +1,51 @@
 package com.example.pricing_service.infraestructure.adapters;
 
+import com.example.pricing_service.domain.dto.request.PriceRequest;
 import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceInterval;
+import com.example.pricing_service.domain.model.PriceLookup;
 import com.example.pricing_service.domain.port.PriceRepository;
+import com.example.pricing_service.infraestructure.cache.PricedPairFilter;
 import com.example.pricing_service.infraestructure.commons.exceptions.PriceBadRequestException;
 import com.example.pricing_service.infraestructure.entity.PriceEntity;
 import com.example.pricing_service.infraestructure.repository.PriceJpaRepository;
+import com.example.pricing_service.infraestructure.repository.PriceListCounterJpaRepository;
 import com.example.pricing_service.infraestructure.rest.mapper.PriceMapper;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Component
 public class PriceRepositoryImpl implements PriceRepository {
 
     private final PriceJpaRepository priceJpaRepository;
     private final PriceMapper priceMapper;
+    private final PriceSegmentStore priceSegmentStore;
+    private final PriceListCounterJpaRepository priceListCounterJpaRepository;
+    private final PricedPairFilter pricedPairFilter;
 
-    public PriceRepositoryImpl(PriceJpaRepository priceJpaRepository, PriceMapper priceMapper) {
+    public PriceRepositoryImpl(PriceJpaRepository priceJpaRepository, PriceMapper priceMapper, PriceSegmentStore priceSegmentStore,
+                               PriceListCounterJpaRepository priceListCounterJpaRepository, PricedPairFilter pricedPairFilter) {
         this.priceJpaRepository = priceJpaRepository;
         this.priceMapper = priceMapper;
+        this.priceSegmentStore = priceSegmentStore;
+        this.priceListCounterJpaRepository = priceListCounterJpaRepository;
+        this.pricedPairFilter = pricedPairFilter;
     }
 
     /**
      * Retrieves the highest-priority price for a product and brand at a given date.
      *
+     * The lookup reads the precomputed {@code PRICE_SEGMENTS} table, where priorities are already resolved,
+     * so it is a single range probe with no sorting. Pairs the {@link PricedPairFilter} knows to have no price
+     * are answered without querying.
+     *
      * @param productId The product's ID.
      * @param brandId The brand's ID.
      * @param applicationDate The date for which the price is needed.
@@ -34,9 +53,105 @@ public class PriceRepositoryImpl implements PriceRepository {
      */
     @Override
     public Optional<Price> findApplicablePrice(Long productId, Long brandId, LocalDateTime applicationDate) {
-        return priceJpaRepository.findFirstByProductIdAndBrandIdAndStartDateBeforeAndEndDateAfterOrderByPriorityDesc(
-                        productId, brandId, applicationDate, applicationDate)
-                .map(priceMapper::toPrice);
+        if (!pricedPairFilter.mightHavePrice(productId, brandId)) {
+            return Optional.empty();
+        }
+        return priceSegmentStore.findApplicablePrice(productId, brandId, applicationDate);
+    }
+
+    /**
+     * Retrieves the applicable price as a flat {@link PriceRequest} projection, a single query that loads no
+     * entity and skips the entity to domain to DTO mapping chain.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param applicationDate The date for which the price is needed.
+     * @return An {@link Optional} containing the applicable {@link PriceRequest}, or empty if no price is found.
+     */
+    @Override
+    public Optional<PriceRequest> findApplicablePriceRequest(Long productId, Long brandId, LocalDateTime applicationDate) {
+        if (!pricedPairFilter.mightHavePrice(productId, brandId)) {
+            return Optional.empty();
+        }
+        return priceSegmentStore.findApplicablePriceRequest(productId, brandId, applicationDate);
+    }
+
+    /**
+     * Retrieves the applicable price of many (product, brand, date) tuples at once from {@code PRICE_SEGMENTS}.
+     * Only the tuples whose pair may have a price are queried.
+     *
+     * @param lookups The tuples to resolve.
+     * @return One {@link Optional} per lookup, in the same order, empty when no price applies.
+     */
+    @Override
+    public List<Optional<Price>> findApplicablePrices(List<PriceLookup> lookups) {
+        boolean[] priced = new boolean[lookups.size()];
+        List<PriceLookup> candidates = new ArrayList<>(lookups.size());
+        for (int i = 0; i < lookups.size(); i++) {
+            PriceLookup lookup = lookups.get(i);
+            priced[i] = pricedPairFilter.mightHavePrice(lookup.getProductId(), lookup.getBrandId());
+            if (priced[i]) {
+                candidates.add(lookup);
+            }
+        }
+        if (candidates.size() == lookups.size()) {
+            return priceSegmentStore.findApplicablePrices(lookups);
+        }
+
+        Iterator<Optional<Price>> found = priceSegmentStore.findApplicablePrices(candidates).iterator();
+        List<Optional<Price>> prices = new ArrayList<>(lookups.size());
+        for (boolean candidate : priced) {
+            prices.add(candidate ? found.next() : Optional.empty());
+        }
+        return prices;
+    }
+
+    /**
+     * Streams the applicable price of every product of a brand at the given date from {@code PRICE_SEGMENTS},
+     * through a server-side cursor so the result set is never held in memory.
+     *
+     * @param brandId The brand's ID.
+     * @param applicationDate The date for which the prices are needed.
+     * @return A {@link Stream} of {@link PriceRequest} ordered by product ID, to be closed by the caller.
+     */
+    @Override
+    public Stream<PriceRequest> streamApplicablePrices(Long brandId, LocalDateTime applicationDate) {
+        return priceSegmentStore.streamApplicablePriceRequests(brandId, applicationDate);
+    }
+
+    /**
+     * Finds the first start or end date of the product and brand's prices falling at or after the given date.
+     * The applicable price cannot change between {@code date} and that boundary.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param date The date to search from.
+     * @return An {@link Optional} containing the next boundary, or empty if no price starts or ends from then on.
+     */
+    @Override
+    public Optional<LocalDateTime> findNextPriceBoundary(Long productId, Long brandId, LocalDateTime date) {
+        if (!pricedPairFilter.mightHavePrice(productId, brandId)) {
+            return Optional.empty();
+        }
+        return priceJpaRepository.findNextBoundary(productId, brandId, date);
+    }
+
+    /**
+     * Retrieves every effective price of the product and brand over {@code [from, to)} from
+     * {@code PRICE_SEGMENTS}, replacing one point lookup per instant with a single range read.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param from The start of the window, inclusive.
+     * @param to The end of the window, exclusive.
+     * @return The effective prices in chronological order, clipped to the window.
+     */
+    @Override
+    public List<PriceInterval> findPriceTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        if (!pricedPairFilter.mightHavePrice(productId, brandId)) {
+            return Collections.emptyList();
+        }
+        return priceSegmentStore.findTimeline(productId, brandId, from, to);
     }
 
     /**
@@ -45,7 +160,8 @@ public class PriceRepositoryImpl implements PriceRepository {
      * The method transforms the provided {@link Price} domain model into a {@link PriceEntity}
      * suitable for persistence using JPA. After saving the entity, it maps the saved
      * {@link PriceEntity} back to the domain model {@link Price}. If the saving process fails,
-     * it throws a {@link PriceBadRequestException}.
+     * it throws a {@link PriceBadRequestException}. The segments of the price's (product, brand) pair
+     * are rebuilt in the same transaction.
      *
      * @param price The {@link Price} domain object to be saved.
      * @return The saved {@link Price} after persistence.
@@ -56,15 +172,49 @@ public class PriceRepositoryImpl implements PriceRepository {
         return Optional.ofNullable(price)
                 .map(priceMapper::toPriceEntity)
                 .map(priceJpaRepository::save)
-                .map(priceMapper::toPrice)
+                .map(priceEntity -> {
+                    priceSegmentStore.refresh(priceEntity.getProduct().getId(), priceEntity.getBrand().getId());
+                    return priceEntity;
+                })
+                .map(priceMapper::toShallowPrice)
                 .orElseThrow(() -> new PriceBadRequestException("Error saving the price"));
     }
 
+    /**
+     * Saves many prices in one go.
+     *
+     * The inserts are sent in JDBC batches, with IDs taken from the pooled {@code prices_seq} sequence, and
+     * the segments of every touched (product, brand) pair are rebuilt once after all of them are written.
+     *
+     * @param prices The {@link Price} domain objects to be saved.
+     * @return The saved prices, in the same order.
+     */
+    @Override
+    public List<Price> savePrices(List<Price> prices) {
+        if (prices == null || prices.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<PriceEntity> priceEntities = priceJpaRepository.saveAll(prices.stream()
+                .map(priceMapper::toPriceEntity)
+                .toList());
+        priceJpaRepository.flush();
+
+        priceEntities.stream()
+                .map(priceEntity -> new PairKey(priceEntity.getProduct().getId(), priceEntity.getBrand().getId()))
+                .distinct()
+                .forEach(pair -> priceSegmentStore.refresh(pair.productId(), pair.brandId()));
+
+        return priceEntities.stream()
+                .map(priceMapper::toShallowPrice)
+                .toList();
+    }
+
     @Override
     public Optional<Price> findPricetoDelete(Long brandId, Long productId, Integer priceList, LocalDateTime startDate, LocalDateTime endDate) {
         return priceJpaRepository.findByBrandIdAndProductIdAndPriceListAndStartDateAndEndDate(
                 brandId, productId, priceList, startDate, endDate)
-                .map(priceMapper::toPrice);
+                .map(priceMapper::toShallowPrice);
     }
 
     @Override
@@ -72,7 +222,10 @@ public class PriceRepositoryImpl implements PriceRepository {
         Optional.ofNullable(price)
                 .map(priceMapper::toPriceEntity)
                 .ifPresentOrElse(
-                        priceJpaRepository::delete,
+                        priceEntity -> {
+                            priceJpaRepository.delete(priceEntity);
+                            priceSegmentStore.refresh(priceEntity.getProduct().getId(), priceEntity.getBrand().getId());
+                        },
                         () -> {
                             throw new PriceBadRequestException("Error deleting the price");
                         }
@@ -97,13 +250,42 @@ public class PriceRepositoryImpl implements PriceRepository {
         List<PriceEntity> priceEntities = priceJpaRepository.findAllById(priceIds);
 
         return priceEntities.stream()
-                .map(priceMapper::toPrice)
+                .map(priceMapper::toShallowPrice)
                 .toList();
     }
 
+    /**
+     * Hands out the next price list number of a product and brand.
+     *
+     * The pair's counter row is advanced by a single upsert, which never reads the pair's prices and locks the
+     * row until the surrounding transaction ends, so concurrent creates of the same pair get distinct numbers
+     * and a rolled back create releases nothing but a gap.
+     *
+     * @param product The product's ID.
+     * @param brand The brand's ID.
+     * @return The allocated price list number, starting at 1 for a pair without prices.
+     */
+    @Override
+    public Integer allocatePriceList(Long product, Long brand) {
+        return allocatePriceLists(product, brand, 1);
+    }
+
+    /**
+     * Hands out {@code count} consecutive price list numbers of a product and brand with a single upsert.
+     *
+     * @param product The product's ID.
+     * @param brand The brand's ID.
+     * @param count How many numbers to allocate, at least 1.
+     * @return The first number of the allocated block.
+     */
     @Override
-    public Integer findMaxPriceListByProductAndBrand(Long product, Long brand) {
-        return priceJpaRepository.findMaxPriceListByProductAndBrand(product, brand);
+    public Integer allocatePriceLists(Long product, Long brand, int count) {
+        if (count < 1) {
+            throw new PriceBadRequestException("Error allocating price lists");
+        }
+        return priceListCounterJpaRepository.allocateNextPriceLists(product, brand, count) - count + 1;
     }
 
+    private record PairKey(Long productId, Long brandId) {
+    }
 }
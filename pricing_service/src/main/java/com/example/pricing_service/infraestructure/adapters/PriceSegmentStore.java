@@ -0,0 +1,223 @@
+package com.example.pricing_service.infraestructure.adapters;
+
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceInterval;
+import com.example.pricing_service.domain.model.PriceLookup;
+import com.example.pricing_service.infraestructure.entity.PriceSegmentEntity;
+import com.example.pricing_service.infraestructure.index.PriceTimeline;
+import com.example.pricing_service.infraestructure.repository.PriceJpaRepository;
+import com.example.pricing_service.infraestructure.repository.PriceSegmentJpaRepository;
+import com.example.pricing_service.infraestructure.repository.ProductJpaRepository;
+import com.example.pricing_service.infraestructure.rest.mapper.BrandMapper;
+import com.example.pricing_service.infraestructure.rest.mapper.PriceMapper;
+import com.example.pricing_service.infraestructure.rest.mapper.ProductMapper;
+import jakarta.transaction.Transactional;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the {@code PRICE_SEGMENTS} table, the materialized and already priority-resolved view of
+ * {@code PRICES}, and answers applicable-price lookups from it with a single range probe.
+ */
+@Component
+public class PriceSegmentStore {
+
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final PriceSegmentJpaRepository priceSegmentJpaRepository;
+    private final PriceJpaRepository priceJpaRepository;
+    private final ProductJpaRepository productJpaRepository;
+    private final PriceMapper priceMapper;
+    private final BrandMapper brandMapper;
+    private final ProductMapper productMapper;
+
+    public PriceSegmentStore(PriceSegmentJpaRepository priceSegmentJpaRepository, PriceJpaRepository priceJpaRepository,
+                             ProductJpaRepository productJpaRepository, PriceMapper priceMapper,
+                             BrandMapper brandMapper, ProductMapper productMapper) {
+        this.priceSegmentJpaRepository = priceSegmentJpaRepository;
+        this.priceJpaRepository = priceJpaRepository;
+        this.productJpaRepository = productJpaRepository;
+        this.priceMapper = priceMapper;
+        this.brandMapper = brandMapper;
+        this.productMapper = productMapper;
+    }
+
+    /**
+     * Retrieves the price applicable at the given date from the segment covering it.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param applicationDate The date for which the price is needed.
+     * @return An {@link Optional} containing the applicable {@link Price}, or empty if no segment covers the date.
+     */
+    public Optional<Price> findApplicablePrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        return priceSegmentJpaRepository.findFirstByProductIdAndBrandIdAndSegmentStartLessThanEqualAndSegmentEndGreaterThan(
+                        productId, brandId, applicationDate, applicationDate)
+                .map(priceMapper::segmentToPrice);
+    }
+
+    /**
+     * Reads the seven columns of the applicable price straight into a {@link PriceRequest}, without loading
+     * any entity.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param applicationDate The date for which the price is needed.
+     * @return An {@link Optional} containing the applicable {@link PriceRequest}, or empty if no segment covers the date.
+     */
+    public Optional<PriceRequest> findApplicablePriceRequest(Long productId, Long brandId, LocalDateTime applicationDate) {
+        return priceSegmentJpaRepository.findApplicablePriceRequest(productId, brandId, applicationDate);
+    }
+
+    /**
+     * Streams the applicable price of every product of a brand at the given date, ordered by product ID.
+     *
+     * The segments already hold the winning price of each product, so this is a plain range scan read through
+     * a cursor. The stream must be consumed and closed inside a transaction.
+     *
+     * @param brandId The brand's ID.
+     * @param applicationDate The date for which the prices are needed.
+     * @return A {@link Stream} of {@link PriceRequest}, one per product with a price at that date.
+     */
+    public Stream<PriceRequest> streamApplicablePriceRequests(Long brandId, LocalDateTime applicationDate) {
+        return priceSegmentJpaRepository.streamApplicablePriceRequests(brandId, applicationDate);
+    }
+
+    /**
+     * Retrieves the applicable price of every lookup with one query per chunk of distinct (product, brand) pairs.
+     *
+     * The segments of exactly the requested pairs over the requested time span are read at once and each lookup
+     * is then resolved in memory by a binary search over its pair's segments.
+     *
+     * @param lookups The (product, brand, date) tuples to resolve.
+     * @return One {@link Optional} per lookup, in the same order, empty when no price applies.
+     */
+    public List<Optional<Price>> findApplicablePrices(List<PriceLookup> lookups) {
+        if (lookups.isEmpty()) {
+            return List.of();
+        }
+
+        List<PairKey> pairs = lookups.stream()
+                .map(lookup -> new PairKey(lookup.getProductId(), lookup.getBrandId()))
+                .distinct()
+                .toList();
+        LocalDateTime from = lookups.stream().map(PriceLookup::getApplicationDate).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = lookups.stream().map(PriceLookup::getApplicationDate).max(Comparator.naturalOrder()).orElseThrow();
+
+        Map<PairKey, List<PriceSegmentEntity>> segmentsByPair = new HashMap<>();
+        for (int i = 0; i < pairs.size(); i += LOOKUP_CHUNK_SIZE) {
+            List<PairKey> chunk = pairs.subList(i, Math.min(i + LOOKUP_CHUNK_SIZE, pairs.size()));
+            priceSegmentJpaRepository.findCoveringPairs(chunk.stream().map(PairKey::productId).toList(),
+                    chunk.stream().map(PairKey::brandId).toList(), from, to).forEach(segment ->
+                    segmentsByPair.computeIfAbsent(new PairKey(segment.getProduct().getId(), segment.getBrand().getId()),
+                            key -> new ArrayList<>()).add(segment));
+        }
+        segmentsByPair.values().forEach(segments -> segments.sort(Comparator.comparing(PriceSegmentEntity::getSegmentStart)));
+
+        return lookups.stream()
+                .map(lookup -> findCovering(
+                        segmentsByPair.getOrDefault(new PairKey(lookup.getProductId(), lookup.getBrandId()), List.of()),
+                        lookup.getApplicationDate())
+                        .map(priceMapper::segmentToPrice))
+                .toList();
+    }
+
+    /**
+     * Reads the pair's segments overlapping {@code [from, to)} with one range probe, the first and last ones
+     * clipped to the window. The segments are already priority-resolved, so no further pass is needed.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param from The start of the window, inclusive.
+     * @param to The end of the window, exclusive.
+     * @return The effective prices in chronological order.
+     */
+    public List<PriceInterval> findTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        return priceSegmentJpaRepository.findOverlapping(productId, brandId, from, to).stream()
+                .map(segment -> PriceInterval.builder()
+                        .segmentStart(segment.getSegmentStart().isBefore(from) ? from : segment.getSegmentStart())
+                        .segmentEnd(segment.getSegmentEnd().isAfter(to) ? to : segment.getSegmentEnd())
+                        .price(priceMapper.segmentToPrice(segment))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Recomputes the segments of a (product, brand) pair from its current prices.
+     *
+     * Must run in the same transaction as the price write. The product row is locked first so that
+     * concurrent writes to the same pair rebuild its segments one after the other.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     */
+    public void refresh(Long productId, Long brandId) {
+        productJpaRepository.findForUpdateById(productId);
+
+        List<Price> prices = priceJpaRepository.findByProductIdAndBrandId(productId, brandId).stream()
+                .map(priceMapper::toShallowPrice)
+                .toList();
+
+        priceSegmentJpaRepository.deleteByProductIdAndBrandId(productId, brandId);
+        priceSegmentJpaRepository.saveAll(PriceTimeline.of(prices).getSegments().stream()
+                .map(segment -> toSegmentEntity(productId, brandId, segment))
+                .toList());
+    }
+
+    /**
+     * Builds the segments of every pair when the table is empty but prices exist, e.g. on a database
+     * populated before segments were introduced.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (priceSegmentJpaRepository.count() > 0 || priceJpaRepository.count() == 0) {
+            return;
+        }
+        priceJpaRepository.findProductBrandPairs()
+                .forEach(pair -> refresh((Long) pair[0], (Long) pair[1]));
+    }
+
+    private static Optional<PriceSegmentEntity> findCovering(List<PriceSegmentEntity> segments, LocalDateTime date) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            PriceSegmentEntity segment = segments.get(mid);
+            if (segment.getSegmentStart().isAfter(date)) {
+                high = mid - 1;
+            } else if (!segment.getSegmentEnd().isAfter(date)) {
+                low = mid + 1;
+            } else {
+                return Optional.of(segment);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private PriceSegmentEntity toSegmentEntity(Long productId, Long brandId, PriceTimeline.Segment segment) {
+        Price price = segment.price();
+        return PriceSegmentEntity.builder()
+                .product(productMapper.map(productId))
+                .brand(brandMapper.map(brandId))
+                .segmentStart(segment.start())
+                .segmentEnd(segment.end())
+                .priceId(price.getId())
+                .priceList(price.getPriceList())
+                .startDate(price.getStartDate())
+                .endDate(price.getEndDate())
+                .priority(price.getPriority())
+                .price(price.getPrice())
+                .currency(price.getCurrency())
+                .build();
+    }
+
+    private record PairKey(Long productId, Long brandId) {
+    }
+}
@@ -2,56 +2,169 @@ package com.example.pricing_service.infraestructure.adapters;
 
 import com.example.pricing_service.domain.model.Product;
 import com.example.pricing_service.domain.port.ProductRepository;
+import com.example.pricing_service.infraestructure.cache.ProductFingerprint;
+import com.example.pricing_service.infraestructure.cache.ProductFingerprintFilter;
+import com.example.pricing_service.infraestructure.commons.exceptions.ProductAlreadyExistsException;
 import com.example.pricing_service.infraestructure.commons.exceptions.ProductBadRequestException;
+import com.example.pricing_service.infraestructure.entity.ProductEntity;
 import com.example.pricing_service.infraestructure.repository.ProductJpaRepository;
 import com.example.pricing_service.infraestructure.rest.mapper.BrandMapper;
 import com.example.pricing_service.infraestructure.rest.mapper.ProductMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRODUCT_ALREADY_EXISTS;
 
 @Component
 public class ProductRepositoryImpl implements ProductRepository {
     private final ProductJpaRepository productJpaRepository;
     private final ProductMapper productMapper;
     private final BrandMapper brandMapper;
+    private final ProductFingerprintFilter productFingerprintFilter;
 
-    public ProductRepositoryImpl(ProductJpaRepository productJpaRepository, ProductMapper productMapper, BrandMapper brandMapper) {
+    public ProductRepositoryImpl(ProductJpaRepository productJpaRepository, ProductMapper productMapper, BrandMapper brandMapper,
+                                 ProductFingerprintFilter productFingerprintFilter) {
         this.productJpaRepository = productJpaRepository;
         this.productMapper = productMapper;
         this.brandMapper = brandMapper;
+        this.productFingerprintFilter = productFingerprintFilter;
     }
 
+    /**
+     * Finds the product with its prices, fetched along with it in a single query.
+     *
+     * @param id The product's ID.
+     * @return The product, or empty if it does not exist.
+     */
     @Override
     public Optional<Product> findProductById(String id) {
-        return productJpaRepository.findById(Long.valueOf(id))
+        return productJpaRepository.findWithPriceListById(Long.valueOf(id))
                 .map(productMapper::toProduct);
     }
 
+    /**
+     * Saves the product. A stored product whose name, user and category are unchanged keeps its fingerprint;
+     * changed content is given a free candidate fingerprint as a new product is.
+     *
+     * @param product The product to save.
+     * @return The saved product.
+     * @throws ProductAlreadyExistsException if a different product has the same name, user and category.
+     */
     @Override
     public Product saveProduct(Product product) {
-        return Optional.ofNullable(product)
+        ProductEntity productEntity = Optional.ofNullable(product)
                 .map(productMapper::toProductEntity)
-                .map(productJpaRepository::save)
-                .map(productMapper::toProduct)
                 .orElseThrow(() -> new ProductBadRequestException("Error saving the product"));
+        Optional<ProductEntity> unchanged = Optional.ofNullable(productEntity.getId())
+                .flatMap(productJpaRepository::findById)
+                .filter(productEntity::hasSameContent);
+        if (unchanged.isPresent()) {
+            productEntity.setFingerprint(unchanged.get().getFingerprint());
+        } else if (!assignFingerprint(productEntity)) {
+            throw new ProductAlreadyExistsException(PRODUCT_ALREADY_EXISTS);
+        }
+        return store(productEntity);
     }
 
+    /**
+     * Creates the product in the first of its candidate fingerprints not taken by a different product.
+     *
+     * @param product The product to create.
+     * @return The stored product, or empty if a product with the same name, user and category exists.
+     */
     @Override
-    public void deleteById(long id) {
-        productJpaRepository.deleteById(id);
+    public Optional<Product> saveNewProduct(Product product) {
+        ProductEntity productEntity = Optional.ofNullable(product)
+                .map(productMapper::toProductEntity)
+                .orElseThrow(() -> new ProductBadRequestException("Error saving the product"));
+        if (!assignFingerprint(productEntity)) {
+            return Optional.empty();
+        }
+        return Optional.of(store(productEntity));
+    }
+
+    /**
+     * Gives the product the first of its candidate fingerprints not taken by a different product. When the
+     * {@link ProductFingerprintFilter} tells that none of the candidates is stored, no product can have the same
+     * content and the product takes the first one right away; otherwise the stored products with any of the
+     * candidates are read in a single query and compared field by field, so a fingerprint collision never blocks
+     * a product.
+     *
+     * @param productEntity The product to store, whose own row is not a duplicate of it.
+     * @return {@code false} if a different product has the same name, user and category.
+     */
+    private boolean assignFingerprint(ProductEntity productEntity) {
+        long[] candidates = ProductFingerprint.candidates(productEntity.getName(), productEntity.getUserId(),
+                productEntity.getCategory());
+        long fingerprint = candidates[0];
+        if (productFingerprintFilter.mightContainAny(candidates)) {
+            List<ProductEntity> stored = productJpaRepository.findByFingerprints(
+                    Arrays.stream(candidates).boxed().toList()).stream()
+                    .filter(other -> !other.equals(productEntity))
+                    .toList();
+            if (stored.stream().anyMatch(productEntity::hasSameContent)) {
+                return false;
+            }
+            Set<Long> taken = stored.stream().map(ProductEntity::getFingerprint).collect(Collectors.toSet());
+            fingerprint = Arrays.stream(candidates)
+                    .filter(candidate -> !taken.contains(candidate))
+                    .findFirst()
+                    .orElseThrow(() -> new ProductBadRequestException("Error saving the product"));
+        }
+        productEntity.setFingerprint(fingerprint);
+        return true;
+    }
+
+    /**
+     * Writes the product right away, so a concurrent write of the same content that took the same fingerprint
+     * fails on the unique index here rather than at commit.
+     */
+    private Product store(ProductEntity productEntity) {
+        ProductEntity saved;
+        try {
+            saved = productJpaRepository.saveAndFlush(productEntity);
+        } catch (DataIntegrityViolationException e) {
+            throw new ProductAlreadyExistsException(PRODUCT_ALREADY_EXISTS);
+        }
+        productFingerprintFilter.mark(saved.getFingerprint());
+        return productMapper.toProduct(saved);
     }
 
     @Override
-    public boolean existsByHashCode(int hashCode) {
-        return productJpaRepository.existsByHashCode(hashCode);
+    public void deleteById(long id) {
+        productJpaRepository.deleteById(id);
     }
 
+    /**
+     * Finds the products with their prices, all fetched in a single query.
+     *
+     * @param productIds The products' IDs.
+     * @return The products that exist, in no particular order.
+     */
     @Override
     public List<Product> findAllById(List<Long> productIds) {
-        return productJpaRepository.findAllById(productIds).stream()
+        if (productIds == null || productIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return productJpaRepository.findWithPriceListByIdIn(productIds).stream()
                 .map(productMapper::toProduct)
                 .toList();
     }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(productJpaRepository.findExistingIds(productIds));
+    }
 }
@@ -0,0 +1,245 @@
+package com.example.pricing_service.infraestructure.cache;
+
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.domain.port.PriceRepository;
+import com.example.pricing_service.infraestructure.index.PriceIndexLoadedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of applicable prices keyed by (productId, brandId).
+ *
+ * Each entry remembers the date it was loaded for and the next start or end date of the pair's prices after it.
+ * The applicable price cannot change in between, so the entry answers every request falling in that window and
+ * expires exactly when the wall clock reaches the boundary: a long-running base price stays cached for months
+ * while a flash sale still starts and ends on time. Requests outside the window reload the entry.
+ *
+ * The cache is bounded by an estimate of the bytes held by its entries, and a write to a pair drops its entry.
+ * Prices are loaded outside the cache's locks, and a loaded entry is only stored if nothing was invalidated while
+ * it was read, so a load racing with a write never caches the price the write replaced.
+ *
+ * Hit, miss and eviction counts are published to Micrometer under the {@code applicablePrices} cache name. A
+ * lookup only counts as a hit when the pair's entry covers its date: one finding the entry for another window
+ * loads the price and counts as a miss.
+ */
+@Component
+public class ApplicablePriceCache {
+
+    static final String CACHE_NAME = "applicablePrices";
+
+    /**
+     * Rough footprint of a cached entry: key, value, the dates it holds and the cache's own node.
+     */
+    private static final int ENTRY_BASE_WEIGHT = 256;
+
+    private final Cache<PairKey, Entry> cache;
+    private final WindowStatsCounter stats = new WindowStatsCounter();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final PriceRepository priceRepository;
+    private final Clock clock;
+
+    @Autowired
+    public ApplicablePriceCache(@Value("${pricing.cache.maximum-weight:16777216}") long maximumWeight,
+                                PriceRepository priceRepository, MeterRegistry meterRegistry) {
+        this(maximumWeight, priceRepository, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    public ApplicablePriceCache(long maximumWeight, PriceRepository priceRepository, MeterRegistry meterRegistry,
+                                Clock clock) {
+        this.priceRepository = priceRepository;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((PairKey key, Entry entry) -> entry.weight())
+                .expireAfter(new UntilNextBoundary())
+                .ticker(() -> clock.millis() * 1_000_000L)
+                .recordStats(() -> stats)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached price of the pair when its entry covers {@code applicationDate}, loading it otherwise.
+     *
+     * Exceptions thrown by the loader are propagated and nothing is cached.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param applicationDate The date for which the price is needed.
+     * @param loader Computes the price when it is not cached.
+     * @return The applicable {@link PriceRequest}.
+     */
+    public PriceRequest get(Long productId, Long brandId, LocalDateTime applicationDate, Supplier<PriceRequest> loader) {
+        return find(productId, brandId, applicationDate, () -> Optional.of(loader.get())).orElseThrow();
+    }
+
+    /**
+     * Same as {@link #get(Long, Long, LocalDateTime, Supplier)} for a loader that reports a missing price as an
+     * empty result. Missing prices are not cached.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param applicationDate The date for which the price is needed.
+     * @param loader Finds the price when it is not cached.
+     * @return An {@link Optional} containing the applicable {@link PriceRequest}, or empty if there is none.
+     */
+    public Optional<PriceRequest> find(Long productId, Long brandId, LocalDateTime applicationDate,
+                                       Supplier<Optional<PriceRequest>> loader) {
+        PairKey key = new PairKey(productId, brandId);
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null && cached.covers(applicationDate)) {
+            stats.recordWindowHit();
+            return Optional.of(cached.value());
+        }
+        stats.recordWindowMiss();
+        long invalidationsBeforeLoad = invalidations.get();
+        Optional<PriceRequest> value = loader.get();
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+        LocalDateTime validUntil = priceRepository.findNextPriceBoundary(productId, brandId, applicationDate)
+                .orElse(LocalDateTime.MAX);
+        Entry loaded = new Entry(value.get(), applicationDate, validUntil);
+        cache.asMap().compute(key, (k, current) ->
+                invalidations.get() == invalidationsBeforeLoad ? loaded : current);
+        return value;
+    }
+
+    /**
+     * Drops the cached entry of the given (productId, brandId) pair.
+     */
+    public void invalidate(Long productId, Long brandId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(new PairKey(productId, brandId));
+    }
+
+    /**
+     * Drops every cached entry once the price index is loaded, since entries cached before may have been read
+     * from the startup snapshot.
+     */
+    @EventListener(PriceIndexLoadedEvent.class)
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    record PairKey(Long productId, Long brandId) {
+    }
+
+    /**
+     * A price known to apply from {@code validFrom} up to, but excluding, {@code validUntil}. When the load date
+     * is itself a boundary the window is that single instant.
+     */
+    record Entry(PriceRequest value, LocalDateTime validFrom, LocalDateTime validUntil) {
+
+        boolean covers(LocalDateTime date) {
+            return date.equals(validFrom) || (date.isAfter(validFrom) && date.isBefore(validUntil));
+        }
+
+        int weight() {
+            String currency = value.getCurrency();
+            return ENTRY_BASE_WEIGHT + (currency == null ? 0 : currency.length() * 2);
+        }
+    }
+
+    /**
+     * Counts hits and misses by whether the pair's entry covers the requested date, which Caffeine cannot tell:
+     * the hits and misses it reports for finding an entry at all are ignored. Everything else is recorded as
+     * Caffeine reports it.
+     */
+    private static final class WindowStatsCounter implements StatsCounter {
+        private final ConcurrentStatsCounter delegate = new ConcurrentStatsCounter();
+
+        void recordWindowHit() {
+            delegate.recordHits(1);
+        }
+
+        void recordWindowMiss() {
+            delegate.recordMisses(1);
+        }
+
+        @Override
+        public void recordHits(int count) {
+        }
+
+        @Override
+        public void recordMisses(int count) {
+        }
+
+        @Override
+        public void recordLoadSuccess(long loadTime) {
+            delegate.recordLoadSuccess(loadTime);
+        }
+
+        @Override
+        public void recordLoadFailure(long loadTime) {
+            delegate.recordLoadFailure(loadTime);
+        }
+
+        @Override
+        public void recordEviction(int weight, RemovalCause cause) {
+            delegate.recordEviction(weight, cause);
+        }
+
+        @Override
+        public CacheStats snapshot() {
+            return delegate.snapshot();
+        }
+    }
+
+    /**
+     * Expires an entry when the wall clock reaches the end of its window. Windows that already ended were loaded
+     * for past dates and stay valid until the pair is written or the entry is evicted.
+     */
+    private class UntilNextBoundary implements Expiry<PairKey, Entry> {
+
+        @Override
+        public long expireAfterCreate(PairKey key, Entry entry, long currentTime) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            if (!entry.validUntil().isAfter(now)) {
+                return Long.MAX_VALUE;
+            }
+            try {
+                return Duration.between(now, entry.validUntil()).toNanos();
+            } catch (ArithmeticException e) {
+                return Long.MAX_VALUE;
+            }
+        }
+
+        @Override
+        public long expireAfterUpdate(PairKey key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(PairKey key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.pricing_service.infraestructure.cache;
+
+import com.example.pricing_service.infraestructure.entity.PriceEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidates the {@link ApplicablePriceCache} entries of the (product, brand) pair touched by a write to
+ * {@link PriceEntity}, covering created and deleted prices as well as removals cascaded from a deleted product.
+ * A price moved to another pair invalidates the pair it leaves too.
+ *
+ * It is declared after the index listener on the entity, so its after-commit callback runs once the index
+ * already holds the new prices and a reload can never pick up the previous ones.
+ */
+@Component
+public class ApplicablePriceCacheEntityListener {
+
+    private final ObjectProvider<ApplicablePriceCache> applicablePriceCache;
+
+    /**
+     * The cache is looked up lazily: it reads through the price repository, which needs the entity manager
+     * factory this listener is registered with.
+     */
+    public ApplicablePriceCacheEntityListener(ObjectProvider<ApplicablePriceCache> applicablePriceCache) {
+        this.applicablePriceCache = applicablePriceCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(PriceEntity priceEntity) {
+        Long productId = priceEntity.getProduct().getId();
+        Long brandId = priceEntity.getBrand().getId();
+        afterCommit(() -> applicablePriceCache.getObject().invalidate(productId, brandId));
+        if (priceEntity.isMovingPair()) {
+            Long storedProductId = priceEntity.getStoredProductId();
+            Long storedBrandId = priceEntity.getStoredBrandId();
+            afterCommit(() -> applicablePriceCache.getObject().invalidate(storedProductId, storedBrandId));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
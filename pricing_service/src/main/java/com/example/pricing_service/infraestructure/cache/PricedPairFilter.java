@@ -0,0 +1,112 @@
+package com.example.pricing_service.infraestructure.cache;
+
+import com.example.pricing_service.infraestructure.repository.PriceJpaRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Negative cache of the (product, brand) pairs that have no price at all, so lookups for them are answered
+ * without querying the database.
+ *
+ * Each brand holds a bitmap of the IDs of its priced products, a bit per product ID. Product IDs are allocated
+ * sequentially, which keeps the bitmaps dense. The bitmaps are a {@link RebuildableFilter}: read once the
+ * application has started, rebuilt on a fixed delay and marked with the pair of every committed price in
+ * between. Deleting a pair's last price leaves its bit set until the next rebuild, so the pair is looked up in
+ * the database as before.
+ *
+ * Until the first rebuild completes, or when {@code pricing.negative-cache.enabled} is false, every pair is
+ * reported as possibly priced.
+ */
+@Component
+public class PricedPairFilter {
+
+    private final PriceJpaRepository priceJpaRepository;
+    private final RebuildableFilter<PairKey, Map<Long, BitSet>> pricedProducts;
+
+    public PricedPairFilter(PriceJpaRepository priceJpaRepository,
+                            @Value("${pricing.negative-cache.enabled:true}") boolean enabled) {
+        this.priceJpaRepository = priceJpaRepository;
+        this.pricedProducts = new RebuildableFilter<>(enabled, this::read,
+                (filter, pair) -> set(filter, pair.productId(), pair.brandId()));
+    }
+
+    /**
+     * Tells whether the pair may have a price.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @return {@code false} only if the pair certainly has no price.
+     */
+    public boolean mightHavePrice(Long productId, Long brandId) {
+        Map<Long, BitSet> current = pricedProducts.current();
+        if (current == null || productId == null || brandId == null || !fits(productId)) {
+            return true;
+        }
+        BitSet products = current.get(brandId);
+        if (products == null) {
+            return false;
+        }
+        synchronized (products) {
+            return products.get(productId.intValue());
+        }
+    }
+
+    /**
+     * Records that the pair has a price, once the current transaction commits.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     */
+    public void markPriced(Long productId, Long brandId) {
+        pricedProducts.mark(new PairKey(productId, brandId));
+    }
+
+    /**
+     * Reads the priced pairs from the database and replaces the bitmaps with them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${pricing.negative-cache.rebuild-interval:PT1H}",
+            fixedDelayString = "${pricing.negative-cache.rebuild-interval:PT1H}")
+    @Transactional
+    public void rebuild() {
+        pricedProducts.rebuild();
+    }
+
+    public boolean isReady() {
+        return pricedProducts.isReady();
+    }
+
+    private Map<Long, BitSet> read() {
+        Map<Long, BitSet> rebuilt = new ConcurrentHashMap<>();
+        try (Stream<Object[]> pairs = priceJpaRepository.streamProductBrandPairs()) {
+            pairs.forEach(pair -> set(rebuilt, (Long) pair[0], (Long) pair[1]));
+        }
+        return rebuilt;
+    }
+
+    private static void set(Map<Long, BitSet> pricedProducts, Long productId, Long brandId) {
+        if (productId == null || brandId == null || !fits(productId)) {
+            return;
+        }
+        BitSet products = pricedProducts.computeIfAbsent(brandId, key -> new BitSet());
+        synchronized (products) {
+            products.set(productId.intValue());
+        }
+    }
+
+    private static boolean fits(long productId) {
+        return productId >= 0 && productId <= Integer.MAX_VALUE;
+    }
+
+    private record PairKey(Long productId, Long brandId) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.pricing_service.infraestructure.cache;
+
+import com.example.pricing_service.infraestructure.entity.PriceEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks the (product, brand) pair of a written {@link PriceEntity} in the {@link PricedPairFilter}, which
+ * records it once the write commits.
+ */
+@Component
+public class PricedPairFilterEntityListener {
+
+    private final ObjectProvider<PricedPairFilter> pricedPairFilter;
+
+    /**
+     * The filter is looked up lazily: it reads through the price repository, which needs the entity manager
+     * factory this listener is registered with.
+     */
+    public PricedPairFilterEntityListener(ObjectProvider<PricedPairFilter> pricedPairFilter) {
+        this.pricedPairFilter = pricedPairFilter;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite(PriceEntity priceEntity) {
+        pricedPairFilter.ifAvailable(filter ->
+                filter.markPriced(priceEntity.getProduct().getId(), priceEntity.getBrand().getId()));
+    }
+}
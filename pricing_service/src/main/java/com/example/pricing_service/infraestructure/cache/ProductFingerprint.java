@@ -0,0 +1,91 @@
+package com.example.pricing_service.infraestructure.cache;
+
+import com.example.pricing_service.infraestructure.commons.constants.CategoryType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 64-bit fingerprint of a product's content, its name, user and category, stored in the unique
+ * {@code fingerprint} column of the products.
+ *
+ * A fingerprint is the first 8 bytes, big-endian, of the SHA-256 of the fields: the name's UTF-8 length and
+ * bytes, the user ID, the category's UTF-8 length and bytes, and the slot, with -1 as the length of a missing
+ * name or category. The {@code V5} migration computes the same value in SQL for slot 0.
+ *
+ * Every content has {@link #SLOTS} candidate fingerprints, one per slot. A product is stored with the first
+ * candidate not taken by a different product, so two products whose fingerprints collide can both be stored,
+ * and a duplicate of a product is always found among the product's candidates.
+ */
+public final class ProductFingerprint {
+
+    public static final int SLOTS = 4;
+
+    private ProductFingerprint() {
+    }
+
+    /**
+     * @return The content's fingerprints, from slot 0 to {@link #SLOTS} - 1.
+     */
+    public static long[] candidates(String name, Long userId, CategoryType category) {
+        long[] candidates = new long[SLOTS];
+        for (int slot = 0; slot < SLOTS; slot++) {
+            candidates[slot] = of(name, userId, category, slot);
+        }
+        return candidates;
+    }
+
+    /**
+     * @return The content's fingerprint in slot 0.
+     */
+    public static long of(String name, Long userId, CategoryType category) {
+        return of(name, userId, category, 0);
+    }
+
+    /**
+     * @return {@code true} if the fingerprint is one of the content's candidates.
+     */
+    public static boolean isCandidate(long fingerprint, String name, Long userId, CategoryType category) {
+        for (long candidate : candidates(name, userId, category)) {
+            if (candidate == fingerprint) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long of(String name, Long userId, CategoryType category, int slot) {
+        byte[] nameBytes = name == null ? null : name.getBytes(StandardCharsets.UTF_8);
+        byte[] categoryBytes = category == null ? null : category.name().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer content = ByteBuffer.allocate(Integer.BYTES + length(nameBytes) + Long.BYTES
+                + Integer.BYTES + length(categoryBytes) + Integer.BYTES);
+        put(content, nameBytes);
+        content.putLong(userId == null ? Long.MIN_VALUE : userId);
+        put(content, categoryBytes);
+        content.putInt(slot);
+        return ByteBuffer.wrap(sha256().digest(content.array())).getLong();
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static void put(ByteBuffer content, byte[] bytes) {
+        if (bytes == null) {
+            content.putInt(-1);
+            return;
+        }
+        content.putInt(bytes.length);
+        content.put(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.pricing_service.infraestructure.cache;
+
+import com.example.pricing_service.infraestructure.repository.ProductJpaRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of the stored {@link ProductFingerprint}s, so creating a product whose content is certainly new
+ * skips the duplicate lookup in the database.
+ *
+ * The filter is a {@link RebuildableFilter}, sized for at least {@code pricing.product-filter.expected-products}
+ * products, or twice the stored ones, at a 1% false positive rate. Two creations of the same content that both
+ * miss the filter before either commits are told apart by the unique index on the fingerprint. Deleted and
+ * renamed products stay in the filter until the next rebuild, so their content is looked up in the database as
+ * before.
+ *
+ * Until the first rebuild completes, or when {@code pricing.product-filter.enabled} is false, every fingerprint
+ * is reported as possibly stored.
+ */
+@Component
+public class ProductFingerprintFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final ProductJpaRepository productJpaRepository;
+    private final long expectedProducts;
+    private final RebuildableFilter<Long, BloomFilter> fingerprints;
+
+    public ProductFingerprintFilter(ProductJpaRepository productJpaRepository,
+                                    @Value("${pricing.product-filter.enabled:true}") boolean enabled,
+                                    @Value("${pricing.product-filter.expected-products:1000000}") long expectedProducts) {
+        this.productJpaRepository = productJpaRepository;
+        this.expectedProducts = expectedProducts;
+        this.fingerprints = new RebuildableFilter<>(enabled, this::read, BloomFilter::put);
+    }
+
+    /**
+     * Tells whether any of the fingerprints may be stored.
+     *
+     * @param candidates The fingerprints of a content, see {@link ProductFingerprint#candidates}.
+     * @return {@code false} only if none of them is stored.
+     */
+    public boolean mightContainAny(long[] candidates) {
+        BloomFilter current = fingerprints.current();
+        if (current == null) {
+            return true;
+        }
+        for (long candidate : candidates) {
+            if (current.mightContain(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records that the fingerprint is stored, once the current transaction commits.
+     *
+     * @param fingerprint The stored product's fingerprint.
+     */
+    public void mark(long fingerprint) {
+        fingerprints.mark(fingerprint);
+    }
+
+    /**
+     * Reads the stored fingerprints from the database and replaces the filter with them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${pricing.product-filter.rebuild-interval:PT1H}",
+            fixedDelayString = "${pricing.product-filter.rebuild-interval:PT1H}")
+    @Transactional
+    public void rebuild() {
+        fingerprints.rebuild();
+    }
+
+    public boolean isReady() {
+        return fingerprints.isReady();
+    }
+
+    private BloomFilter read() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedProducts, 2 * productJpaRepository.count()));
+        try (Stream<Long> stored = productJpaRepository.streamFingerprints()) {
+            stored.forEach(rebuilt::put);
+        }
+        return rebuilt;
+    }
+
+    /**
+     * Bit array probed at positions derived from the two halves of a fingerprint, which is already uniformly
+     * distributed, so no further hashing is needed.
+     */
+    private static final class BloomFilter {
+        private final AtomicLongArray words;
+        private final long bits;
+        private final int probes;
+
+        BloomFilter(long capacity) {
+            long n = Math.max(1, capacity);
+            long wordCount = Math.min(Integer.MAX_VALUE,
+                    (long) Math.ceil(-n * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2)) / Long.SIZE));
+            words = new AtomicLongArray((int) Math.max(1, wordCount));
+            bits = (long) words.length() * Long.SIZE;
+            probes = (int) Math.max(1, Math.round((double) bits / n * Math.log(2)));
+        }
+
+        void put(long fingerprint) {
+            for (int i = 0; i < probes; i++) {
+                long bit = position(fingerprint, i);
+                long mask = 1L << bit;
+                words.accumulateAndGet((int) (bit >>> 6), mask, (word, set) -> word | set);
+            }
+        }
+
+        boolean mightContain(long fingerprint) {
+            for (int i = 0; i < probes; i++) {
+                long bit = position(fingerprint, i);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long position(long fingerprint, int i) {
+            long low = (int) fingerprint;
+            long high = (int) (fingerprint >>> 32);
+            return Math.floorMod(low + i * high, bits);
+        }
+    }
+}
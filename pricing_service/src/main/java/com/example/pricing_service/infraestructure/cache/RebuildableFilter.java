@@ -0,0 +1,109 @@
+package com.example.pricing_service.infraestructure.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * An in-memory filter of stored keys, read from the database in full by {@link #rebuild()} and kept current in
+ * between by {@link #mark(Object)}ing every written key once its transaction commits.
+ *
+ * A rebuild may read the database before a key committed while it runs, so the marks recorded during a rebuild
+ * are kept and replayed into the rebuilt filter once it is swapped in. A key marked outside of a rebuild was
+ * committed before the next one starts, which then reads it from the database. Marks never wait for a rebuild,
+ * only rebuilds are serialized.
+ *
+ * Until the first rebuild completes, or when disabled, there is no filter and {@link #current()} is null.
+ *
+ * @param <K> The type of the keys.
+ * @param <F> The type of the filter.
+ */
+public final class RebuildableFilter<K, F> {
+
+    private final boolean enabled;
+    private final Supplier<F> reader;
+    private final BiConsumer<F, K> writer;
+
+    private final Queue<K> markedWhileRebuilding = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding;
+    private volatile F current;
+
+    /**
+     * @param enabled Whether the filter is built at all.
+     * @param reader Reads every stored key into a new filter.
+     * @param writer Adds a key to a filter, safely while the filter is being read.
+     */
+    public RebuildableFilter(boolean enabled, Supplier<F> reader, BiConsumer<F, K> writer) {
+        this.enabled = enabled;
+        this.reader = reader;
+        this.writer = writer;
+    }
+
+    /**
+     * @return The current filter, or null if it has not been built.
+     */
+    public F current() {
+        return current;
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    /**
+     * Records that the key is stored, once the current transaction commits, or right away outside of one.
+     *
+     * @param key The stored key.
+     */
+    public void mark(K key) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(key);
+            }
+        });
+    }
+
+    /**
+     * Reads the stored keys and replaces the filter with them and the keys marked while they were read.
+     */
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        rebuilding = true;
+        try {
+            F rebuilt = reader.get();
+            current = rebuilt;
+            markedWhileRebuilding.forEach(key -> writer.accept(rebuilt, key));
+        } finally {
+            rebuilding = false;
+            markedWhileRebuilding.clear();
+        }
+    }
+
+    /**
+     * The key is queued before the current filter is read: a mark that still reaches the filter being replaced
+     * was queued before the swap, so it is replayed into the new one.
+     */
+    private void record(K key) {
+        if (rebuilding) {
+            markedWhileRebuilding.add(key);
+        }
+        F filter = current;
+        if (filter != null) {
+            writer.accept(filter, key);
+        }
+    }
+}
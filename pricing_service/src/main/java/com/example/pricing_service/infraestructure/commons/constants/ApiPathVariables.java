@@ -3,6 +3,11 @@ package com.example.pricing_service.infraestructure.commons.constants;
 public class ApiPathVariables {
     public static final String V1_ROUTE= "/v1";
     public static final String PRICES_ROUTE= "/prices";
+    public static final String BATCH_ROUTE= "/batch";
+    public static final String BULK_ROUTE= "/bulk";
+    public static final String EXPORT_ROUTE= "/export";
+    public static final String TIMELINE_ROUTE= "/timeline";
+    public static final String BASKET_ROUTE= "/basket";
     public static final String BRANDS_ROUTE= "/brands";
     public static final String PRODUCTS_ROUTE= "/products";
 }
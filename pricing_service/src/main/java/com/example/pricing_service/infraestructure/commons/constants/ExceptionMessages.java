@@ -5,8 +5,19 @@ public class ExceptionMessages {
     public static final String BRAND_BAD_REQUEST = " Invalid brand input parameters";
     public static final String PRODUCT_BAD_REQUEST = " Invalid product input parameters";
     public static final String PRICE_NOT_FOUND = " Price not found";
+    public static final String PRICE_BULK_UNREADABLE = " Price bulk body could not be read";
+    public static final String PRICE_BULK_ROW_CONFLICT = " Price conflicts with the stored data";
+    public static final String PRICE_BULK_ROW_FAILED = " Price could not be stored";
+    public static final String PRICE_BULK_OK_RESPONSE = " Price bulk processed, see the report for rows that failed";
+    public static final String PRICE_BATCH_TOO_LARGE = " Too many price lookups in a single batch";
+    public static final String PRICE_BASKET_OK_RESPONSE = " Basket priced, see the missing lines for products without a price";
+    public static final String BRAND_BATCH_TOO_LARGE = " Too many brand IDs in a single request";
+    public static final String PRODUCT_BATCH_TOO_LARGE = " Too many product IDs in a single request";
     public static final String BRAND_NOT_FOUND = " Brand not found";
+    public static final String SOME_BRANDS_NOT_FOUND = "Some of the provided brands do not exist";
     public static final String PRODUCT_NOT_FOUND = "Product not found";
+    public static final String PRODUCT_ALREADY_EXISTS = "A product with the same attributes already exists";
+    public static final String SOME_PRODUCTS_NOT_FOUND = "Some of the provided products do not exist";
     public static final String INTERNAL_SERVER_ERROR = " Internal Server Error - Unexpected error occurred";
     public static final String PRICE_OK_RESPONSE = " Price details retrieved successfully";
 }
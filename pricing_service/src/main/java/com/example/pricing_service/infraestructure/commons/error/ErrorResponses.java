@@ -0,0 +1,82 @@
+package com.example.pricing_service.infraestructure.commons.error;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.*;
+
+/**
+ * Builds {@link ErrorResponse} bodies already serialized to JSON.
+ *
+ * The bodies of the standard messages are serialized once, when the class is loaded, and their responses are
+ * built once per status and reused, so answering a not-found or bad-request allocates nothing. Any other message
+ * is serialized on demand.
+ */
+public final class ErrorResponses {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Map<String, byte[]> BODIES = List.of(
+                    PRICE_BAD_REQUEST, PRICE_NOT_FOUND, PRICE_BULK_UNREADABLE, PRICE_BATCH_TOO_LARGE,
+                    BRAND_BAD_REQUEST, BRAND_NOT_FOUND, PRODUCT_BAD_REQUEST, PRODUCT_NOT_FOUND)
+            .stream()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), ErrorResponses::serialize));
+
+    private static final Map<HttpStatus, Map<String, ResponseEntity<byte[]>>> RESPONSES = new ConcurrentHashMap<>();
+
+    private ErrorResponses() {
+    }
+
+    /**
+     * Returns a JSON {@link ErrorResponse} with the given status and message.
+     *
+     * @param status The HTTP status of the response.
+     * @param message The error message.
+     * @return A {@link ResponseEntity} whose body is the serialized {@link ErrorResponse}.
+     */
+    public static ResponseEntity<byte[]> of(HttpStatus status, String message) {
+        byte[] body = message == null ? null : BODIES.get(message);
+        if (body == null) {
+            return build(status, serialize(message));
+        }
+        return RESPONSES.computeIfAbsent(status, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(message, key -> build(status, body));
+    }
+
+    /**
+     * Same as {@link #of(HttpStatus, String)}, typed as the response of a handler whose successful body is a
+     * {@code T}. The body is still the serialized {@link ErrorResponse}: Spring picks the message converter from
+     * the body's runtime type, not from the declared one.
+     *
+     * @param status The HTTP status of the response.
+     * @param message The error message.
+     * @return A {@link ResponseEntity} whose body is the serialized {@link ErrorResponse}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ResponseEntity<T> typed(HttpStatus status, String message) {
+        return (ResponseEntity<T>) (ResponseEntity<?>) of(status, message);
+    }
+
+    private static ResponseEntity<byte[]> build(HttpStatus status, byte[] body) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private static byte[] serialize(String message) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(new ErrorResponse(message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing an error response", e);
+        }
+    }
+}
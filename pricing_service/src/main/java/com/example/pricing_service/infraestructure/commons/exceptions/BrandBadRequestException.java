@@ -5,5 +5,5 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 public class BrandBadRequestException extends RuntimeException {
-    public BrandBadRequestException (String message) { super(message); }
+    public BrandBadRequestException (String message) { super(message, null, false, false); }
 }
@@ -5,5 +5,5 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.NOT_FOUND)
 public class BrandNotFoundException extends RuntimeException {
-    public BrandNotFoundException (String message) { super(message); }
+    public BrandNotFoundException (String message) { super(message, null, false, false); }
 }
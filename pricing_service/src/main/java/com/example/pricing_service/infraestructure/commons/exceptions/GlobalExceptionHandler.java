@@ -1,64 +1,60 @@
 package com.example.pricing_service.infraestructure.commons.exceptions;
 
-import com.example.pricing_service.infraestructure.commons.error.ErrorResponse;
+import com.example.pricing_service.infraestructure.commons.error.ErrorResponses;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+/**
+ * Maps the application exceptions to their HTTP status. Bodies come pre-serialized from {@link ErrorResponses}.
+ */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
     //PRICE EXCEPTIONS
     @ExceptionHandler(PriceNotFoundException.class)
     @ResponseBody
-    public ResponseEntity<ErrorResponse> handlePriceNotFoundException(PriceNotFoundException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    public ResponseEntity<byte[]> handlePriceNotFoundException(PriceNotFoundException ex) {
+        return ErrorResponses.of(HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
     @ExceptionHandler(PriceBadRequestException.class)
     @ResponseBody
-    public ResponseEntity<ErrorResponse> handlePriceBadRequestException(PriceBadRequestException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    public ResponseEntity<byte[]> handlePriceBadRequestException(PriceBadRequestException ex) {
+        return ErrorResponses.of(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
     //PRODUCT EXCEPTIONS
     @ExceptionHandler(ProductNotFoundException.class)
     @ResponseBody
-    public ResponseEntity<ErrorResponse> handleProductNotFoundException(ProductNotFoundException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    public ResponseEntity<byte[]> handleProductNotFoundException(ProductNotFoundException ex) {
+        return ErrorResponses.of(HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
     @ExceptionHandler(ProductBadRequestException.class)
     @ResponseBody
-    public ResponseEntity<ErrorResponse> handleProductBadRequestException(ProductBadRequestException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    public ResponseEntity<byte[]> handleProductBadRequestException(ProductBadRequestException ex) {
+        return ErrorResponses.of(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
     @ExceptionHandler(ProductAlreadyExistsException.class)
     @ResponseBody
-    public ResponseEntity<ErrorResponse> handleProductAlreadyExistsException(ProductAlreadyExistsException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    public ResponseEntity<byte[]> handleProductAlreadyExistsException(ProductAlreadyExistsException ex) {
+        return ErrorResponses.of(HttpStatus.CONFLICT, ex.getMessage());
     }
 
     //BRAND EXCEPTIONS
     @ExceptionHandler(BrandNotFoundException.class)
     @ResponseBody
-    public ResponseEntity<ErrorResponse> handleBrandNotFoundException(BrandNotFoundException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    public ResponseEntity<byte[]> handleBrandNotFoundException(BrandNotFoundException ex) {
+        return ErrorResponses.of(HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
     @ExceptionHandler(BrandBadRequestException.class)
     @ResponseBody
-    public ResponseEntity<ErrorResponse> handleBrandBadRequestException(BrandBadRequestException ex) {
-        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    public ResponseEntity<byte[]> handleBrandBadRequestException(BrandBadRequestException ex) {
+        return ErrorResponses.of(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 }
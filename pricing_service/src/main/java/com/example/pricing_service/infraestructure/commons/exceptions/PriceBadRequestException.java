@@ -5,5 +5,5 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 public class PriceBadRequestException extends RuntimeException {
-    public PriceBadRequestException(String message) { super(message); }
+    public PriceBadRequestException(String message) { super(message, null, false, false); }
 }
@@ -4,10 +4,13 @@ package com.example.pricing_service.infraestructure.commons.exceptions;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * Thrown for an expected outcome rather than a fault, so it skips capturing a stack trace.
+ */
 @ResponseStatus(HttpStatus.NOT_FOUND)
 public class PriceNotFoundException extends RuntimeException {
     public PriceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
 
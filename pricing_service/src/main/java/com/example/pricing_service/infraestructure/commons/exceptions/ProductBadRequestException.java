@@ -5,5 +5,5 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 public class ProductBadRequestException extends RuntimeException {
-    public ProductBadRequestException (String message) { super(message); }
+    public ProductBadRequestException (String message) { super(message, null, false, false); }
 }
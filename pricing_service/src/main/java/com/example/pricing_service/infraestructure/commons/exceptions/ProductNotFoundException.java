@@ -5,5 +5,5 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(HttpStatus.NOT_FOUND)
 public class ProductNotFoundException extends RuntimeException {
-    public ProductNotFoundException (String message) { super(message); }
+    public ProductNotFoundException (String message) { super(message, null, false, false); }
 }
@@ -12,8 +12,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.Set;
 
 /*@Configuration
 public class DataLoader {
@@ -47,13 +46,13 @@ public class DataLoader {
             BrandEntity brand1 = brandJpaRepository.save(BrandEntity.builder()
                     .name("Brand 1")
                     .userId(1L)
-                    .productList(Arrays.asList(product1, product2))
+                    .productList(Set.of(product1, product2))
                     .build());
 
             BrandEntity brand2 = brandJpaRepository.save(BrandEntity.builder()
                     .name("Brand 2")
                     .userId(2L)
-                    .productList(Collections.singletonList(product2))
+                    .productList(Set.of(product2))
                     .build());
 
             priceJpaRepository.save(new PriceEntity(
@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
-import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "BRANDS", schema= "public")
@@ -27,11 +27,15 @@ public class BrandEntity {
     @NotNull(message= "User ID cannot be null")
     private Long userId;
 
+    /**
+     * A set rather than a bag, so Hibernate writes only the {@code product_brand} rows of the products added or
+     * removed instead of deleting and re-inserting every row of the brand.
+     */
     @ManyToMany
     @JoinTable(
             name = "product_brand",
             joinColumns = @JoinColumn(name = "brand_id"),
             inverseJoinColumns = @JoinColumn(name = "product_id")
     )
-    private List<ProductEntity> productList;
+    private Set<ProductEntity> productList;
 }
@@ -1,21 +1,27 @@
 package com.example.pricing_service.infraestructure.entity;
 
+import com.example.pricing_service.infraestructure.cache.ApplicablePriceCacheEntityListener;
+import com.example.pricing_service.infraestructure.cache.PricedPairFilterEntityListener;
+import com.example.pricing_service.infraestructure.index.PriceIndexEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "PRICES", schema= "public")
+@Table(name = "PRICES", schema= "public", indexes = {
+        @Index(name = "IDX_PRICES_LOOKUP", columnList = "product_id, brand_id, START_DATE, END_DATE, PRIORITY DESC"),
+        @Index(name = "UK_PRICES_BRAND_PRODUCT_PRICE_LIST", columnList = "brand_id, product_id, PRICE_LIST", unique = true)
+})
+@EntityListeners({PriceIndexEntityListener.class, ApplicablePriceCacheEntityListener.class, PricedPairFilterEntityListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 @ToString
-@Builder
 public class PriceEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "prices_seq")
+    @SequenceGenerator(name = "prices_seq", sequenceName = "prices_seq", schema = "public", allocationSize = 50)
     @Column(name = "ID")
     private Long id;
 
@@ -45,4 +51,49 @@ public class PriceEntity {
     @Column(name = "CURR", nullable = false)
     private String currency;
 
+    /**
+     * The (product, brand) pair the price is stored under as of its last load or write, so the listeners of an
+     * update can tell the pair the price moves away from.
+     */
+    @Transient
+    @ToString.Exclude
+    private Long storedProductId;
+
+    @Transient
+    @ToString.Exclude
+    private Long storedBrandId;
+
+    @Builder
+    public PriceEntity(Long id, BrandEntity brand, ProductEntity product, Integer priceList, LocalDateTime startDate,
+                       LocalDateTime endDate, Integer priority, Double price, String currency) {
+        this.id = id;
+        this.brand = brand;
+        this.product = product;
+        this.priceList = priceList;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.priority = priority;
+        this.price = price;
+        this.currency = currency;
+    }
+
+    /**
+     * Runs after the entity listeners, which still see the pair the price was stored under.
+     */
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    public void rememberStoredPair() {
+        this.storedProductId = product == null ? null : product.getId();
+        this.storedBrandId = brand == null ? null : brand.getId();
+    }
+
+    /**
+     * @return {@code true} if the price is being moved to a different (product, brand) pair than the one it is
+     * stored under.
+     */
+    public boolean isMovingPair() {
+        return storedProductId != null && storedBrandId != null
+                && (!storedProductId.equals(product.getId()) || !storedBrandId.equals(brand.getId()));
+    }
 }
@@ -0,0 +1,44 @@
+package com.example.pricing_service.infraestructure.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Last price list number allocated to a (product, brand) pair.
+ *
+ * The row is only ever advanced through an atomic upsert, so every number is handed out once even when
+ * prices of the same pair are created concurrently.
+ */
+@Entity
+@Table(name = "PRICE_LIST_COUNTERS", schema= "public")
+@IdClass(PriceListCounterEntity.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class PriceListCounterEntity {
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Id
+    @Column(name = "brand_id")
+    private Long brandId;
+
+    @Column(name = "LAST_PRICE_LIST", nullable = false)
+    private Integer lastPriceList;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long productId;
+        private Long brandId;
+    }
+}
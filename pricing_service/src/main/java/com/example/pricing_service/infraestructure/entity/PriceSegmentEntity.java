@@ -0,0 +1,69 @@
+package com.example.pricing_service.infraestructure.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Effective price of a (product, brand) pair over the half-open range {@code [segmentStart, segmentEnd)}.
+ *
+ * Rows are derived from {@link PriceEntity} with the priority conflicts already resolved, so the segments
+ * of a pair never overlap. They are rebuilt on every price write and must not be edited directly.
+ */
+@Entity
+@Table(name = "PRICE_SEGMENTS", schema= "public", indexes = {
+        @Index(name = "IDX_PRICE_SEGMENTS_LOOKUP", columnList = "product_id, brand_id, SEGMENT_START"),
+        @Index(name = "IDX_PRICE_SEGMENTS_BRAND", columnList = "brand_id, product_id, SEGMENT_START")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class PriceSegmentEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ID")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private ProductEntity product;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "brand_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private BrandEntity brand;
+
+    @Column(name = "SEGMENT_START", nullable = false)
+    private LocalDateTime segmentStart;
+
+    @Column(name = "SEGMENT_END", nullable = false)
+    private LocalDateTime segmentEnd;
+
+    @Column(name = "PRICE_ID", nullable = false)
+    private Long priceId;
+
+    @Column(name = "PRICE_LIST")
+    private Integer priceList;
+
+    @Column(name = "START_DATE", nullable = false)
+    private LocalDateTime startDate;
+
+    @Column(name = "END_DATE", nullable = false)
+    private LocalDateTime endDate;
+
+    @Column(name = "PRIORITY")
+    private Integer priority;
+
+    @Column(name = "PRICE", nullable = false)
+    private Double price;
+
+    @Column(name = "CURR", nullable = false)
+    private String currency;
+}
@@ -1,5 +1,6 @@
 package com.example.pricing_service.infraestructure.entity;
 
+import com.example.pricing_service.infraestructure.cache.ProductFingerprint;
 import com.example.pricing_service.infraestructure.commons.constants.CategoryType;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
@@ -36,28 +37,52 @@ public class ProductEntity {
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<PriceEntity> priceList;
 
-    @Column(name = "hash_code", nullable = false, unique = true)
-    private int hashCode;
+    /**
+     * Fingerprint of the name, user and category, see {@link ProductFingerprint}.
+     */
+    @Column(name = "fingerprint", nullable = false, unique = true)
+    private long fingerprint;
 
+    /**
+     * Keeps a fingerprint already assigned for the current content, which may be in any slot, and otherwise
+     * takes slot 0. The product adapter assigns a free slot before writing, so this only settles products
+     * written without it.
+     */
     @PrePersist
     @PreUpdate
-    public void calculateHashCode() {
-        this.hashCode = Objects.hash(name, userId, category);
+    public void calculateFingerprint() {
+        if (!ProductFingerprint.isCandidate(fingerprint, name, userId, category)) {
+            this.fingerprint = ProductFingerprint.of(name, userId, category);
+        }
     }
 
+    /**
+     * @return {@code true} if the other product has the same name, user and category.
+     */
+    public boolean hasSameContent(ProductEntity other) {
+        return Objects.equals(name, other.getName()) &&
+                Objects.equals(userId, other.getUserId()) &&
+                category == other.getCategory();
+    }
+
+    /**
+     * Hashes the ID, so a brand's products spread over its product set. Products only enter a brand's set once
+     * stored, as the brand's links are written by ID.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(name, userId, category);
+        return Objects.hashCode(id);
     }
 
+    /**
+     * Same product row, by ID. Products not stored yet are only equal to themselves.
+     */
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
-        if (obj == null || getClass() != obj.getClass()) return false;
-        ProductEntity that = (ProductEntity) obj;
-        return Objects.equals(name, that.name) &&
-                Objects.equals(userId, that.userId) &&
-                category == that.category;
+        // instanceof and getters, so an uninitialized Hibernate proxy of the same product is equal too
+        if (!(obj instanceof ProductEntity that)) return false;
+        return id != null && id.equals(that.getId());
     }
 
 }
@@ -0,0 +1,157 @@
+package com.example.pricing_service.infraestructure.generator;
+
+import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.Product;
+import com.example.pricing_service.infraestructure.commons.constants.CategoryType;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic generator of a synthetic catalog shaped like production data: brands, products sold under
+ * several brands, and for every (product, brand) pair a base price covering the whole horizon with seasonal
+ * prices and short promotions of higher priority on top of it.
+ *
+ * The same {@link Settings} always produce the same catalog. Brands and products get the IDs 1 to n, and
+ * prices are numbered from the first ID given to {@link #forEachProduct}.
+ */
+public class CatalogGenerator {
+
+    static final long USER_ID = 1L;
+    static final String CURRENCY = "EUR";
+
+    private static final CategoryType[] CATEGORIES = CategoryType.values();
+
+    private final Settings settings;
+
+    public CatalogGenerator(Settings settings) {
+        if (settings.brands() < 1 || settings.products() < 0 || settings.pricesPerPair() < 1 || settings.days() < 1
+                || settings.brandsPerProduct() < 1 || settings.brandsPerProduct() > settings.brands()) {
+            throw new IllegalArgumentException("Invalid catalog settings: " + settings);
+        }
+        this.settings = settings;
+    }
+
+    public List<Brand> brands() {
+        List<Brand> brands = new ArrayList<>(settings.brands());
+        for (long brandId = 1; brandId <= settings.brands(); brandId++) {
+            brands.add(Brand.builder()
+                    .id(brandId)
+                    .name("Brand " + brandId)
+                    .userId(USER_ID)
+                    .build());
+        }
+        return brands;
+    }
+
+    /**
+     * Generates the products one at a time, so catalogs of any size are produced in constant memory.
+     *
+     * @param firstPriceId The ID of the first generated price; the others follow without gaps.
+     * @param consumer Receives every product with its brands and prices, in product ID order.
+     */
+    public void forEachProduct(long firstPriceId, Consumer<GeneratedProduct> consumer) {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        long priceId = firstPriceId;
+        for (long productId = 1; productId <= settings.products(); productId++) {
+            Product product = product(productId);
+            List<Long> brandIds = brandIds(random);
+            List<Price> prices = new ArrayList<>(brandIds.size() * settings.pricesPerPair());
+            double basePrice = (500 + random.nextInt(19_500)) / 100.0;
+            for (Long brandId : brandIds) {
+                prices.addAll(pairPrices(random, priceId, product, brandId, basePrice));
+                priceId += settings.pricesPerPair();
+            }
+            consumer.accept(new GeneratedProduct(product, brandIds, prices));
+        }
+    }
+
+    public long priceCount() {
+        return (long) settings.products() * settings.brandsPerProduct() * settings.pricesPerPair();
+    }
+
+    private Product product(long productId) {
+        return Product.builder()
+                .id(productId)
+                .name("Product " + productId)
+                .userId(USER_ID)
+                .category(CATEGORIES[(int) (productId % CATEGORIES.length)])
+                .build();
+    }
+
+    private List<Long> brandIds(SplittableRandom random) {
+        TreeSet<Long> brandIds = new TreeSet<>();
+        while (brandIds.size() < settings.brandsPerProduct()) {
+            brandIds.add(1L + random.nextInt(settings.brands()));
+        }
+        return List.copyOf(brandIds);
+    }
+
+    /**
+     * The first price list is the base price over the whole horizon. The next ones alternate between seasonal
+     * prices of one to eight weeks at priority 1 and promotions of one to 72 hours at priority 2, which may
+     * overlap each other.
+     */
+    private List<Price> pairPrices(SplittableRandom random, long firstPriceId, Product product, Long brandId,
+                                   double basePrice) {
+        LocalDateTime start = settings.start();
+        LocalDateTime end = start.plusDays(settings.days());
+        double brandPrice = round(basePrice * (0.9 + random.nextInt(21) / 100.0));
+
+        List<Price> prices = new ArrayList<>(settings.pricesPerPair());
+        prices.add(price(firstPriceId, product, brandId, 1, 0, brandPrice, start, end));
+        for (int priceList = 2; priceList <= settings.pricesPerPair(); priceList++) {
+            boolean seasonal = priceList % 2 == 0;
+            long hours = seasonal ? 24L * 7 * (1 + random.nextInt(8)) : 1 + random.nextInt(72);
+            long latestStart = Math.max(1, settings.days() * 24L - hours);
+            LocalDateTime priceStart = start.plusHours(random.nextLong(latestStart));
+            LocalDateTime priceEnd = priceStart.plusHours(hours).isAfter(end) ? end : priceStart.plusHours(hours);
+            double discount = seasonal ? 0.7 + random.nextInt(21) / 100.0 : 0.5 + random.nextInt(31) / 100.0;
+            prices.add(price(firstPriceId + priceList - 1, product, brandId, priceList, seasonal ? 1 : 2,
+                    round(brandPrice * discount), priceStart, priceEnd));
+        }
+        return prices;
+    }
+
+    private static Price price(long id, Product product, Long brandId, int priceList, int priority, double amount,
+                               LocalDateTime startDate, LocalDateTime endDate) {
+        return Price.builder()
+                .id(id)
+                .product(Product.builder().id(product.getId()).build())
+                .brand(Brand.builder().id(brandId).build())
+                .priceList(priceList)
+                .priority(priority)
+                .price(amount)
+                .currency(CURRENCY)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+
+    private static double round(double amount) {
+        return Math.max(1, Math.round(amount * 100)) / 100.0;
+    }
+
+    /**
+     * Shape of the generated catalog.
+     *
+     * @param brands Number of brands.
+     * @param products Number of products.
+     * @param brandsPerProduct Number of brands each product is sold under.
+     * @param pricesPerPair Number of prices of each (product, brand) pair.
+     * @param seed Seed of the generator; the same seed gives the same catalog.
+     * @param start Start of the priced horizon.
+     * @param days Length of the priced horizon.
+     */
+    public record Settings(int brands, int products, int brandsPerProduct, int pricesPerPair, long seed,
+                           LocalDateTime start, int days) {
+    }
+
+    /**
+     * A generated product, the brands it is sold under and the prices of all its (product, brand) pairs.
+     */
+    public record GeneratedProduct(Product product, List<Long> brandIds, List<Price> prices) {
+    }
+}
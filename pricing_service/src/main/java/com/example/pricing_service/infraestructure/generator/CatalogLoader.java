@@ -0,0 +1,181 @@
+package com.example.pricing_service.infraestructure.generator;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.infraestructure.cache.ProductFingerprint;
+import com.example.pricing_service.infraestructure.index.PriceTimeline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Fills an empty database with the synthetic catalog of a {@link CatalogGenerator} when the application starts
+ * with the {@code generate} profile, before the price index is loaded.
+ *
+ * Rows are written with plain JDBC batches in a single transaction, bypassing the entities and their
+ * listeners: brands, products, the {@code product_brand} associations, the prices, their already resolved
+ * {@code price_segments} and the pairs' {@code price_list_counters}. The identity columns and the price
+ * sequence are then moved past the generated IDs, so the application can keep creating rows afterwards.
+ */
+@Slf4j
+@Component
+@Profile("generate")
+public class CatalogLoader implements ApplicationRunner {
+
+    private static final String INSERT_BRAND =
+            "INSERT INTO public.brands (id, name, user_id) VALUES (?, ?, ?)";
+    private static final String INSERT_PRODUCT =
+            "INSERT INTO public.products (id, name, user_id, category, fingerprint) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_PRODUCT_BRAND =
+            "INSERT INTO public.product_brand (brand_id, product_id) VALUES (?, ?)";
+    private static final String INSERT_PRICE =
+            "INSERT INTO public.prices (id, brand_id, product_id, price_list, start_date, end_date, priority, price, curr) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PRICE_SEGMENT =
+            "INSERT INTO public.price_segments (brand_id, product_id, segment_start, segment_end, price_id, price_list, " +
+                    "start_date, end_date, priority, price, curr) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PRICE_LIST_COUNTER =
+            "INSERT INTO public.price_list_counters (product_id, brand_id, last_price_list) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConfigurableApplicationContext applicationContext;
+    private final CatalogGenerator.Settings settings;
+    private final int batchSize;
+    private final boolean exitWhenDone;
+
+    public CatalogLoader(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                         ConfigurableApplicationContext applicationContext,
+                         @Value("${pricing.generator.brands:10}") int brands,
+                         @Value("${pricing.generator.products:100000}") int products,
+                         @Value("${pricing.generator.brands-per-product:2}") int brandsPerProduct,
+                         @Value("${pricing.generator.prices-per-pair:4}") int pricesPerPair,
+                         @Value("${pricing.generator.seed:42}") long seed,
+                         @Value("${pricing.generator.start:2024-01-01}") String start,
+                         @Value("${pricing.generator.days:365}") int days,
+                         @Value("${pricing.generator.batch-size:5000}") int batchSize,
+                         @Value("${pricing.generator.exit-when-done:false}") boolean exitWhenDone) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationContext = applicationContext;
+        this.settings = new CatalogGenerator.Settings(brands, products, brandsPerProduct, pricesPerPair, seed,
+                LocalDate.parse(start).atStartOfDay(), days);
+        this.batchSize = batchSize;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        long prices = transactionTemplate.execute(status -> load());
+        log.info("Generated {} brands, {} products and {} prices in {}", settings.brands(), settings.products(),
+                prices, Duration.ofNanos(System.nanoTime() - started));
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    /**
+     * Writes the whole catalog and returns the number of prices written.
+     */
+    long load() {
+        Long existing = jdbcTemplate.queryForObject("SELECT count(*) FROM public.products", Long.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("The catalog generator needs an empty database, found " + existing + " products");
+        }
+
+        CatalogGenerator generator = new CatalogGenerator(settings);
+        List<Object[]> brands = generator.brands().stream()
+                .map(brand -> new Object[]{brand.getId(), brand.getName(), brand.getUserId()})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_BRAND, brands);
+
+        Batch batch = new Batch();
+        generator.forEachProduct(1L, generated -> {
+            batch.add(generated);
+            if (batch.prices.size() >= batchSize) {
+                batch.flush();
+            }
+        });
+        batch.flush();
+
+        restartIdentity("brands", settings.brands());
+        restartIdentity("products", settings.products());
+        if (batch.written > 0) {
+            jdbcTemplate.queryForObject("SELECT setval('public.prices_seq', ?)", Long.class, batch.written);
+        }
+        return batch.written;
+    }
+
+    private void restartIdentity(String table, long lastId) {
+        jdbcTemplate.execute("ALTER TABLE public." + table + " ALTER COLUMN id RESTART WITH " + (lastId + 1));
+    }
+
+    /**
+     * Rows of the products generated since the last flush, written together so every statement goes out in
+     * JDBC batches.
+     */
+    private class Batch {
+        private final List<Object[]> products = new ArrayList<>();
+        private final List<Object[]> productBrands = new ArrayList<>();
+        private final List<Object[]> prices = new ArrayList<>();
+        private final List<Object[]> segments = new ArrayList<>();
+        private final List<Object[]> counters = new ArrayList<>();
+        private long written;
+
+        void add(CatalogGenerator.GeneratedProduct generated) {
+            Long productId = generated.product().getId();
+            products.add(new Object[]{productId, generated.product().getName(), generated.product().getUserId(),
+                    generated.product().getCategory().name(),
+                    ProductFingerprint.of(generated.product().getName(), generated.product().getUserId(),
+                            generated.product().getCategory())});
+
+            Map<Long, List<Price>> pricesByBrand = new TreeMap<>();
+            generated.prices().forEach(price ->
+                    pricesByBrand.computeIfAbsent(price.getBrand().getId(), key -> new ArrayList<>()).add(price));
+            for (Long brandId : generated.brandIds()) {
+                List<Price> pairPrices = pricesByBrand.getOrDefault(brandId, List.of());
+                productBrands.add(new Object[]{brandId, productId});
+                counters.add(new Object[]{productId, brandId, pairPrices.size()});
+                pairPrices.forEach(price -> prices.add(new Object[]{price.getId(), brandId, productId,
+                        price.getPriceList(), price.getStartDate(), price.getEndDate(), price.getPriority(),
+                        price.getPrice(), price.getCurrency()}));
+                PriceTimeline.of(pairPrices).getSegments().forEach(segment -> {
+                    Price price = segment.price();
+                    segments.add(new Object[]{brandId, productId, segment.start(), segment.end(), price.getId(),
+                            price.getPriceList(), price.getStartDate(), price.getEndDate(), price.getPriority(),
+                            price.getPrice(), price.getCurrency()});
+                });
+            }
+        }
+
+        void flush() {
+            write(INSERT_PRODUCT, products);
+            write(INSERT_PRODUCT_BRAND, productBrands);
+            written += write(INSERT_PRICE, prices);
+            write(INSERT_PRICE_SEGMENT, segments);
+            write(INSERT_PRICE_LIST_COUNTER, counters);
+        }
+
+        private int write(String sql, List<Object[]> rows) {
+            int count = rows.size();
+            if (count > 0) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+            return count;
+        }
+    }
+}
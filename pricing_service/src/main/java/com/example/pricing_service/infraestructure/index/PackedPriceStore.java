@@ -0,0 +1,485 @@
+package com.example.pricing_service.infraestructure.index;
+
+import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.Product;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Immutable store of prices laid out in primitive arrays instead of {@link Price} objects.
+ *
+ * Every price is a row of parallel columns: ID, start and end date as microseconds since the epoch, price list,
+ * priority, amount in minor units and a one-byte code into a small currency table. The rows of a (product, brand)
+ * pair are contiguous and sorted by start date, and the pairs are found through an open-addressing table keyed by
+ * the two IDs packed into one {@code long}.
+ *
+ * The overlaps are resolved once, when the pair is added, the way {@link PriceTimeline} resolves them: each row
+ * also holds the pair's winning row from its start on, and, through a column of the pair's rows in end order,
+ * from each end on. A lookup is a hash probe and two binary searches, one over the starts and one over the ends,
+ * whichever found later deciding the winner, and allocates nothing until the winning row is turned into a
+ * {@link Price}.
+ *
+ * Prices that do not fit the layout (IDs above {@link Integer#MAX_VALUE}, amounts with more than two decimals,
+ * more than {@link #MAX_CURRENCIES} currencies) are rejected by the {@link Builder} so the caller can keep their
+ * pair as objects.
+ */
+public final class PackedPriceStore {
+
+    public static final int NOT_FOUND = -1;
+    public static final long NO_BOUNDARY = Long.MAX_VALUE;
+
+    static final int MAX_CURRENCIES = 127;
+
+    private static final int MINOR_UNITS = 100;
+    private static final long MAX_MINOR_UNITS = 1L << 52;
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+    private static final long EMPTY_SLOT = -1L;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int STRING_BYTES = 56;
+
+    private static final PackedPriceStore EMPTY = new Builder().build();
+
+    private final long[] keys;
+    private final int[] firstRows;
+    private final int[] rowCounts;
+    private final int mask;
+    private final int pairs;
+
+    private final long[] priceIds;
+    private final long[] starts;
+    private final long[] ends;
+    private final int[] priceLists;
+    private final int[] priorities;
+    private final long[] amounts;
+    private final byte[] currencyCodes;
+    private final String[] currencies;
+    private final int[] endOrder;
+    private final int[] winnersFromStart;
+    private final int[] winnersFromEnd;
+    private final int rows;
+
+    private PackedPriceStore(Builder builder) {
+        this.rows = builder.rows;
+        this.priceIds = Arrays.copyOf(builder.priceIds, rows);
+        this.starts = Arrays.copyOf(builder.starts, rows);
+        this.ends = Arrays.copyOf(builder.ends, rows);
+        this.priceLists = Arrays.copyOf(builder.priceLists, rows);
+        this.priorities = Arrays.copyOf(builder.priorities, rows);
+        this.amounts = Arrays.copyOf(builder.amounts, rows);
+        this.currencyCodes = Arrays.copyOf(builder.currencyCodes, rows);
+        this.currencies = builder.currencies.toArray(String[]::new);
+        this.endOrder = Arrays.copyOf(builder.endOrder, rows);
+        this.winnersFromStart = Arrays.copyOf(builder.winnersFromStart, rows);
+        this.winnersFromEnd = Arrays.copyOf(builder.winnersFromEnd, rows);
+
+        this.pairs = builder.pairs;
+        int capacity = Integer.highestOneBit(Math.max(2, pairs * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.firstRows = new int[capacity];
+        this.rowCounts = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(keys, EMPTY_SLOT);
+        for (int pair = 0; pair < pairs; pair++) {
+            int slot = hash(builder.pairKeys[pair]) & mask;
+            while (keys[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = builder.pairKeys[pair];
+            firstRows[slot] = builder.pairFirstRows[pair];
+            rowCounts[slot] = builder.pairRowCounts[pair];
+        }
+    }
+
+    public static PackedPriceStore empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Finds the row of the highest-priority price for a product and brand at a given date.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param applicationDate The date for which the price is needed.
+     * @return The row of the applicable price, or {@link #NOT_FOUND}.
+     */
+    public int findRow(long productId, long brandId, LocalDateTime applicationDate) {
+        int slot = slot(productId, brandId);
+        if (slot < 0) {
+            return NOT_FOUND;
+        }
+        long date = toMicros(applicationDate);
+        int first = firstRows[slot];
+        int last = first + rowCounts[slot];
+        // the last start before the date and the last end at or before it, as a price applies strictly inside
+        int started = firstStartFrom(first, last, date) - 1;
+        int ended = firstEndFrom(first, last, date + 1) - 1;
+        if (started < first) {
+            return NOT_FOUND;
+        }
+        if (ended < first || starts[started] + 1 >= ends[endOrder[ended]]) {
+            return winnersFromStart[started];
+        }
+        return winnersFromEnd[ended];
+    }
+
+    /**
+     * Finds the first start or end date of the pair's prices falling at or after the given date.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param date The date to search from.
+     * @return The boundary in microseconds since the epoch, or {@link #NO_BOUNDARY} if there is none.
+     */
+    public long findNextBoundary(long productId, long brandId, LocalDateTime date) {
+        int slot = slot(productId, brandId);
+        if (slot < 0) {
+            return NO_BOUNDARY;
+        }
+        long from = toMicros(date);
+        int first = firstRows[slot];
+        int last = first + rowCounts[slot];
+        int start = firstStartFrom(first, last, from);
+        int end = firstEndFrom(first, last, from);
+        long next = start < last ? starts[start] : NO_BOUNDARY;
+        return end < last ? Math.min(next, ends[endOrder[end]]) : next;
+    }
+
+    public boolean contains(long productId, long brandId) {
+        return slot(productId, brandId) >= 0;
+    }
+
+    /**
+     * Builds the {@link Price} stored in the given row, carrying only the brand and product IDs.
+     */
+    public Price toPrice(int row, long productId, long brandId) {
+        return Price.builder()
+                .id(priceIds[row])
+                .brand(Brand.builder().id(brandId).build())
+                .product(Product.builder().id(productId).build())
+                .priceList(fromInt(priceLists[row]))
+                .priority(fromInt(priorities[row]))
+                .startDate(fromMicros(starts[row]))
+                .endDate(fromMicros(ends[row]))
+                .price((double) amounts[row] / MINOR_UNITS)
+                .currency(currencies[currencyCodes[row]])
+                .build();
+    }
+
+    /**
+     * Returns every price of the pair, or an empty list if the store does not hold it.
+     */
+    public List<Price> getPrices(long productId, long brandId) {
+        int slot = slot(productId, brandId);
+        if (slot < 0) {
+            return List.of();
+        }
+        List<Price> prices = new ArrayList<>(rowCounts[slot]);
+        for (int row = firstRows[slot], last = row + rowCounts[slot]; row < last; row++) {
+            prices.add(toPrice(row, productId, brandId));
+        }
+        return prices;
+    }
+
+    /**
+     * Returns the packed keys of every pair in ascending (product ID, brand ID) order.
+     */
+    public LongStream keys() {
+        return Arrays.stream(keys).filter(key -> key != EMPTY_SLOT).sorted();
+    }
+
+    public static long productId(long key) {
+        return key >>> 32;
+    }
+
+    public static long brandId(long key) {
+        return key & 0xFFFF_FFFFL;
+    }
+
+    public int size() {
+        return rows;
+    }
+
+    public Footprint getFootprint() {
+        long bytes = arrayBytes(keys.length, Long.BYTES)
+                + arrayBytes(firstRows.length, Integer.BYTES)
+                + arrayBytes(rowCounts.length, Integer.BYTES)
+                + arrayBytes(priceIds.length, Long.BYTES)
+                + arrayBytes(starts.length, Long.BYTES)
+                + arrayBytes(ends.length, Long.BYTES)
+                + arrayBytes(priceLists.length, Integer.BYTES)
+                + arrayBytes(priorities.length, Integer.BYTES)
+                + arrayBytes(amounts.length, Long.BYTES)
+                + arrayBytes(currencyCodes.length, Byte.BYTES)
+                + arrayBytes(endOrder.length, Integer.BYTES)
+                + arrayBytes(winnersFromStart.length, Integer.BYTES)
+                + arrayBytes(winnersFromEnd.length, Integer.BYTES)
+                + arrayBytes(currencies.length, REFERENCE_BYTES) + (long) currencies.length * STRING_BYTES;
+        return new Footprint(rows, pairs, bytes);
+    }
+
+    private int slot(long productId, long brandId) {
+        if (!fits(productId) || !fits(brandId)) {
+            return NOT_FOUND;
+        }
+        long key = key(productId, brandId);
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY_SLOT) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * @return The first row of the pair starting at or after the date, or {@code last}.
+     */
+    private int firstStartFrom(int first, int last, long date) {
+        int low = first;
+        int high = last;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] < date) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return The first position in the pair's end order ending at or after the date, or {@code last}.
+     */
+    private int firstEndFrom(int first, int last, long date) {
+        int low = first;
+        int high = last;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[endOrder[mid]] < date) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long key(long productId, long brandId) {
+        return productId << 32 | brandId;
+    }
+
+    private static int hash(long key) {
+        long mixed = key * 0x9E37_79B9_7F4A_7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    private static boolean fits(long id) {
+        return id >= 0 && id <= Integer.MAX_VALUE;
+    }
+
+    private static long arrayBytes(int length, int elementBytes) {
+        return ARRAY_HEADER_BYTES + (long) length * elementBytes;
+    }
+
+    static long toMicros(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + date.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static Integer fromInt(int value) {
+        return value == NO_VALUE ? null : value;
+    }
+
+    /**
+     * Heap used by a store, with the resulting cost of a price.
+     */
+    public record Footprint(int prices, int pairs, long bytes) {
+
+        public double bytesPerPrice() {
+            return prices == 0 ? 0 : (double) bytes / prices;
+        }
+
+        public long bytesPerMillionPrices() {
+            return Math.round(bytesPerPrice() * 1_000_000);
+        }
+    }
+
+    /**
+     * Appends the prices of one pair at a time and builds the {@link PackedPriceStore}.
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 1_024;
+
+        private long[] pairKeys = new long[INITIAL_CAPACITY];
+        private int[] pairFirstRows = new int[INITIAL_CAPACITY];
+        private int[] pairRowCounts = new int[INITIAL_CAPACITY];
+        private int pairs;
+
+        private long[] priceIds = new long[INITIAL_CAPACITY];
+        private long[] starts = new long[INITIAL_CAPACITY];
+        private long[] ends = new long[INITIAL_CAPACITY];
+        private int[] priceLists = new int[INITIAL_CAPACITY];
+        private int[] priorities = new int[INITIAL_CAPACITY];
+        private long[] amounts = new long[INITIAL_CAPACITY];
+        private byte[] currencyCodes = new byte[INITIAL_CAPACITY];
+        private int[] endOrder = new int[INITIAL_CAPACITY];
+        private int[] winnersFromStart = new int[INITIAL_CAPACITY];
+        private int[] winnersFromEnd = new int[INITIAL_CAPACITY];
+        private final List<String> currencies = new ArrayList<>();
+        private final Map<String, Byte> currencyIndex = new HashMap<>();
+        private int rows;
+
+        /**
+         * Adds every price of a pair. Each pair must be added only once.
+         *
+         * @param productId The product's ID.
+         * @param brandId The brand's ID.
+         * @param prices The pair's prices.
+         * @return {@code false}, leaving the builder unchanged, if any of the prices does not fit the layout.
+         */
+        public boolean add(long productId, long brandId, Collection<Price> prices) {
+            if (!fits(productId) || !fits(brandId) || prices.isEmpty() || !prices.stream().allMatch(this::packable)) {
+                return false;
+            }
+            long newCurrencies = prices.stream()
+                    .map(Price::getCurrency)
+                    .distinct()
+                    .filter(currency -> !currencyIndex.containsKey(currency))
+                    .count();
+            if (currencies.size() + newCurrencies > MAX_CURRENCIES) {
+                return false;
+            }
+            ensurePairCapacity();
+            pairKeys[pairs] = key(productId, brandId);
+            pairFirstRows[pairs] = rows;
+            pairRowCounts[pairs] = prices.size();
+            pairs++;
+
+            int first = rows;
+            prices.stream()
+                    .sorted(Comparator.comparing(Price::getStartDate))
+                    .forEach(this::append);
+            resolve(first, rows);
+            return true;
+        }
+
+        public PackedPriceStore build() {
+            return new PackedPriceStore(this);
+        }
+
+        /**
+         * Sweeps the pair's starts and ends in date order, recording the winning row after each of them. Events
+         * on the same date share the winner left once all of them are applied. A price whose range holds no
+         * instant never becomes active.
+         */
+        private void resolve(int first, int last) {
+            int[] byEnd = IntStream.range(first, last).boxed()
+                    .sorted(Comparator.comparingLong(row -> ends[row]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            System.arraycopy(byEnd, 0, endOrder, first, byEnd.length);
+
+            TreeSet<Integer> active = new TreeSet<>(this::precedence);
+            int start = first;
+            int end = first;
+            while (start < last || end < last) {
+                long date = Math.min(start < last ? starts[start] + 1 : Long.MAX_VALUE,
+                        end < last ? ends[endOrder[end]] : Long.MAX_VALUE);
+                int startsFrom = start;
+                int endsFrom = end;
+                for (; end < last && ends[endOrder[end]] == date; end++) {
+                    active.remove(endOrder[end]);
+                }
+                for (; start < last && starts[start] + 1 == date; start++) {
+                    if (starts[start] + 1 < ends[start]) {
+                        active.add(start);
+                    }
+                }
+                int winner = active.isEmpty() ? NOT_FOUND : active.first();
+                Arrays.fill(winnersFromStart, startsFrom, start, winner);
+                Arrays.fill(winnersFromEnd, endsFrom, end, winner);
+            }
+        }
+
+        /**
+         * Same precedence as {@link PriceTimeline}: priority, then price list, then ID, highest first. A missing
+         * priority or price list is stored as {@link Integer#MIN_VALUE} and so loses to any other value.
+         */
+        private int precedence(int row, int other) {
+            if (priorities[row] != priorities[other]) {
+                return Integer.compare(priorities[other], priorities[row]);
+            }
+            if (priceLists[row] != priceLists[other]) {
+                return Integer.compare(priceLists[other], priceLists[row]);
+            }
+            if (priceIds[row] != priceIds[other]) {
+                return Long.compare(priceIds[other], priceIds[row]);
+            }
+            return Integer.compare(row, other);
+        }
+
+        private boolean packable(Price price) {
+            if (price.getId() == null || price.getStartDate() == null || price.getEndDate() == null
+                    || price.getPrice() == null || price.getCurrency() == null
+                    || Objects.equals(price.getPriceList(), NO_VALUE) || Objects.equals(price.getPriority(), NO_VALUE)) {
+                return false;
+            }
+            double amount = price.getPrice();
+            long minorUnits = Math.round(amount * MINOR_UNITS);
+            return Math.abs(minorUnits) < MAX_MINOR_UNITS && (double) minorUnits / MINOR_UNITS == amount;
+        }
+
+        private void append(Price price) {
+            ensureRowCapacity();
+            priceIds[rows] = price.getId();
+            starts[rows] = toMicros(price.getStartDate());
+            ends[rows] = toMicros(price.getEndDate());
+            priceLists[rows] = price.getPriceList() == null ? NO_VALUE : price.getPriceList();
+            priorities[rows] = price.getPriority() == null ? NO_VALUE : price.getPriority();
+            amounts[rows] = Math.round(price.getPrice() * MINOR_UNITS);
+            currencyCodes[rows] = currencyIndex.computeIfAbsent(price.getCurrency(), currency -> {
+                currencies.add(currency);
+                return (byte) (currencies.size() - 1);
+            });
+            rows++;
+        }
+
+        private void ensurePairCapacity() {
+            if (pairs == pairKeys.length) {
+                int capacity = pairs * 2;
+                pairKeys = Arrays.copyOf(pairKeys, capacity);
+                pairFirstRows = Arrays.copyOf(pairFirstRows, capacity);
+                pairRowCounts = Arrays.copyOf(pairRowCounts, capacity);
+            }
+        }
+
+        private void ensureRowCapacity() {
+            if (rows == priceIds.length) {
+                int capacity = rows * 2;
+                priceIds = Arrays.copyOf(priceIds, capacity);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                priceLists = Arrays.copyOf(priceLists, capacity);
+                priorities = Arrays.copyOf(priorities, capacity);
+                amounts = Arrays.copyOf(amounts, capacity);
+                currencyCodes = Arrays.copyOf(currencyCodes, capacity);
+                endOrder = Arrays.copyOf(endOrder, capacity);
+                winnersFromStart = Arrays.copyOf(winnersFromStart, capacity);
+                winnersFromEnd = Arrays.copyOf(winnersFromEnd, capacity);
+            }
+        }
+    }
+}
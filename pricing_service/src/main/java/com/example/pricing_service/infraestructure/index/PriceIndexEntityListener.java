@@ -0,0 +1,75 @@
+package com.example.pricing_service.infraestructure.index;
+
+import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.Product;
+import com.example.pricing_service.infraestructure.entity.PriceEntity;
+import com.example.pricing_service.infraestructure.rest.mapper.PriceMapper;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the {@link PriceIntervalIndex} in step with every write to {@link PriceEntity}, including the
+ * removals cascaded from a deleted product.
+ *
+ * Changes are applied once the surrounding transaction commits, so a rolled back write never becomes visible.
+ * An update that moves a price to another (product, brand) pair removes it from the pair it was stored under.
+ */
+@Component
+public class PriceIndexEntityListener {
+
+    private final PriceIntervalIndex priceIntervalIndex;
+    private final PriceMapper priceMapper;
+
+    public PriceIndexEntityListener(PriceIntervalIndex priceIntervalIndex, PriceMapper priceMapper) {
+        this.priceIntervalIndex = priceIntervalIndex;
+        this.priceMapper = priceMapper;
+    }
+
+    @PostPersist
+    public void onSave(PriceEntity priceEntity) {
+        Price price = priceMapper.toShallowPrice(priceEntity);
+        afterCommit(() -> priceIntervalIndex.add(price));
+    }
+
+    @PostUpdate
+    public void onUpdate(PriceEntity priceEntity) {
+        Price price = priceMapper.toShallowPrice(priceEntity);
+        if (!priceEntity.isMovingPair()) {
+            afterCommit(() -> priceIntervalIndex.add(price));
+            return;
+        }
+        Price previous = Price.builder()
+                .id(priceEntity.getId())
+                .product(Product.builder().id(priceEntity.getStoredProductId()).build())
+                .brand(Brand.builder().id(priceEntity.getStoredBrandId()).build())
+                .build();
+        afterCommit(() -> {
+            priceIntervalIndex.remove(previous);
+            priceIntervalIndex.add(price);
+        });
+    }
+
+    @PostRemove
+    public void onRemove(PriceEntity priceEntity) {
+        Price price = priceMapper.toShallowPrice(priceEntity);
+        afterCommit(() -> priceIntervalIndex.remove(price));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.pricing_service.infraestructure.index;
+
+/**
+ * Published once the {@link PriceIntervalIndex} has been loaded from the database and answers every lookup.
+ * Anything derived from the stand-ins used until then, such as cached prices, should be dropped.
+ */
+public record PriceIndexLoadedEvent() {
+}
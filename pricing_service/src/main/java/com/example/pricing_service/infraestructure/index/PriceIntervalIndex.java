@@ -0,0 +1,247 @@
+package com.example.pricing_service.infraestructure.index;
+
+import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.Product;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory index of all prices, keyed by (productId, brandId).
+ *
+ * The prices read by {@link #load(Stream)} are kept in a {@link PackedPriceStore}, a few dozen bytes per price
+ * instead of a graph of boxed fields and dates. A pair written after the load, or whose prices do not fit the
+ * packed layout, is held as a {@link PriceTimeline} that takes precedence over the store. Writes replace the
+ * timeline of the touched pair atomically, so readers never see a partially updated pair.
+ *
+ * Until {@link #load(Stream)} has completed the index reports itself as not ready and callers must fall back
+ * to the database. The heap held by the store is published to Micrometer as {@code pricing.index.memory}.
+ */
+@Component
+public class PriceIntervalIndex implements MeterBinder {
+
+    private final Map<PriceKey, PriceTimeline> timelines = new ConcurrentHashMap<>();
+    private final Map<PriceKey, Set<Long>> removedWhileLoading = new ConcurrentHashMap<>();
+    private volatile PackedPriceStore packedPrices = PackedPriceStore.empty();
+    private volatile boolean loading;
+    private volatile boolean ready;
+
+    /**
+     * Populates the index with the given prices. Writes applied concurrently with the load are kept, including
+     * removals of prices the load had already read.
+     *
+     * @param prices Every price stored in the database.
+     */
+    public void load(Stream<Price> prices) {
+        loading = true;
+        try {
+            Map<PriceKey, List<Price>> byKey = prices
+                    .filter(price -> !removedWhileLoading.getOrDefault(PriceKey.of(price), Set.of())
+                            .contains(price.getId()))
+                    .map(PriceIntervalIndex::shallowCopy)
+                    .collect(Collectors.groupingBy(PriceKey::of));
+
+            PackedPriceStore.Builder builder = new PackedPriceStore.Builder();
+            Map<PriceKey, List<Price>> unpacked = new HashMap<>();
+            byKey.forEach((key, loaded) -> {
+                if (!builder.add(key.productId(), key.brandId(), loaded)) {
+                    unpacked.put(key, loaded);
+                }
+            });
+            byKey.clear();
+            packedPrices = builder.build();
+
+            unpacked.forEach(this::merge);
+            timelines.keySet().forEach(key -> {
+                List<Price> loaded = packedPrices.getPrices(key.productId(), key.brandId());
+                if (!loaded.isEmpty()) {
+                    merge(key, loaded);
+                }
+            });
+            removedWhileLoading.forEach((key, priceIds) -> priceIds.forEach(priceId -> remove(key, priceId)));
+            ready = true;
+        } finally {
+            loading = false;
+            removedWhileLoading.clear();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Retrieves the highest-priority price for a product and brand at a given date.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param applicationDate The date for which the price is needed.
+     * @return An {@link Optional} containing the applicable {@link Price}, or empty if no price is found.
+     */
+    public Optional<Price> findApplicablePrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        PriceTimeline timeline = timelines.get(new PriceKey(productId, brandId));
+        if (timeline != null) {
+            return timeline.findApplicablePrice(applicationDate);
+        }
+        PackedPriceStore store = packedPrices;
+        int row = store.findRow(productId, brandId, applicationDate);
+        if (row == PackedPriceStore.NOT_FOUND) {
+            return Optional.empty();
+        }
+        return Optional.of(store.toPrice(row, productId, brandId));
+    }
+
+    /**
+     * Finds the first start or end date of the pair's prices falling at or after the given date.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param date The date to search from.
+     * @return An {@link Optional} containing the next boundary, or empty if there is none.
+     */
+    public Optional<LocalDateTime> findNextBoundary(Long productId, Long brandId, LocalDateTime date) {
+        PriceTimeline timeline = timelines.get(new PriceKey(productId, brandId));
+        if (timeline != null) {
+            return timeline.findNextBoundary(date);
+        }
+        long boundary = packedPrices.findNextBoundary(productId, brandId, date);
+        if (boundary == PackedPriceStore.NO_BOUNDARY) {
+            return Optional.empty();
+        }
+        return Optional.of(PackedPriceStore.fromMicros(boundary));
+    }
+
+    /**
+     * Returns the pair's resolved segments overlapping {@code [from, to)}, clipped to the window.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param from The start of the window, inclusive.
+     * @param to The end of the window, exclusive.
+     * @return The segments in chronological order, empty if no price applies in the window.
+     */
+    public List<PriceTimeline.Segment> findSegments(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        PriceKey key = new PriceKey(productId, brandId);
+        return timelineOf(key, timelines.get(key)).getSegments(from, to);
+    }
+
+    /**
+     * Streams the resolved segments of every pair, ordered by product ID, brand ID and segment start.
+     * Each pair is read as it stood when the stream reaches it.
+     */
+    public Stream<PriceTimeline.Segment> segments() {
+        PackedPriceStore store = packedPrices;
+        Stream<PriceKey> packedKeys = store.keys()
+                .mapToObj(key -> new PriceKey(PackedPriceStore.productId(key), PackedPriceStore.brandId(key)));
+        return Stream.concat(packedKeys, timelines.keySet().stream())
+                .distinct()
+                .sorted(Comparator.comparing(PriceKey::productId).thenComparing(PriceKey::brandId))
+                .map(key -> {
+                    PriceTimeline timeline = timelines.get(key);
+                    return timeline != null ? timeline : PriceTimeline.of(store.getPrices(key.productId(), key.brandId()));
+                })
+                .flatMap(timeline -> timeline.getSegments().stream());
+    }
+
+    public void add(Price price) {
+        Price copy = shallowCopy(price);
+        timelines.compute(PriceKey.of(copy), (key, current) -> timelineOf(key, current).with(copy));
+    }
+
+    /**
+     * Removes the price from its pair. During a load the removal is also recorded, as the load may already have
+     * read the price, and applied again once the loaded prices are in place.
+     */
+    public void remove(Price price) {
+        PriceKey key = PriceKey.of(price);
+        if (loading) {
+            removedWhileLoading.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(price.getId());
+        }
+        remove(key, price.getId());
+    }
+
+    private void remove(PriceKey key, Long priceId) {
+        timelines.compute(key, (k, current) -> {
+            PriceTimeline updated = timelineOf(k, current).without(priceId);
+            return updated.isEmpty() && !packedPrices.contains(k.productId(), k.brandId()) ? null : updated;
+        });
+    }
+
+    /**
+     * Publishes the number of prices held by the packed store and the heap it takes, in total and per million
+     * prices.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("pricing.index.prices", this, index -> index.packedPrices.size())
+                .description("Prices held by the packed price store")
+                .register(registry);
+        Gauge.builder("pricing.index.memory", this, index -> index.packedPrices.getFootprint().bytes())
+                .description("Heap used by the packed price store")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder("pricing.index.memory.per.million", this,
+                        index -> index.packedPrices.getFootprint().bytesPerMillionPrices())
+                .description("Heap used by the packed price store per million prices")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+
+    public PackedPriceStore.Footprint getFootprint() {
+        return packedPrices.getFootprint();
+    }
+
+    /**
+     * Adds the given prices to the pair's timeline, keeping the timeline's own version of any price with the
+     * same ID.
+     */
+    private void merge(PriceKey key, List<Price> prices) {
+        timelines.compute(key, (k, current) -> {
+            Map<Long, Price> merged = new LinkedHashMap<>();
+            prices.forEach(price -> merged.put(price.getId(), price));
+            if (current != null) {
+                current.getPrices().forEach(price -> merged.put(price.getId(), price));
+            }
+            return PriceTimeline.of(merged.values());
+        });
+    }
+
+    /**
+     * The pair's timeline, built from the packed store the first time the pair is written.
+     */
+    private PriceTimeline timelineOf(PriceKey key, PriceTimeline current) {
+        return current != null ? current : PriceTimeline.of(packedPrices.getPrices(key.productId(), key.brandId()));
+    }
+
+    /**
+     * Keeps only the scalar fields and the brand/product IDs so the index never pins entity graphs in memory.
+     */
+    private static Price shallowCopy(Price price) {
+        return Price.builder()
+                .id(price.getId())
+                .brand(Brand.builder().id(price.getBrand().getId()).build())
+                .product(Product.builder().id(price.getProduct().getId()).build())
+                .priceList(price.getPriceList())
+                .startDate(price.getStartDate())
+                .endDate(price.getEndDate())
+                .priority(price.getPriority())
+                .price(price.getPrice())
+                .currency(price.getCurrency())
+                .build();
+    }
+
+    record PriceKey(Long productId, Long brandId) {
+        static PriceKey of(Price price) {
+            return new PriceKey(price.getProduct().getId(), price.getBrand().getId());
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.pricing_service.infraestructure.index;
+
+import com.example.pricing_service.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Immutable, time-sorted view of every price of a single (product, brand) pair.
+ *
+ * The overlapping price ranges are resolved once, when the timeline is built, into non-overlapping
+ * half-open segments {@code [start, end)} each holding its winning price. A lookup is then a binary
+ * search over the segment starts.
+ *
+ * A price applies strictly inside its range ({@code startDate < date < endDate}), the same rule the
+ * database query uses, so each range is shifted by one {@link #TICK} before being resolved.
+ * Postgres timestamps have microsecond precision, which keeps both read paths in agreement.
+ */
+public final class PriceTimeline {
+
+    static final ChronoUnit TICK = ChronoUnit.MICROS;
+
+    private static final Comparator<Price> PRECEDENCE = Comparator
+            .comparing(Price::getPriority, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Price::getPriceList, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Price::getId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .reversed();
+
+    private static final PriceTimeline EMPTY = new PriceTimeline(
+            List.of(), new LocalDateTime[0], new LocalDateTime[0], new Price[0], new LocalDateTime[0]);
+
+    private final List<Price> prices;
+    private final LocalDateTime[] starts;
+    private final LocalDateTime[] ends;
+    private final Price[] winners;
+    private final LocalDateTime[] boundaries;
+
+    private PriceTimeline(List<Price> prices, LocalDateTime[] starts, LocalDateTime[] ends, Price[] winners,
+                          LocalDateTime[] boundaries) {
+        this.prices = prices;
+        this.starts = starts;
+        this.ends = ends;
+        this.winners = winners;
+        this.boundaries = boundaries;
+    }
+
+    /**
+     * Builds the timeline for the given prices, resolving overlaps by priority.
+     *
+     * @param prices Prices of a single (product, brand) pair.
+     * @return The resolved {@link PriceTimeline}.
+     */
+    public static PriceTimeline of(Collection<Price> prices) {
+        if (prices.isEmpty()) {
+            return EMPTY;
+        }
+
+        TreeMap<LocalDateTime, List<Price>> opening = new TreeMap<>();
+        TreeMap<LocalDateTime, List<Price>> closing = new TreeMap<>();
+        TreeSet<LocalDateTime> priceBoundaries = new TreeSet<>();
+        for (Price price : prices) {
+            priceBoundaries.add(price.getStartDate());
+            priceBoundaries.add(price.getEndDate());
+            LocalDateTime from = effectiveStart(price);
+            if (from.isBefore(price.getEndDate())) {
+                opening.computeIfAbsent(from, key -> new ArrayList<>()).add(price);
+                closing.computeIfAbsent(price.getEndDate(), key -> new ArrayList<>()).add(price);
+            }
+        }
+
+        TreeSet<LocalDateTime> boundaries = new TreeSet<>(opening.keySet());
+        boundaries.addAll(closing.keySet());
+
+        List<LocalDateTime> segmentStarts = new ArrayList<>();
+        List<LocalDateTime> segmentEnds = new ArrayList<>();
+        List<Price> segmentWinners = new ArrayList<>();
+        TreeSet<Price> active = new TreeSet<>(PRECEDENCE);
+        LocalDateTime previous = null;
+
+        for (LocalDateTime boundary : boundaries) {
+            if (previous != null && !active.isEmpty()) {
+                Price winner = active.first();
+                int last = segmentWinners.size() - 1;
+                if (last >= 0 && segmentWinners.get(last) == winner && segmentEnds.get(last).equals(previous)) {
+                    segmentEnds.set(last, boundary);
+                } else {
+                    segmentStarts.add(previous);
+                    segmentEnds.add(boundary);
+                    segmentWinners.add(winner);
+                }
+            }
+            closing.getOrDefault(boundary, List.of()).forEach(active::remove);
+            active.addAll(opening.getOrDefault(boundary, List.of()));
+            previous = boundary;
+        }
+
+        return new PriceTimeline(
+                List.copyOf(prices),
+                segmentStarts.toArray(LocalDateTime[]::new),
+                segmentEnds.toArray(LocalDateTime[]::new),
+                segmentWinners.toArray(Price[]::new),
+                priceBoundaries.toArray(LocalDateTime[]::new));
+    }
+
+    /**
+     * Returns the highest-priority price applicable at the given date.
+     *
+     * @param applicationDate The date for which the price is needed.
+     * @return An {@link Optional} containing the applicable {@link Price}, or empty if no price covers the date.
+     */
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate) {
+        int index = floorSegment(applicationDate);
+        if (index < 0 || !applicationDate.isBefore(ends[index])) {
+            return Optional.empty();
+        }
+        return Optional.of(winners[index]);
+    }
+
+    /**
+     * Returns the first start or end date of these prices falling at or after the given date. The applicable
+     * price is the same at every instant from {@code date} up to, but excluding, that boundary.
+     *
+     * @param date The date to search from.
+     * @return An {@link Optional} containing the next boundary, or empty if there is none.
+     */
+    public Optional<LocalDateTime> findNextBoundary(LocalDateTime date) {
+        int index = Arrays.binarySearch(boundaries, date);
+        int next = index >= 0 ? index : -index - 1;
+        return next < boundaries.length ? Optional.of(boundaries[next]) : Optional.empty();
+    }
+
+    /**
+     * Returns a copy of this timeline with the given price added, replacing any price with the same ID.
+     */
+    public PriceTimeline with(Price price) {
+        List<Price> updated = new ArrayList<>(prices.size() + 1);
+        prices.stream()
+                .filter(existing -> !Objects.equals(existing.getId(), price.getId()))
+                .forEach(updated::add);
+        updated.add(price);
+        return of(updated);
+    }
+
+    /**
+     * Returns a copy of this timeline without the price with the given ID.
+     */
+    public PriceTimeline without(Long priceId) {
+        return of(prices.stream()
+                .filter(existing -> !Objects.equals(existing.getId(), priceId))
+                .toList());
+    }
+
+    public List<Price> getPrices() {
+        return prices;
+    }
+
+    /**
+     * Returns the resolved, non-overlapping segments in chronological order.
+     */
+    public List<Segment> getSegments() {
+        List<Segment> segments = new ArrayList<>(starts.length);
+        for (int i = 0; i < starts.length; i++) {
+            segments.add(new Segment(starts[i], ends[i], winners[i]));
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the resolved segments overlapping {@code [from, to)} in chronological order, the first and last
+     * ones clipped to the window.
+     */
+    public List<Segment> getSegments(LocalDateTime from, LocalDateTime to) {
+        List<Segment> segments = new ArrayList<>();
+        int first = Math.max(floorSegment(from), 0);
+        for (int i = first; i < starts.length && starts[i].isBefore(to); i++) {
+            if (ends[i].isAfter(from)) {
+                segments.add(new Segment(starts[i].isBefore(from) ? from : starts[i],
+                        ends[i].isAfter(to) ? to : ends[i], winners[i]));
+            }
+        }
+        return segments;
+    }
+
+    public boolean isEmpty() {
+        return prices.isEmpty();
+    }
+
+    private int floorSegment(LocalDateTime applicationDate) {
+        int low = 0;
+        int high = starts.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid].isAfter(applicationDate)) {
+                high = mid - 1;
+            } else {
+                found = mid;
+                low = mid + 1;
+            }
+        }
+        return found;
+    }
+
+    private static LocalDateTime effectiveStart(Price price) {
+        return price.getStartDate().plus(1, TICK);
+    }
+
+    /**
+     * Half-open interval {@code [start, end)} during which {@code price} is the applicable price.
+     */
+    public record Segment(LocalDateTime start, LocalDateTime end, Price price) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.pricing_service.infraestructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every method of the domain's repository ports, the application services and the MapStruct mappers.
+ *
+ * Each method gets a {@link Timer} tagged with the implementing class and the method name, named
+ * {@value #REPOSITORY_TIMER}, {@value #SERVICE_TIMER} or {@value #MAPPER_TIMER}; their percentiles and histograms
+ * are configured under {@code management.metrics.distribution}. Repository and mapper calls are also added to
+ * the request's {@link StageTimings}.
+ *
+ * Mappers are called once per element of a collection, so finding the timer of a call allocates nothing: the
+ * timers are cached per target class, then per method.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "pricing.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PortTimingAspect {
+
+    public static final String REPOSITORY_TIMER = "pricing.repository";
+    public static final String SERVICE_TIMER = "pricing.service";
+    public static final String MAPPER_TIMER = "pricing.mapper";
+
+    private final MeterRegistry meterRegistry;
+    private final Timers repositoryTimers = new Timers(REPOSITORY_TIMER);
+    private final Timers serviceTimers = new Timers(SERVICE_TIMER);
+    private final Timers mapperTimers = new Timers(MAPPER_TIMER);
+
+    public PortTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.example.pricing_service.domain.port.*Repository.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, repositoryTimers, StageTimings.Stage.DB);
+    }
+
+    @Around("execution(* com.example.pricing_service.application.service.*Service.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, serviceTimers, null);
+    }
+
+    @Around("execution(* com.example.pricing_service.infraestructure.rest.mapper.*Mapper.*(..))")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, mapperTimers, StageTimings.Stage.MAPPING);
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, Timers timers, StageTimings.Stage stage) throws Throwable {
+        Timer timer = timers.get(joinPoint.getTarget().getClass(),
+                ((MethodSignature) joinPoint.getSignature()).getMethod());
+        long entered = stage == null ? 0 : StageTimings.enter(stage);
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (stage != null) {
+                StageTimings.exit(stage, entered);
+            }
+        }
+    }
+
+    /**
+     * The timers of one pointcut, by target class and method.
+     */
+    private final class Timers {
+
+        private final String name;
+        private final Map<Class<?>, Map<Method, Timer>> byType = new ConcurrentHashMap<>();
+
+        Timers(String name) {
+            this.name = name;
+        }
+
+        Timer get(Class<?> type, Method method) {
+            Map<Method, Timer> byMethod = byType.get(type);
+            if (byMethod == null) {
+                byMethod = byType.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+            }
+            Timer timer = byMethod.get(method);
+            return timer != null ? timer : byMethod.computeIfAbsent(method, key -> register(type, key));
+        }
+
+        private Timer register(Class<?> type, Method method) {
+            return Timer.builder(name)
+                    .tag("class", ClassUtils.getUserClass(type).getSimpleName())
+                    .tag("method", method.getName())
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.pricing_service.infraestructure.metrics;
+
+import java.util.Locale;
+
+/**
+ * Time a request spends in each {@link Stage}, recorded on the thread serving it and reported in its
+ * {@code Server-Timing} header.
+ *
+ * Only the outermost call of a stage is counted, so a repository delegating to another one is not counted
+ * twice. Stages are measured independently of each other: mapping done inside a repository counts towards both
+ * {@link Stage#DB} and {@link Stage#MAPPING}.
+ */
+public final class StageTimings {
+
+    private static final ThreadLocal<StageTimings> CURRENT = new ThreadLocal<>();
+
+    private final long started = System.nanoTime();
+    private final long[] nanos = new long[Stage.values().length];
+    private final int[] depth = new int[Stage.values().length];
+
+    public enum Stage {
+        DB("db"),
+        MAPPING("map"),
+        SERIALIZATION("ser");
+
+        private final String metricName;
+
+        Stage(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+    }
+
+    private StageTimings() {
+    }
+
+    /**
+     * Starts recording the stages of the current thread's request.
+     *
+     * @return The timings, to be closed with {@link #stop()} once the request is served.
+     */
+    public static StageTimings start() {
+        StageTimings timings = new StageTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Marks the start of a call belonging to a stage.
+     *
+     * @param stage The stage of the call.
+     * @return The value to hand to {@link #exit(Stage, long)} when the call returns.
+     */
+    public static long enter(Stage stage) {
+        StageTimings timings = CURRENT.get();
+        if (timings == null) {
+            return 0;
+        }
+        return timings.depth[stage.ordinal()]++ == 0 ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Marks the end of a call started with {@link #enter(Stage)}.
+     */
+    public static void exit(Stage stage, long entered) {
+        StageTimings timings = CURRENT.get();
+        if (timings == null) {
+            return;
+        }
+        if (--timings.depth[stage.ordinal()] == 0 && entered != 0) {
+            timings.nanos[stage.ordinal()] += System.nanoTime() - entered;
+        }
+    }
+
+    public long getNanos(Stage stage) {
+        return nanos[stage.ordinal()];
+    }
+
+    /**
+     * Formats the stages recorded so far, and the time elapsed since the request started, as the value of a
+     * {@code Server-Timing} header, e.g. {@code db;dur=1.204, map;dur=0.087, ser;dur=0.311, total;dur=2.050}.
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder(64);
+        for (Stage stage : Stage.values()) {
+            append(header, stage.getMetricName(), nanos[stage.ordinal()]);
+            header.append(", ");
+        }
+        append(header, "total", System.nanoTime() - started);
+        return header.toString();
+    }
+
+    private static void append(StringBuilder header, String metricName, long nanos) {
+        header.append(metricName).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+}
@@ -1,21 +1,50 @@
 package com.example.pricing_service.infraestructure.repository;
 
 import com.example.pricing_service.infraestructure.entity.BrandEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BrandJpaRepository extends JpaRepository<BrandEntity, Long> {
+    @EntityGraph(attributePaths = "productList")
     Optional<BrandEntity> findByName(String name);
+    @EntityGraph(attributePaths = "productList")
+    Optional<BrandEntity> findWithProductListById(Long id);
     @Modifying
     @Query("DELETE FROM BrandEntity b WHERE b.name = :name")
     void deleteByName(@Param("name") String name);
     @Query("SELECT b FROM BrandEntity b JOIN b.productList p WHERE p.id = :productId")
     List<BrandEntity> findBrandsByProductId(@Param("productId") Long productId);
-}
\ No newline at end of file
+    @Query("SELECT b.id FROM BrandEntity b WHERE b.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+    @Query(value = "SELECT pb.brand_id FROM public.product_brand pb WHERE pb.product_id = :productId", nativeQuery = true)
+    List<Long> findBrandIdsByProductId(@Param("productId") Long productId);
+    @Modifying
+    @Query(value = "INSERT INTO public.product_brand (brand_id, product_id) " +
+            "SELECT b.id, :productId FROM public.brands b WHERE b.id IN (:brandIds) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int addProductToBrands(@Param("productId") Long productId, @Param("brandIds") Collection<Long> brandIds);
+    @Modifying
+    @Query(value = "DELETE FROM public.product_brand WHERE product_id = :productId AND brand_id IN (:brandIds)",
+            nativeQuery = true)
+    int removeProductFromBrands(@Param("productId") Long productId, @Param("brandIds") Collection<Long> brandIds);
+    @Query(value = "SELECT pb.product_id FROM public.product_brand pb WHERE pb.brand_id = :brandId", nativeQuery = true)
+    List<Long> findProductIdsByBrandId(@Param("brandId") Long brandId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO public.product_brand (brand_id, product_id) " +
+            "SELECT :brandId, p.id FROM public.products p WHERE p.id IN (:productIds) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int addProductsToBrand(@Param("brandId") Long brandId, @Param("productIds") Collection<Long> productIds);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM public.product_brand WHERE brand_id = :brandId AND product_id IN (:productIds)",
+            nativeQuery = true)
+    int removeProductsFromBrand(@Param("brandId") Long brandId, @Param("productIds") Collection<Long> productIds);
+}
@@ -1,13 +1,20 @@
 package com.example.pricing_service.infraestructure.repository;
 
 import com.example.pricing_service.infraestructure.entity.PriceEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
@@ -15,6 +22,17 @@ public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
             Long productId, Long brandId, LocalDateTime startDate, LocalDateTime endDate);
     Optional<PriceEntity> findByBrandIdAndProductIdAndPriceListAndStartDateAndEndDate(
             Long brandId, Long productId, Integer priceList, LocalDateTime startDate, LocalDateTime endDate);
-    @Query("SELECT COALESCE(MAX(p.priceList), 0) FROM PriceEntity p WHERE p.product.id = :productId AND p.brand.id = :brandId")
-    Integer findMaxPriceListByProductAndBrand(@Param("productId") Long productId, @Param("brandId") Long brandId);
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p FROM PriceEntity p")
+    Stream<PriceEntity> streamAll();
+    List<PriceEntity> findByProductIdAndBrandId(Long productId, Long brandId);
+    @Query("SELECT MIN(CASE WHEN p.startDate >= :date THEN p.startDate ELSE p.endDate END) FROM PriceEntity p " +
+            "WHERE p.product.id = :productId AND p.brand.id = :brandId AND p.endDate >= :date")
+    Optional<LocalDateTime> findNextBoundary(@Param("productId") Long productId, @Param("brandId") Long brandId,
+                                             @Param("date") LocalDateTime date);
+    @Query("SELECT DISTINCT p.product.id, p.brand.id FROM PriceEntity p")
+    List<Object[]> findProductBrandPairs();
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT DISTINCT p.product.id, p.brand.id FROM PriceEntity p")
+    Stream<Object[]> streamProductBrandPairs();
 }
\ No newline at end of file
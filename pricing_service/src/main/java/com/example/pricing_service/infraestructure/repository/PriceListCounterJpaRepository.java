@@ -0,0 +1,20 @@
+package com.example.pricing_service.infraestructure.repository;
+
+import com.example.pricing_service.infraestructure.entity.PriceListCounterEntity;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PriceListCounterJpaRepository extends JpaRepository<PriceListCounterEntity, PriceListCounterEntity.Key> {
+    @Transactional
+    @Query(value = "INSERT INTO public.price_list_counters (product_id, brand_id, last_price_list) " +
+            "VALUES (:productId, :brandId, :count) " +
+            "ON CONFLICT (product_id, brand_id) " +
+            "DO UPDATE SET last_price_list = price_list_counters.last_price_list + :count " +
+            "RETURNING last_price_list", nativeQuery = true)
+    Integer allocateNextPriceLists(@Param("productId") Long productId, @Param("brandId") Long brandId,
+                                   @Param("count") int count);
+}
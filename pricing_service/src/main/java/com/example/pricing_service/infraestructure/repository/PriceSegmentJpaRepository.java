@@ -0,0 +1,46 @@
+package com.example.pricing_service.infraestructure.repository;
+
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.infraestructure.entity.PriceSegmentEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@Repository
+public interface PriceSegmentJpaRepository extends JpaRepository<PriceSegmentEntity, Long>, PriceSegmentJpaRepositoryCustom {
+    Optional<PriceSegmentEntity> findFirstByProductIdAndBrandIdAndSegmentStartLessThanEqualAndSegmentEndGreaterThan(
+            Long productId, Long brandId, LocalDateTime segmentStart, LocalDateTime segmentEnd);
+
+    @Query("SELECT new com.example.pricing_service.domain.dto.request.PriceRequest(s.product.id, s.brand.id, " +
+            "s.priceList, s.startDate, s.endDate, s.price, s.currency) FROM PriceSegmentEntity s " +
+            "WHERE s.product.id = :productId AND s.brand.id = :brandId AND s.segmentStart <= :date AND s.segmentEnd > :date")
+    Optional<PriceRequest> findApplicablePriceRequest(@Param("productId") Long productId, @Param("brandId") Long brandId,
+                                                      @Param("date") LocalDateTime date);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new com.example.pricing_service.domain.dto.request.PriceRequest(s.product.id, s.brand.id, " +
+            "s.priceList, s.startDate, s.endDate, s.price, s.currency) FROM PriceSegmentEntity s " +
+            "WHERE s.brand.id = :brandId AND s.segmentStart <= :date AND s.segmentEnd > :date ORDER BY s.product.id")
+    Stream<PriceRequest> streamApplicablePriceRequests(@Param("brandId") Long brandId, @Param("date") LocalDateTime date);
+
+    @Query("SELECT s FROM PriceSegmentEntity s WHERE s.product.id = :productId AND s.brand.id = :brandId " +
+            "AND s.segmentStart < :to AND s.segmentEnd > :from ORDER BY s.segmentStart")
+    List<PriceSegmentEntity> findOverlapping(@Param("productId") Long productId, @Param("brandId") Long brandId,
+                                             @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM PriceSegmentEntity s WHERE s.product.id = :productId AND s.brand.id = :brandId")
+    void deleteByProductIdAndBrandId(@Param("productId") Long productId, @Param("brandId") Long brandId);
+}
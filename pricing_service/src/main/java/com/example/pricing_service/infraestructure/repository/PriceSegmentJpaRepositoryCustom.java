@@ -0,0 +1,22 @@
+package com.example.pricing_service.infraestructure.repository;
+
+import com.example.pricing_service.infraestructure.entity.PriceSegmentEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PriceSegmentJpaRepositoryCustom {
+
+    /**
+     * Reads the segments of exactly the given (product, brand) pairs overlapping {@code [from, to]}, the i-th
+     * product ID paired with the i-th brand ID.
+     *
+     * @param productIds The pairs' product IDs.
+     * @param brandIds The pairs' brand IDs, as many as product IDs.
+     * @param from The earliest date to cover.
+     * @param to The latest date to cover.
+     * @return The pairs' segments covering any date in between, in no particular order.
+     */
+    List<PriceSegmentEntity> findCoveringPairs(List<Long> productIds, List<Long> brandIds,
+                                               LocalDateTime from, LocalDateTime to);
+}
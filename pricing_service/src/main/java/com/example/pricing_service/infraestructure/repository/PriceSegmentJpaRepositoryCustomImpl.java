@@ -0,0 +1,46 @@
+package com.example.pricing_service.infraestructure.repository;
+
+import com.example.pricing_service.infraestructure.entity.PriceSegmentEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Matches the pairs with a row-value {@code IN} list, so a batch of lookups reads only the requested pairs
+ * instead of every combination of their products and brands. The list is padded to the next power of two by
+ * repeating the last pair, which keeps the number of distinct statements, and so of cached plans, small.
+ */
+public class PriceSegmentJpaRepositoryCustomImpl implements PriceSegmentJpaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PriceSegmentEntity> findCoveringPairs(List<Long> productIds, List<Long> brandIds,
+                                                      LocalDateTime from, LocalDateTime to) {
+        if (productIds.size() != brandIds.size()) {
+            throw new IllegalArgumentException("Every product ID needs a brand ID");
+        }
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        int pairs = Math.max(1, Integer.highestOneBit(productIds.size() - 1) << 1);
+
+        StringBuilder jpql = new StringBuilder("SELECT s FROM PriceSegmentEntity s WHERE (s.product.id, s.brand.id) IN (");
+        for (int i = 0; i < pairs; i++) {
+            jpql.append(i == 0 ? "" : ", ").append("(:product").append(i).append(", :brand").append(i).append(')');
+        }
+        jpql.append(") AND s.segmentStart <= :to AND s.segmentEnd > :from");
+
+        TypedQuery<PriceSegmentEntity> query = entityManager.createQuery(jpql.toString(), PriceSegmentEntity.class);
+        for (int i = 0; i < pairs; i++) {
+            int pair = Math.min(i, productIds.size() - 1);
+            query.setParameter("product" + i, productIds.get(pair));
+            query.setParameter("brand" + i, brandIds.get(pair));
+        }
+        return query.setParameter("from", from).setParameter("to", to).getResultList();
+    }
+}
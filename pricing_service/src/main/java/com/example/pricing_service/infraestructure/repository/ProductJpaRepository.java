@@ -1,11 +1,39 @@
 package com.example.pricing_service.infraestructure.repository;
 
 import com.example.pricing_service.infraestructure.entity.ProductEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Repository
 public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long> {
-    boolean existsByHashCode(int hashCode);
+    @Query("SELECT p FROM ProductEntity p WHERE p.fingerprint IN :fingerprints")
+    List<ProductEntity> findByFingerprints(@Param("fingerprints") Collection<Long> fingerprints);
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p.fingerprint FROM ProductEntity p")
+    Stream<Long> streamFingerprints();
     ProductEntity findByName(String name);
+    @EntityGraph(attributePaths = "priceList")
+    Optional<ProductEntity> findWithPriceListById(Long id);
+    @EntityGraph(attributePaths = "priceList")
+    List<ProductEntity> findWithPriceListByIdIn(Collection<Long> ids);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM ProductEntity p WHERE p.id = :id")
+    Optional<ProductEntity> findForUpdateById(@Param("id") Long id);
+    @Query("SELECT p.id FROM ProductEntity p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
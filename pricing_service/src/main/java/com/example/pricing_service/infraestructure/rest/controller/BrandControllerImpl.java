@@ -2,6 +2,8 @@ package com.example.pricing_service.infraestructure.rest.controller;
 
 import com.example.pricing_service.application.service.BrandService;
 import com.example.pricing_service.domain.dto.BrandDto;
+import com.example.pricing_service.domain.dto.BrandLookupResultDto;
+import com.example.pricing_service.domain.dto.BrandProductsDto;
 import com.example.pricing_service.domain.dto.request.BrandRequest;
 import com.example.pricing_service.domain.port.BrandController;
 import com.example.pricing_service.infraestructure.commons.constants.ApiPathVariables;
@@ -10,11 +12,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.BRAND_BAD_REQUEST;
 import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.BRAND_NOT_FOUND;
 import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.INTERNAL_SERVER_ERROR;
 
@@ -45,6 +52,32 @@ public class BrandControllerImpl implements BrandController {
         return ResponseEntity.ok(brandRequest);
     }
 
+    /**
+     * Retrieves many brands in a single request.
+     *
+     * @param ids The brands' IDs.
+     * @param productId Optional product to embed the applicable price of in every brand.
+     * @param applicationDate Optional date the embedded prices apply at, now by default.
+     * @return A {@link ResponseEntity} with one {@link BrandLookupResultDto} per ID, in request order.
+     */
+    @Override
+    @GetMapping
+    @Operation(
+            summary = "Retrieve brands by IDs",
+            description = "Fetches the name of every listed brand, without its products. Missing brands are reported as not found. Given a product, each brand carries the product's applicable price in that brand."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Brands retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = BRAND_BAD_REQUEST),
+            @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
+    })
+    public ResponseEntity<List<BrandLookupResultDto>> getBrandsByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) Long productId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime applicationDate) {
+        return ResponseEntity.ok(brandService.getBrandsByIds(ids, productId, applicationDate));
+    }
+
     @Override
     @GetMapping("/name")
     @Operation(
@@ -101,6 +134,30 @@ public class BrandControllerImpl implements BrandController {
         return ResponseEntity.noContent().build();
     }
 
+    @Override
+    @PatchMapping("/{id}" + ApiPathVariables.PRODUCTS_ROUTE)
+    @Operation(
+            summary = "Add or remove products of a brand",
+            description = "Adds and removes the given products of an existing brand, leaving its other products untouched."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Brand products updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @ApiResponse(responseCode = "404", description = BRAND_NOT_FOUND),
+            @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
+    })
+    public ResponseEntity<?> updateBrandProducts(@PathVariable String id, @RequestBody BrandProductsDto brandProductsDto,
+                                                 HttpServletRequest request) {
+        String userId = request.getHeader("userIdRequest");
+        String jwtToken = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (userId == null || jwtToken == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Unauthorized");
+        }
+        brandService.updateBrandProducts(id, brandProductsDto);
+        return ResponseEntity.noContent().build();
+    }
+
     @Override
     @DeleteMapping("/{id}")
     @Operation(
@@ -1,19 +1,42 @@
 package com.example.pricing_service.infraestructure.rest.controller;
 
+import com.example.pricing_service.domain.dto.BasketDto;
+import com.example.pricing_service.domain.dto.BasketPriceDto;
 import com.example.pricing_service.domain.dto.PriceDto;
+import com.example.pricing_service.domain.dto.PriceIngestionReportDto;
+import com.example.pricing_service.domain.dto.PriceLookupDto;
+import com.example.pricing_service.domain.dto.PriceLookupResultDto;
+import com.example.pricing_service.domain.dto.PriceTimelineEntryDto;
 import com.example.pricing_service.domain.port.PriceController;
 import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.application.service.PriceIngestionService;
 import com.example.pricing_service.application.service.PriceService;
 import com.example.pricing_service.infraestructure.commons.constants.ApiPathVariables;
+import com.example.pricing_service.infraestructure.commons.error.ErrorResponse;
+import com.example.pricing_service.infraestructure.commons.error.ErrorResponses;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
 
 import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.*;
 
@@ -22,9 +45,14 @@ import static com.example.pricing_service.infraestructure.commons.constants.Exce
 public class PriceControllerImpl implements PriceController {
 
     private final PriceService priceService;
+    private final PriceIngestionService priceIngestionService;
+    private final ObjectMapper objectMapper;
 
-    public PriceControllerImpl(PriceService priceService) {
+    public PriceControllerImpl(PriceService priceService, PriceIngestionService priceIngestionService,
+                               ObjectMapper objectMapper) {
         this.priceService = priceService;
+        this.priceIngestionService = priceIngestionService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -33,7 +61,8 @@ public class PriceControllerImpl implements PriceController {
      * @param productId      The ID of the product.
      * @param brandId        The ID of the brand.
      * @param applicationDate The date and time when the price should be applicable.
-     * @return A {@link ResponseEntity} containing the {@link PriceRequest} with the applicable price details.
+     * @return A {@link ResponseEntity} containing the {@link PriceRequest} with the applicable price details, or
+     * the not-found error when there is none. A miss is answered without throwing, it is a common outcome.
      */
     @GetMapping
     @Operation(
@@ -43,15 +72,120 @@ public class PriceControllerImpl implements PriceController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = PRICE_OK_RESPONSE),
             @ApiResponse(responseCode = "400", description = PRICE_BAD_REQUEST),
-            @ApiResponse(responseCode = "404", description = PRICE_NOT_FOUND),
+            @ApiResponse(responseCode = "404", description = PRICE_NOT_FOUND, content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
     })
     public ResponseEntity<PriceRequest> getPrice(
             @RequestParam Long productId,
             @RequestParam Long brandId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime applicationDate) {
-        PriceRequest priceRequest = priceService.getApplicablePrice(productId, brandId, applicationDate);
-        return ResponseEntity.ok(priceRequest);
+        return priceService.findApplicablePrice(productId, brandId, applicationDate)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ErrorResponses.typed(HttpStatus.NOT_FOUND, PRICE_NOT_FOUND));
+    }
+
+    /**
+     * Retrieves the applicable price of many (product, brand, date) tuples in a single request.
+     *
+     * @param lookups The tuples to resolve.
+     * @return A {@link ResponseEntity} with one {@link PriceLookupResultDto} per tuple, in request order.
+     */
+    @PostMapping(ApiPathVariables.BATCH_ROUTE)
+    @Operation(
+            summary = "Retrieve applicable prices in batch",
+            description = "Fetches the applicable price of every (product, brand, date) tuple. Tuples without a price are reported as not found."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = PRICE_OK_RESPONSE),
+            @ApiResponse(responseCode = "400", description = PRICE_BAD_REQUEST),
+            @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
+    })
+    public ResponseEntity<List<PriceLookupResultDto>> getPrices(@RequestBody List<PriceLookupDto> lookups) {
+        return ResponseEntity.ok(priceService.getApplicablePrices(lookups));
+    }
+
+    /**
+     * Prices a basket of (product, brand, quantity) lines at one instant in a single request.
+     *
+     * @param basket The instant and the lines to price.
+     * @return A {@link ResponseEntity} with the {@link BasketPriceDto}: the price and total of every line, the
+     * subtotals per currency and the lines that have no price.
+     */
+    @PostMapping(ApiPathVariables.BASKET_ROUTE)
+    @Operation(
+            summary = "Price a basket",
+            description = "Resolves the applicable price of every basket line at a given date and time and totals them per currency. Lines without a price are reported as missing."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = PRICE_BASKET_OK_RESPONSE),
+            @ApiResponse(responseCode = "400", description = PRICE_BAD_REQUEST),
+            @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
+    })
+    public ResponseEntity<BasketPriceDto> priceBasket(@RequestBody BasketDto basket) {
+        return ResponseEntity.ok(priceService.priceBasket(basket));
+    }
+
+    /**
+     * Retrieves every effective price of a product and brand over a window, replacing a series of point
+     * lookups with a single call.
+     *
+     * @param productId The ID of the product.
+     * @param brandId The ID of the brand.
+     * @param from The start of the window, inclusive.
+     * @param to The end of the window, exclusive.
+     * @return A {@link ResponseEntity} with the {@link PriceTimelineEntryDto} entries in chronological order,
+     * empty when no price applies in the window.
+     */
+    @GetMapping(ApiPathVariables.TIMELINE_ROUTE)
+    @Operation(
+            summary = "Retrieve price timeline",
+            description = "Lists the effective prices of a product and brand between two dates, one entry per half-open range over which the applicable price does not change."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = PRICE_OK_RESPONSE),
+            @ApiResponse(responseCode = "400", description = PRICE_BAD_REQUEST),
+            @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
+    })
+    public ResponseEntity<List<PriceTimelineEntryDto>> getPriceTimeline(
+            @RequestParam Long productId,
+            @RequestParam Long brandId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(priceService.getPriceTimeline(productId, brandId, from, to));
+    }
+
+    /**
+     * Writes the applicable price of every product of a brand at a given date as newline-delimited JSON.
+     *
+     * Each price is written to the response as soon as it is read from the database, so the export runs in
+     * constant memory whatever the size of the catalog. Every line, the last one included, ends with a newline.
+     * Nothing is written before the first price is read, so an invalid request is still answered with its
+     * error status.
+     *
+     * @param brandId The ID of the brand.
+     * @param applicationDate The date and time when the prices should be applicable.
+     * @param response The response the {@link PriceRequest} lines are written to.
+     * @throws IOException if the response cannot be written.
+     */
+    @GetMapping(value = ApiPathVariables.EXPORT_ROUTE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Export applicable prices of a brand",
+            description = "Streams the applicable price of every product of a brand at a given date and time, one JSON object per line."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = PRICE_OK_RESPONSE),
+            @ApiResponse(responseCode = "400", description = PRICE_BAD_REQUEST),
+            @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
+    })
+    public void exportPrices(
+            @RequestParam Long brandId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime applicationDate,
+            HttpServletResponse response) throws IOException {
+        NdjsonLines lines = new NdjsonLines(objectMapper.writerFor(PriceRequest.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE), response);
+        priceService.exportApplicablePrices(brandId, applicationDate, lines);
+        lines.finish();
     }
 
     /**
@@ -78,6 +212,30 @@ public class PriceControllerImpl implements PriceController {
         return ResponseEntity.ok(createdPrice);
     }
 
+    /**
+     * Creates many prices from a single body, either a JSON array or newline-delimited JSON.
+     *
+     * Rows are validated like in {@link #createPrice(PriceDto)}; rows that fail are reported and the others
+     * are still created.
+     *
+     * @param prices The request body, read as a stream so large loads are never held in memory at once.
+     * @return A {@link ResponseEntity} containing the {@link PriceIngestionReportDto} of the load.
+     */
+    @PostMapping(value = ApiPathVariables.BULK_ROUTE,
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(
+            summary = "Create prices in bulk",
+            description = "Creates every valid price of a JSON array or NDJSON stream and reports the rows that could not be created."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = PRICE_BULK_OK_RESPONSE),
+            @ApiResponse(responseCode = "400", description = PRICE_BULK_UNREADABLE),
+            @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
+    })
+    public ResponseEntity<PriceIngestionReportDto> createPrices(InputStream prices) {
+        return ResponseEntity.ok(priceIngestionService.ingestPrices(prices));
+    }
+
     @DeleteMapping
     @Operation(
             summary = "Delete price",
@@ -99,4 +257,44 @@ public class PriceControllerImpl implements PriceController {
         priceService.deletePrice(brandId, productId, priceList, startDate, endDate);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Writes one JSON object per line to the response, opening its output only when the first line is written.
+     * The servlet stream is left to the container, also when the export fails halfway.
+     */
+    private static final class NdjsonLines implements Consumer<PriceRequest> {
+
+        private final ObjectWriter writer;
+        private final HttpServletResponse response;
+        private JsonGenerator generator;
+
+        NdjsonLines(ObjectWriter writer, HttpServletResponse response) {
+            this.writer = writer;
+            this.response = response;
+        }
+
+        @Override
+        public void accept(PriceRequest price) {
+            try {
+                if (generator == null) {
+                    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+                    generator = writer.createGenerator(response.getOutputStream())
+                            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                            .setRootValueSeparator(null);
+                }
+                writer.writeValue(generator, price);
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            if (generator == null) {
+                response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+                return;
+            }
+            generator.close();
+        }
+    }
 }
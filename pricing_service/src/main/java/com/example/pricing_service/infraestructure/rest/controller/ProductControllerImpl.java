@@ -2,6 +2,7 @@ package com.example.pricing_service.infraestructure.rest.controller;
 
 import com.example.pricing_service.application.service.ProductService;
 import com.example.pricing_service.domain.dto.ProductDto;
+import com.example.pricing_service.domain.dto.ProductLookupResultDto;
 import com.example.pricing_service.domain.dto.request.ProductRequest;
 import com.example.pricing_service.domain.port.ProductController;
 import com.example.pricing_service.infraestructure.commons.constants.ApiPathVariables;
@@ -9,10 +10,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.INTERNAL_SERVER_ERROR;
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRODUCT_BAD_REQUEST;
 import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRODUCT_NOT_FOUND;
 
 @RestController
@@ -41,6 +47,32 @@ public class ProductControllerImpl implements ProductController {
         return ResponseEntity.ok(productRequest);
     }
 
+    /**
+     * Retrieves many products in a single request.
+     *
+     * @param ids The products' IDs.
+     * @param brandId Optional brand to embed every product's applicable price for.
+     * @param applicationDate Optional date the embedded prices apply at, now by default.
+     * @return A {@link ResponseEntity} with one {@link ProductLookupResultDto} per ID, in request order.
+     */
+    @Override
+    @GetMapping
+    @Operation(
+            summary = "Retrieve products by IDs",
+            description = "Fetches the details of every listed product. Missing products are reported as not found. Given a brand, each product carries its applicable price for that brand."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Products retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = PRODUCT_BAD_REQUEST),
+            @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
+    })
+    public ResponseEntity<List<ProductLookupResultDto>> getProductsByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime applicationDate) {
+        return ResponseEntity.ok(productService.getProductsByIds(ids, brandId, applicationDate));
+    }
+
     @Override
     @PostMapping
     @Operation(
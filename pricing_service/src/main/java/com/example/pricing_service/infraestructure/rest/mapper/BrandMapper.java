@@ -3,25 +3,63 @@ package com.example.pricing_service.infraestructure.rest.mapper;
 import com.example.pricing_service.domain.dto.BrandDto;
 import com.example.pricing_service.domain.dto.request.BrandRequest;
 import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Product;
 import com.example.pricing_service.infraestructure.entity.BrandEntity;
+import com.example.pricing_service.infraestructure.entity.ProductEntity;
 import org.mapstruct.*;
 
 @Mapper(componentModel = "spring")
 public interface BrandMapper {
 
+    @Mapping(target = "productList", qualifiedByName = "shallowProduct")
     Brand toBrand(BrandEntity brandEntity);
 
     Iterable<Brand> toBrands(Iterable<BrandEntity> brandEntities);
 
-    @InheritInverseConfiguration
+    /**
+     * Maps the brand without its products, which are left unloaded.
+     */
+    @Named("brandSummary")
+    @Mapping(target = "productList", ignore = true)
+    Brand toBrandSummary(BrandEntity brandEntity);
+
+    @InheritInverseConfiguration(name = "toBrand")
+    @Mapping(target = "productList", source = "productList")
     BrandEntity toBrandEntity(Brand brand);
 
+    @Mapping(target = "productIds", source = "productList", qualifiedByName = "productId")
     BrandRequest toBrandRequest(Brand brand);
 
+    @Mapping(target = "productIds", source = "productList", qualifiedByName = "productId")
     BrandDto toBrandDto(Brand brand);
 
+    @Mapping(target = "productList", source = "productIds", qualifiedByName = "productById")
     Brand toBrandFromDto(BrandDto brandDto);
 
+    /**
+     * Maps a product of the brand without its prices, so mapping a brand stops at its products instead of
+     * walking on to their prices and, through them, to other brands.
+     */
+    @Named("shallowProduct")
+    @Mapping(target = "priceList", ignore = true)
+    Product toShallowProduct(ProductEntity productEntity);
+
+    @Named("productById")
+    default Product productById(Long productId) {
+        if (productId == null) {
+            return null;
+        }
+        return Product.builder().id(productId).build();
+    }
+
+    @Named("productId")
+    default Long productId(Product product) {
+        if (product == null) {
+            return null;
+        }
+        return product.getId();
+    }
+
     default BrandEntity map(Long brandId) {
         if (brandId == null) {
             return null;
@@ -1,24 +1,51 @@
 package com.example.pricing_service.infraestructure.rest.mapper;
 
 import com.example.pricing_service.domain.dto.PriceDto;
+import com.example.pricing_service.domain.dto.PriceLookupDto;
+import com.example.pricing_service.domain.dto.PriceTimelineEntryDto;
 import com.example.pricing_service.domain.dto.request.PriceRequest;
 import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceInterval;
+import com.example.pricing_service.domain.model.PriceLookup;
 import com.example.pricing_service.infraestructure.entity.PriceEntity;
+import com.example.pricing_service.infraestructure.entity.PriceSegmentEntity;
 import org.mapstruct.*;
 
-@Mapper(componentModel = "spring", uses = {BrandMapper.class, ProductMapper.class})
+@Mapper(componentModel = "spring", uses = {BrandMapper.class, ProductMapper.class, ReferenceMapper.class})
 public interface PriceMapper {
 
+    /**
+     * Maps the price with its whole brand and product, which loads their graphs. The adapters return
+     * {@link #toShallowPrice} instead.
+     */
     Price toPrice(PriceEntity priceEntity);
 
-    @InheritInverseConfiguration
+    @InheritInverseConfiguration(name = "toPrice")
     PriceEntity toPriceEntity(Price price);
 
     PriceDto toPriceDto(PriceEntity priceEntity);
 
     Price toPriceFromDto(PriceDto priceDto);
 
+    @Mapping(target = "productId", source = "product.id")
+    @Mapping(target = "brandId", source = "brand.id")
     PriceRequest toPriceRequest(Price price);
 
     PriceDto toPriceDtoFromPrice(Price price);
+
+    PriceLookup toPriceLookup(PriceLookupDto priceLookupDto);
+
+    @Mapping(target = "priceList", source = "price.priceList")
+    @Mapping(target = "price", source = "price.price")
+    @Mapping(target = "currency", source = "price.currency")
+    PriceTimelineEntryDto toPriceTimelineEntryDto(PriceInterval priceInterval);
+
+    @Mapping(target = "brand", source = "brand", qualifiedByName = "brandReference")
+    @Mapping(target = "product", source = "product", qualifiedByName = "productReference")
+    Price toShallowPrice(PriceEntity priceEntity);
+
+    @Mapping(target = "id", source = "priceId")
+    @Mapping(target = "brand", source = "brand", qualifiedByName = "brandReference")
+    @Mapping(target = "product", source = "product", qualifiedByName = "productReference")
+    Price segmentToPrice(PriceSegmentEntity priceSegmentEntity);
 }
\ No newline at end of file
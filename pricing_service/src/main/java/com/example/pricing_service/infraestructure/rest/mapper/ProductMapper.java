@@ -2,11 +2,13 @@ package com.example.pricing_service.infraestructure.rest.mapper;
 
 import com.example.pricing_service.domain.dto.ProductDto;
 import com.example.pricing_service.domain.dto.request.ProductRequest;
+import com.example.pricing_service.domain.model.Price;
 import com.example.pricing_service.domain.model.Product;
+import com.example.pricing_service.infraestructure.entity.PriceEntity;
 import com.example.pricing_service.infraestructure.entity.ProductEntity;
 import org.mapstruct.*;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = ReferenceMapper.class)
 public interface ProductMapper {
 
     Product toProduct(ProductEntity productEntity);
@@ -18,12 +20,29 @@ public interface ProductMapper {
 
     Iterable<ProductEntity> toProductEntities(Iterable<Product> products);
 
+    @Mapping(target = "priceIds", source = "priceList", qualifiedByName = "priceId")
     ProductRequest toProductRequest(Product product);
 
     ProductDto toProductDto(Product product);
 
     Product toProductFromDto(ProductDto productDto);
 
+    /**
+     * Maps a price of the product with references to its brand and product, so mapping a product stops at its
+     * prices instead of walking on to their brands and the brands' products.
+     */
+    @Mapping(target = "brand", source = "brand", qualifiedByName = "brandReference")
+    @Mapping(target = "product", source = "product", qualifiedByName = "productReference")
+    Price toShallowPrice(PriceEntity priceEntity);
+
+    @Named("priceId")
+    default Long priceId(Price price) {
+        if (price == null) {
+            return null;
+        }
+        return price.getId();
+    }
+
     default ProductEntity map(Long productId) {
         if (productId == null) {
             return null;
@@ -0,0 +1,31 @@
+package com.example.pricing_service.infraestructure.rest.mapper;
+
+import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Product;
+import com.example.pricing_service.infraestructure.entity.BrandEntity;
+import com.example.pricing_service.infraestructure.entity.ProductEntity;
+import org.mapstruct.*;
+
+/**
+ * ID-only references to brands and products, for the mappings that must stop at an association instead of
+ * loading and mapping the entity behind it.
+ */
+@Mapper(componentModel = "spring")
+public interface ReferenceMapper {
+
+    @Named("brandReference")
+    default Brand brandReference(BrandEntity brandEntity) {
+        if (brandEntity == null) {
+            return null;
+        }
+        return Brand.builder().id(brandEntity.getId()).build();
+    }
+
+    @Named("productReference")
+    default Product productReference(ProductEntity productEntity) {
+        if (productEntity == null) {
+            return null;
+        }
+        return Product.builder().id(productEntity.getId()).build();
+    }
+}
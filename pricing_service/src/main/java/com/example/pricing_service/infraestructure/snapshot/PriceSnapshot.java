@@ -0,0 +1,299 @@
+package com.example.pricing_service.infraestructure.snapshot;
+
+import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.Product;
+import com.example.pricing_service.infraestructure.index.PriceTimeline;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * Read-only view over a price snapshot file mapped into memory.
+ *
+ * The file holds the resolved {@link PriceTimeline.Segment}s of every (product, brand) pair as fixed-size
+ * records sorted by product ID, brand ID and segment start, so a lookup is a binary search straight over the
+ * mapped bytes: nothing is deserialized up front and the operating system pages the file in on demand.
+ *
+ * Layout, little-endian: a {@link #HEADER_SIZE}-byte header (magic, version, record count, creation time)
+ * followed by {@link #RECORD_SIZE}-byte records. Dates are stored as microseconds since the epoch, the
+ * precision Postgres keeps, and a missing price list or priority as {@link Integer#MIN_VALUE}.
+ */
+public final class PriceSnapshot {
+
+    static final int MAGIC = 0x50524353;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 80;
+
+    private static final int PRODUCT_ID = 0;
+    private static final int BRAND_ID = 8;
+    private static final int SEGMENT_START = 16;
+    private static final int SEGMENT_END = 24;
+    private static final int PRICE_ID = 32;
+    private static final int START_DATE = 40;
+    private static final int END_DATE = 48;
+    private static final int PRICE = 56;
+    private static final int PRICE_LIST = 64;
+    private static final int PRIORITY = 68;
+    private static final int CURRENCY = 72;
+    private static final int CURRENCY_LENGTH = 8;
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+
+    private final ByteBuffer records;
+    private final int count;
+    private final LocalDateTime createdAt;
+
+    private PriceSnapshot(ByteBuffer records, int count, LocalDateTime createdAt) {
+        this.records = records;
+        this.count = count;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Maps the given snapshot file read-only.
+     *
+     * @param file The snapshot file.
+     * @return The mapped {@link PriceSnapshot}, or empty if the file does not exist or is not a valid snapshot.
+     * @throws IOException if the file cannot be read.
+     */
+    public static Optional<PriceSnapshot> open(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                return Optional.empty();
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            long count = mapped.getLong(8);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION
+                    || count < 0 || HEADER_SIZE + count * RECORD_SIZE != size) {
+                return Optional.empty();
+            }
+            LocalDateTime createdAt = fromMicros(mapped.getLong(16));
+            ByteBuffer records = mapped.slice(HEADER_SIZE, (int) (size - HEADER_SIZE)).order(ByteOrder.LITTLE_ENDIAN);
+            return Optional.of(new PriceSnapshot(records, (int) count, createdAt));
+        }
+    }
+
+    /**
+     * Writes the given segments to a snapshot file. The file is written next to its final location and moved
+     * into place at the end, so a reader never maps a partially written snapshot.
+     *
+     * @param file The snapshot file to create or replace.
+     * @param segments The segments to write, sorted by product ID, brand ID and segment start.
+     * @param createdAt When the data of the snapshot was read.
+     * @return The number of segments written.
+     * @throws IOException if the file cannot be written.
+     */
+    public static long write(Path file, Iterator<PriceTimeline.Segment> segments, LocalDateTime createdAt) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 1024).order(ByteOrder.LITTLE_ENDIAN);
+            channel.position(HEADER_SIZE);
+            while (segments.hasNext()) {
+                if (buffer.remaining() < RECORD_SIZE) {
+                    drain(channel, buffer);
+                }
+                putRecord(buffer, segments.next());
+                count++;
+            }
+            drain(channel, buffer);
+
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(count).putLong(toMicros(createdAt)).putLong(0);
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, buffer.position());
+            }
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return count;
+    }
+
+    /**
+     * Retrieves the highest-priority price for a product and brand at a given date.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param applicationDate The date for which the price is needed.
+     * @return An {@link Optional} containing the applicable {@link Price}, or empty if the snapshot has none.
+     */
+    public Optional<Price> findApplicablePrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        long date = toMicros(applicationDate);
+        int index = floorRecord(productId, brandId, date);
+        if (index < 0 || date >= records.getLong(offset(index) + SEGMENT_END)) {
+            return Optional.empty();
+        }
+        return Optional.of(toPrice(offset(index)));
+    }
+
+    /**
+     * Finds the first date, at or after the given one, at which the pair's applicable price changes.
+     *
+     * @param productId The product's ID.
+     * @param brandId The brand's ID.
+     * @param date The date to search from.
+     * @return An {@link Optional} containing the next change, or empty if the price never changes again.
+     */
+    public Optional<LocalDateTime> findNextBoundary(Long productId, Long brandId, LocalDateTime date) {
+        long micros = toMicros(date);
+        int index = floorRecord(productId, brandId, micros);
+        if (index >= 0 && micros < records.getLong(offset(index) + SEGMENT_END)) {
+            return Optional.of(fromMicros(records.getLong(offset(index) + SEGMENT_END)));
+        }
+        int next = index < 0 ? firstRecord(productId, brandId) : index + 1;
+        if (next < count && samePair(offset(next), productId, brandId)) {
+            return Optional.of(fromMicros(records.getLong(offset(next) + SEGMENT_START)));
+        }
+        return Optional.empty();
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Index of the last record of the pair starting at or before {@code date}, or -1 if there is none.
+     */
+    private int floorRecord(long productId, long brandId, long date) {
+        int low = 0;
+        int high = count - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(offset(mid), productId, brandId, date) > 0) {
+                high = mid - 1;
+            } else {
+                found = mid;
+                low = mid + 1;
+            }
+        }
+        return found >= 0 && samePair(offset(found), productId, brandId) ? found : -1;
+    }
+
+    private int firstRecord(long productId, long brandId) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(offset(mid), productId, brandId, Long.MIN_VALUE) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compare(int offset, long productId, long brandId, long date) {
+        int byProduct = Long.compare(records.getLong(offset + PRODUCT_ID), productId);
+        if (byProduct != 0) {
+            return byProduct;
+        }
+        int byBrand = Long.compare(records.getLong(offset + BRAND_ID), brandId);
+        if (byBrand != 0) {
+            return byBrand;
+        }
+        return Long.compare(records.getLong(offset + SEGMENT_START), date);
+    }
+
+    private boolean samePair(int offset, long productId, long brandId) {
+        return records.getLong(offset + PRODUCT_ID) == productId && records.getLong(offset + BRAND_ID) == brandId;
+    }
+
+    private Price toPrice(int offset) {
+        byte[] currency = new byte[CURRENCY_LENGTH];
+        records.get(offset + CURRENCY, currency);
+        int length = 0;
+        while (length < CURRENCY_LENGTH && currency[length] != 0) {
+            length++;
+        }
+        return Price.builder()
+                .id(records.getLong(offset + PRICE_ID))
+                .product(Product.builder().id(records.getLong(offset + PRODUCT_ID)).build())
+                .brand(Brand.builder().id(records.getLong(offset + BRAND_ID)).build())
+                .priceList(fromInt(records.getInt(offset + PRICE_LIST)))
+                .priority(fromInt(records.getInt(offset + PRIORITY)))
+                .startDate(fromMicros(records.getLong(offset + START_DATE)))
+                .endDate(fromMicros(records.getLong(offset + END_DATE)))
+                .price(records.getDouble(offset + PRICE))
+                .currency(new String(currency, 0, length, StandardCharsets.US_ASCII))
+                .build();
+    }
+
+    private static void putRecord(ByteBuffer buffer, PriceTimeline.Segment segment) {
+        Price price = segment.price();
+        byte[] currency = price.getCurrency() == null ? new byte[0] : price.getCurrency().getBytes(StandardCharsets.US_ASCII);
+        if (currency.length > CURRENCY_LENGTH) {
+            throw new IllegalArgumentException("Currency too long for a price snapshot: " + price.getCurrency());
+        }
+        buffer.putLong(price.getProduct().getId())
+                .putLong(price.getBrand().getId())
+                .putLong(toMicros(segment.start()))
+                .putLong(toMicros(segment.end()))
+                .putLong(price.getId())
+                .putLong(toMicros(price.getStartDate()))
+                .putLong(toMicros(price.getEndDate()))
+                .putDouble(price.getPrice())
+                .putInt(toInt(price.getPriceList()))
+                .putInt(toInt(price.getPriority()))
+                .put(currency)
+                .put(new byte[CURRENCY_LENGTH - currency.length]);
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static int offset(int index) {
+        return index * RECORD_SIZE;
+    }
+
+    private static long toMicros(LocalDateTime date) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), date);
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static int toInt(Integer value) {
+        return value == null ? NO_VALUE : value;
+    }
+
+    private static Integer fromInt(int value) {
+        return value == NO_VALUE ? null : value;
+    }
+}
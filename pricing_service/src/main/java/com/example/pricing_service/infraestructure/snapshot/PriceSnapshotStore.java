@@ -0,0 +1,110 @@
+package com.example.pricing_service.infraestructure.snapshot;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.infraestructure.index.PriceIntervalIndex;
+import com.example.pricing_service.infraestructure.index.PriceTimeline;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a {@link PriceSnapshot} of the {@link PriceIntervalIndex} on disk so a restarted instance can answer
+ * applicable-price lookups before the index has been loaded from the database.
+ *
+ * On startup the last snapshot written is mapped read-only and serves lookups until the index is ready, then
+ * it is released. While the application runs the snapshot is rewritten from the index on a fixed delay and
+ * once more on shutdown. Prices written after a snapshot was taken are not in it, so its answers are only
+ * meant to bridge the few moments the index takes to load.
+ */
+@Component
+@ConditionalOnProperty(prefix = "pricing.snapshot", name = "enabled", havingValue = "true")
+public class PriceSnapshotStore {
+
+    private final Path file;
+    private final PriceIntervalIndex priceIntervalIndex;
+    private final Clock clock;
+    private volatile PriceSnapshot snapshot;
+
+    @Autowired
+    public PriceSnapshotStore(@Value("${pricing.snapshot.path:data/prices.snapshot}") Path file,
+                              PriceIntervalIndex priceIntervalIndex) {
+        this(file, priceIntervalIndex, Clock.systemDefaultZone());
+    }
+
+    public PriceSnapshotStore(Path file, PriceIntervalIndex priceIntervalIndex, Clock clock) {
+        this.file = file;
+        this.priceIntervalIndex = priceIntervalIndex;
+        this.clock = clock;
+    }
+
+    /**
+     * Maps the snapshot left by the previous run, if there is a valid one.
+     */
+    @PostConstruct
+    public void open() {
+        try {
+            snapshot = PriceSnapshot.open(file).orElse(null);
+        } catch (IOException e) {
+            snapshot = null;
+        }
+    }
+
+    public boolean isAvailable() {
+        return snapshot != null;
+    }
+
+    /**
+     * Stops serving from the mapped snapshot, once the index can answer on its own.
+     */
+    public void release() {
+        snapshot = null;
+    }
+
+    public Optional<Price> findApplicablePrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        PriceSnapshot current = snapshot;
+        return current == null ? Optional.empty() : current.findApplicablePrice(productId, brandId, applicationDate);
+    }
+
+    public Optional<LocalDateTime> findNextBoundary(Long productId, Long brandId, LocalDateTime date) {
+        PriceSnapshot current = snapshot;
+        return current == null ? Optional.empty() : current.findNextBoundary(productId, brandId, date);
+    }
+
+    /**
+     * Writes the current content of the index to the snapshot file. Does nothing while the index is loading,
+     * so an incomplete index never replaces a complete snapshot.
+     *
+     * @return The number of segments written, or -1 if the index was not ready.
+     */
+    @Scheduled(initialDelayString = "${pricing.snapshot.interval:PT5M}", fixedDelayString = "${pricing.snapshot.interval:PT5M}")
+    public long write() {
+        if (!priceIntervalIndex.isReady()) {
+            return -1;
+        }
+        LocalDateTime createdAt = LocalDateTime.now(clock);
+        try (Stream<PriceTimeline.Segment> segments = priceIntervalIndex.segments()) {
+            Iterator<PriceTimeline.Segment> iterator = segments.iterator();
+            return PriceSnapshot.write(file, iterator, createdAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing the price snapshot to " + file, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        write();
+    }
+}
@@ -0,0 +1,61 @@
+-- Schema as previously generated by Hibernate with ddl-auto: create-drop.
+
+create table public.brands (
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    name varchar(255) not null unique,
+    primary key (id)
+);
+
+create table public.products (
+    hash_code integer not null unique,
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    category varchar(255) check (category in ('CLOTHES','SHOES','ACCESSORIES')),
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create sequence public.prices_seq start with 1 increment by 50;
+
+create table public.prices (
+    price float(53) not null,
+    price_list integer,
+    priority integer,
+    brand_id bigint not null,
+    end_date timestamp(6) not null,
+    id bigint not null,
+    product_id bigint not null,
+    start_date timestamp(6) not null,
+    curr varchar(255) not null,
+    primary key (id),
+    constraint fk_prices_brand foreign key (brand_id) references public.brands,
+    constraint fk_prices_product foreign key (product_id) references public.products
+);
+
+create table public.product_brand (
+    brand_id bigint not null,
+    product_id bigint not null,
+    constraint fk_product_brand_brand foreign key (brand_id) references public.brands,
+    constraint fk_product_brand_product foreign key (product_id) references public.products
+);
+
+create table public.price_segments (
+    price float(53) not null,
+    price_list integer,
+    priority integer,
+    brand_id bigint not null,
+    end_date timestamp(6) not null,
+    id bigint generated by default as identity,
+    price_id bigint not null,
+    product_id bigint not null,
+    segment_end timestamp(6) not null,
+    segment_start timestamp(6) not null,
+    start_date timestamp(6) not null,
+    curr varchar(255) not null,
+    primary key (id),
+    constraint fk_price_segments_brand foreign key (brand_id) references public.brands on delete cascade,
+    constraint fk_price_segments_product foreign key (product_id) references public.products on delete cascade
+);
+
+create index idx_price_segments_lookup on public.price_segments (product_id, brand_id, segment_start);
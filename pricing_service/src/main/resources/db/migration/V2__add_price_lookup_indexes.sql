@@ -0,0 +1,8 @@
+-- Applicable-price lookups seek straight to the (product, brand) range and read price/currency from the index.
+create index idx_prices_lookup
+    on public.prices (product_id, brand_id, start_date, end_date, priority desc)
+    include (price, curr);
+
+-- Serves deletes by (brand, product, price list) and the max price list of a pair, and rejects duplicates.
+create unique index uk_prices_brand_product_price_list
+    on public.prices (brand_id, product_id, price_list);
@@ -0,0 +1,15 @@
+-- Last price list handed out per (product, brand). Creating a price bumps the pair's row with a single upsert
+-- instead of scanning the pair's prices for their maximum, and the row lock serializes concurrent creates.
+create table public.price_list_counters (
+    last_price_list integer not null,
+    brand_id bigint not null,
+    product_id bigint not null,
+    primary key (product_id, brand_id),
+    constraint fk_price_list_counters_brand foreign key (brand_id) references public.brands on delete cascade,
+    constraint fk_price_list_counters_product foreign key (product_id) references public.products on delete cascade
+);
+
+insert into public.price_list_counters (product_id, brand_id, last_price_list)
+select product_id, brand_id, coalesce(max(price_list), 0)
+from public.prices
+group by product_id, brand_id;
@@ -0,0 +1,2 @@
+-- Brand-wide exports scan a brand's segments in product order.
+create index idx_price_segments_brand on public.price_segments (brand_id, product_id, segment_start);
@@ -0,0 +1,18 @@
+-- 64-bit content fingerprint of the products, replacing the 32-bit hash code whose collisions rejected distinct
+-- products. Existing products take slot 0: the first 8 bytes of the SHA-256 of the name's UTF-8 length and bytes,
+-- the user ID, the category's UTF-8 length and bytes (-1 when null) and the slot, as in ProductFingerprint.
+alter table public.products add column fingerprint bigint;
+
+update public.products
+set fingerprint = ('x' || encode(substring(sha256(
+        int4send(octet_length(convert_to(name, 'UTF8'))) || convert_to(name, 'UTF8')
+        || int8send(user_id)
+        || case when category is null then int4send(-1)
+                else int4send(octet_length(convert_to(category, 'UTF8'))) || convert_to(category, 'UTF8') end
+        || int4send(0)) from 1 for 8), 'hex'))::bit(64)::bigint;
+
+alter table public.products alter column fingerprint set not null;
+
+create unique index uk_products_fingerprint on public.products (fingerprint);
+
+alter table public.products drop column hash_code;
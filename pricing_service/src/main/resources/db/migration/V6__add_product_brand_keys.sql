@@ -0,0 +1,12 @@
+-- Brand and product links had neither a key nor an index: reading a product's brands scanned the whole table
+-- and the same link could be stored twice. Duplicates are dropped before the key is added.
+delete from public.product_brand duplicate
+using public.product_brand kept
+where duplicate.brand_id = kept.brand_id
+  and duplicate.product_id = kept.product_id
+  and duplicate.ctid > kept.ctid;
+
+alter table public.product_brand add primary key (brand_id, product_id);
+
+-- The key serves a brand's products, this index a product's brands.
+create index idx_product_brand_product on public.product_brand (product_id);
@@ -0,0 +1,184 @@
+package com.example.pricing_service.repository;
+
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.infraestructure.adapters.PriceSegmentStore;
+import com.example.pricing_service.infraestructure.commons.constants.CategoryType;
+import com.example.pricing_service.infraestructure.entity.BrandEntity;
+import com.example.pricing_service.infraestructure.entity.PriceEntity;
+import com.example.pricing_service.infraestructure.entity.PriceSegmentEntity;
+import com.example.pricing_service.infraestructure.entity.ProductEntity;
+import com.example.pricing_service.infraestructure.index.PriceIntervalIndex;
+import com.example.pricing_service.infraestructure.repository.BrandJpaRepository;
+import com.example.pricing_service.infraestructure.repository.PriceJpaRepository;
+import com.example.pricing_service.infraestructure.repository.PriceSegmentJpaRepository;
+import com.example.pricing_service.infraestructure.repository.ProductJpaRepository;
+import com.example.pricing_service.infraestructure.rest.mapper.BrandMapperImpl;
+import com.example.pricing_service.infraestructure.rest.mapper.PriceMapperImpl;
+import com.example.pricing_service.infraestructure.rest.mapper.ProductMapperImpl;
+import com.example.pricing_service.infraestructure.rest.mapper.ReferenceMapperImpl;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+@Import({PriceSegmentStore.class, PriceIntervalIndex.class, PriceMapperImpl.class, BrandMapperImpl.class, ProductMapperImpl.class,
+        ReferenceMapperImpl.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PriceSegmentJpaRepositoryTest {
+
+    @Autowired
+    private PriceSegmentJpaRepository priceSegmentJpaRepository;
+
+    @Autowired
+    private PriceJpaRepository priceJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private PriceSegmentStore priceSegmentStore;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Long productId;
+    private Long brandId;
+
+    @BeforeEach
+    void setUp() {
+        ProductEntity product = productJpaRepository.save(ProductEntity.builder()
+                .name("Product Name")
+                .userId(1L)
+                .category(CategoryType.CLOTHES)
+                .build());
+        BrandEntity brand = brandJpaRepository.save(BrandEntity.builder()
+                .name("ZARA")
+                .userId(1L)
+                .build());
+        productId = product.getId();
+        brandId = brand.getId();
+
+        priceJpaRepository.save(price(product, brand, 1, 0, 35.50,
+                LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59)));
+        priceJpaRepository.save(price(product, brand, 2, 1, 25.45,
+                LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)));
+        priceSegmentStore.refresh(productId, brandId);
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @Order(1)
+    void test01LookupIsOneStatementAndLoadsNoEntity() {
+        Optional<PriceRequest> result = priceSegmentJpaRepository.findApplicablePriceRequest(
+                productId, brandId, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        assertTrue(result.isPresent());
+        assertEquals(productId, result.get().getProductId());
+        assertEquals(brandId, result.get().getBrandId());
+        assertEquals(2, result.get().getPriceList());
+        assertEquals(25.45, result.get().getPrice());
+        assertEquals("EUR", result.get().getCurrency());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @Order(2)
+    void test02EveryLookupIsOneStatement() {
+        assertEquals(35.50, priceSegmentJpaRepository.findApplicablePriceRequest(
+                productId, brandId, LocalDateTime.of(2020, 6, 14, 10, 0)).orElseThrow().getPrice());
+        assertEquals(35.50, priceSegmentJpaRepository.findApplicablePriceRequest(
+                productId, brandId, LocalDateTime.of(2020, 6, 14, 21, 0)).orElseThrow().getPrice());
+        assertTrue(priceSegmentJpaRepository.findApplicablePriceRequest(
+                productId, brandId, LocalDateTime.of(2024, 9, 2, 18, 0)).isEmpty());
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @Order(3)
+    void test03BrandExportIsOneStatementAndLoadsNoEntity() {
+        List<PriceRequest> exported;
+        try (Stream<PriceRequest> prices = priceSegmentJpaRepository.streamApplicablePriceRequests(
+                brandId, LocalDateTime.of(2020, 6, 14, 16, 0))) {
+            exported = prices.toList();
+        }
+
+        assertEquals(1, exported.size());
+        assertEquals(productId, exported.get(0).getProductId());
+        assertEquals(25.45, exported.get(0).getPrice());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @Order(4)
+    void test04BatchLookupReadsOnlyTheRequestedPairs() {
+        ProductEntity otherProduct = productJpaRepository.save(ProductEntity.builder()
+                .name("Other Product")
+                .userId(1L)
+                .category(CategoryType.CLOTHES)
+                .build());
+        BrandEntity otherBrand = brandJpaRepository.save(BrandEntity.builder()
+                .name("PULL&BEAR")
+                .userId(1L)
+                .build());
+        ProductEntity product = productJpaRepository.getReferenceById(productId);
+        BrandEntity brand = brandJpaRepository.getReferenceById(brandId);
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2020, 12, 31, 23, 59);
+        priceJpaRepository.save(price(product, otherBrand, 3, 0, 40.00, start, end));
+        priceJpaRepository.save(price(otherProduct, brand, 4, 0, 45.00, start, end));
+        priceSegmentStore.refresh(productId, otherBrand.getId());
+        priceSegmentStore.refresh(otherProduct.getId(), brandId);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+        List<PriceSegmentEntity> segments = priceSegmentJpaRepository.findCoveringPairs(
+                List.of(productId, otherProduct.getId(), productId),
+                List.of(brandId, brandId, brandId), date, date);
+
+        assertEquals(2, segments.size());
+        assertTrue(segments.stream().allMatch(segment -> segment.getBrand().getId().equals(brandId)));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private PriceEntity price(ProductEntity product, BrandEntity brand, Integer priceList, Integer priority, Double amount,
+                              LocalDateTime startDate, LocalDateTime endDate) {
+        return PriceEntity.builder()
+                .product(product)
+                .brand(brand)
+                .priceList(priceList)
+                .priority(priority)
+                .price(amount)
+                .currency("EUR")
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
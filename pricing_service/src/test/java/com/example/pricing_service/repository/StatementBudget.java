@@ -0,0 +1,62 @@
+package com.example.pricing_service.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the JDBC statements an operation executes, through Hibernate's statistics, and fails when they exceed
+ * the operation's budget.
+ *
+ * Every operation runs against an empty persistence context and its pending changes are flushed before
+ * counting, as if it were served by its own request. The test's context must set
+ * {@code spring.jpa.properties.hibernate.generate_statistics=true}.
+ */
+public final class StatementBudget {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    private StatementBudget(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public static StatementBudget of(EntityManager entityManager) {
+        return new StatementBudget(entityManager);
+    }
+
+    /**
+     * Runs an operation and asserts it executes at most {@code budget} statements.
+     *
+     * @param operation The name of the operation, for the failure message.
+     * @param budget The maximum number of statements.
+     * @param call The operation.
+     * @return The operation's result.
+     */
+    public <T> T assertAtMost(String operation, long budget, Supplier<T> call) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        T result = call.get();
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        assertTrue(statements <= budget,
+                operation + " executed " + statements + " statements, over its budget of " + budget);
+        return result;
+    }
+
+    public void assertAtMost(String operation, long budget, Runnable call) {
+        assertAtMost(operation, budget, () -> {
+            call.run();
+            return null;
+        });
+    }
+}
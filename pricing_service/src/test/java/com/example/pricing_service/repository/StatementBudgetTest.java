@@ -0,0 +1,364 @@
+package com.example.pricing_service.repository;
+
+import com.example.pricing_service.application.service.impl.BrandServiceImpl;
+import com.example.pricing_service.application.service.impl.PriceServiceImpl;
+import com.example.pricing_service.application.service.impl.ProductServiceImpl;
+import com.example.pricing_service.domain.dto.BasketDto;
+import com.example.pricing_service.domain.dto.BasketLineDto;
+import com.example.pricing_service.domain.dto.BrandDto;
+import com.example.pricing_service.domain.dto.BrandLookupResultDto;
+import com.example.pricing_service.domain.dto.BrandProductsDto;
+import com.example.pricing_service.domain.dto.PriceLookupDto;
+import com.example.pricing_service.domain.dto.ProductDto;
+import com.example.pricing_service.domain.dto.ProductLookupResultDto;
+import com.example.pricing_service.domain.dto.request.BrandRequest;
+import com.example.pricing_service.domain.dto.request.ProductRequest;
+import com.example.pricing_service.infraestructure.adapters.BrandRepositoryImpl;
+import com.example.pricing_service.infraestructure.adapters.PriceRepositoryImpl;
+import com.example.pricing_service.infraestructure.adapters.PriceSegmentStore;
+import com.example.pricing_service.infraestructure.adapters.ProductRepositoryImpl;
+import com.example.pricing_service.infraestructure.cache.PricedPairFilter;
+import com.example.pricing_service.infraestructure.cache.ProductFingerprintFilter;
+import com.example.pricing_service.infraestructure.commons.constants.CategoryType;
+import com.example.pricing_service.infraestructure.entity.BrandEntity;
+import com.example.pricing_service.infraestructure.entity.PriceEntity;
+import com.example.pricing_service.infraestructure.entity.ProductEntity;
+import com.example.pricing_service.infraestructure.index.PriceIntervalIndex;
+import com.example.pricing_service.infraestructure.repository.BrandJpaRepository;
+import com.example.pricing_service.infraestructure.repository.PriceJpaRepository;
+import com.example.pricing_service.infraestructure.repository.ProductJpaRepository;
+import com.example.pricing_service.infraestructure.rest.mapper.BrandMapperImpl;
+import com.example.pricing_service.infraestructure.rest.mapper.PriceMapperImpl;
+import com.example.pricing_service.infraestructure.rest.mapper.ProductMapperImpl;
+import com.example.pricing_service.infraestructure.rest.mapper.ReferenceMapperImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SQL statement budgets of the service operations behind each endpoint, run against the real adapters and an
+ * in-memory database. A lazy association or a mapper walking more of the graph than the endpoint needs shows
+ * up here as a budget overrun.
+ *
+ * The database runs in PostgreSQL mode for the adapters' native statements.
+ */
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:budget;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+@Import({PriceServiceImpl.class, ProductServiceImpl.class, BrandServiceImpl.class,
+        PriceRepositoryImpl.class, ProductRepositoryImpl.class, BrandRepositoryImpl.class,
+        PriceSegmentStore.class, PricedPairFilter.class, ProductFingerprintFilter.class, PriceIntervalIndex.class,
+        PriceMapperImpl.class, BrandMapperImpl.class, ProductMapperImpl.class, ReferenceMapperImpl.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class StatementBudgetTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+    private static final int BRANDS = 3;
+    private static final int PRODUCTS = 10;
+
+    private static final int PRICE_LOOKUP_BUDGET = 1;
+    private static final int PRODUCT_READ_BUDGET = 1;
+    private static final int BRAND_READ_BUDGET = 1;
+    private static final int PAGE_READ_BUDGET = 2;
+    private static final int CREATE_PRODUCT_BUDGET = 4;
+    private static final int UPDATE_PRODUCT_BUDGET = 5;
+    private static final int CREATE_BRAND_BUDGET = 3;
+    private static final int UPDATE_BRAND_BUDGET = 6;
+    private static final int UPDATE_BRAND_PRODUCTS_BUDGET = 4;
+
+    @Autowired
+    private PriceServiceImpl priceService;
+
+    @Autowired
+    private ProductServiceImpl productService;
+
+    @Autowired
+    private BrandServiceImpl brandService;
+
+    @Autowired
+    private PriceSegmentStore priceSegmentStore;
+
+    @Autowired
+    private PriceJpaRepository priceJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private PricedPairFilter pricedPairFilter;
+
+    @Autowired
+    private ProductFingerprintFilter productFingerprintFilter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private StatementBudget statementBudget;
+    private final List<Long> productIds = new ArrayList<>();
+    private final List<Long> brandIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        List<ProductEntity> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(productJpaRepository.save(ProductEntity.builder()
+                    .name("Product " + i)
+                    .userId(1L)
+                    .category(CategoryType.CLOTHES)
+                    .build()));
+        }
+        for (int i = 0; i < BRANDS; i++) {
+            BrandEntity brand = brandJpaRepository.save(BrandEntity.builder()
+                    .name("Brand " + i)
+                    .userId(1L)
+                    .productList(new HashSet<>(products))
+                    .build());
+            brandIds.add(brand.getId());
+        }
+        products.forEach(product -> productIds.add(product.getId()));
+        statementBudget = StatementBudget.of(entityManager);
+    }
+
+    /**
+     * Prices every (product, brand) pair, with a promotion over the base price on the afternoon of 2020-06-14.
+     * The test transaction never commits, so the priced pairs are read into the filter by a rebuild.
+     */
+    private void priceCatalog() {
+        for (Long brandId : brandIds) {
+            BrandEntity brand = brandJpaRepository.getReferenceById(brandId);
+            for (Long productId : productIds) {
+                ProductEntity product = productJpaRepository.getReferenceById(productId);
+                priceJpaRepository.save(price(product, brand, 1, 0, 35.50,
+                        LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59)));
+                priceJpaRepository.save(price(product, brand, 2, 1, 25.45,
+                        LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)));
+                priceSegmentStore.refresh(productId, brandId);
+            }
+        }
+        pricedPairFilter.rebuild();
+    }
+
+    @Test
+    @Order(1)
+    void test01PriceLookupIsOneStatement() {
+        priceCatalog();
+        assertEquals(25.45, statementBudget.assertAtMost("GET /v1/prices", PRICE_LOOKUP_BUDGET,
+                () -> priceService.getApplicablePrice(productIds.get(0), brandIds.get(0), APPLICATION_DATE)).getPrice());
+        assertTrue(statementBudget.assertAtMost("GET /v1/prices (miss)", PRICE_LOOKUP_BUDGET,
+                () -> priceService.findApplicablePrice(productIds.get(0), brandIds.get(0),
+                        LocalDateTime.of(2024, 1, 1, 0, 0))).isEmpty());
+    }
+
+    @Test
+    @Order(2)
+    void test02BatchLookupsDoNotGrowWithTheirSize() {
+        priceCatalog();
+        List<PriceLookupDto> lookups = new ArrayList<>();
+        List<BasketLineDto> lines = new ArrayList<>();
+        for (Long brandId : brandIds) {
+            for (Long productId : productIds) {
+                lookups.add(new PriceLookupDto(productId, brandId, APPLICATION_DATE));
+                lines.add(new BasketLineDto(productId, brandId, 2));
+            }
+        }
+
+        assertEquals(lookups.size(), statementBudget.assertAtMost("POST /v1/prices/batch", PRICE_LOOKUP_BUDGET,
+                () -> priceService.getApplicablePrices(lookups)).size());
+        assertTrue(statementBudget.assertAtMost("POST /v1/prices/basket", PRICE_LOOKUP_BUDGET,
+                () -> priceService.priceBasket(new BasketDto(APPLICATION_DATE, lines))).getMissingLines().isEmpty());
+    }
+
+    @Test
+    @Order(3)
+    void test03TimelineIsOneStatement() {
+        priceCatalog();
+        assertEquals(3, statementBudget.assertAtMost("GET /v1/prices/timeline", PRICE_LOOKUP_BUDGET,
+                () -> priceService.getPriceTimeline(productIds.get(0), brandIds.get(0),
+                        LocalDateTime.of(2020, 6, 14, 12, 0), LocalDateTime.of(2020, 6, 15, 0, 0))).size());
+    }
+
+    @Test
+    @Order(4)
+    void test04ProductReadsStayWithinBudget() {
+        priceCatalog();
+        ProductRequest product = statementBudget.assertAtMost("GET /v1/products/{id}", PRODUCT_READ_BUDGET,
+                () -> productService.getProductById(String.valueOf(productIds.get(0))));
+
+        assertEquals("Product 0", product.getName());
+        assertEquals(2 * BRANDS, product.getPriceIds().size());
+    }
+
+    @Test
+    @Order(5)
+    void test05BrandReadsStayWithinBudget() {
+        priceCatalog();
+        BrandRequest byId = statementBudget.assertAtMost("GET /v1/brands/{id}", BRAND_READ_BUDGET,
+                () -> brandService.getBrandById(String.valueOf(brandIds.get(0))));
+        BrandRequest byName = statementBudget.assertAtMost("GET /v1/brands/name/{name}", BRAND_READ_BUDGET,
+                () -> brandService.getBrandByName("Brand 1"));
+
+        assertEquals("Brand 0", byId.getName());
+        assertEquals(productIds, byId.getProductIds().stream().sorted().toList());
+        assertEquals("Brand 1", byName.getName());
+        assertEquals(PRODUCTS, byName.getProductIds().size());
+    }
+
+    @Test
+    @Order(6)
+    void test06CreateProductStaysWithinBudget() {
+        productFingerprintFilter.rebuild();
+        ProductDto created = statementBudget.assertAtMost("POST /v1/products", CREATE_PRODUCT_BUDGET,
+                () -> productService.createProduct(ProductDto.builder()
+                        .name("New product")
+                        .userId(1L)
+                        .category(CategoryType.SHOES)
+                        .brandIds(List.of(brandIds.get(0), brandIds.get(1)))
+                        .build()));
+
+        assertNotNull(created.getId());
+        assertEquals(List.of(brandIds.get(0), brandIds.get(1)),
+                brandJpaRepository.findBrandIdsByProductId(created.getId()).stream().sorted().toList());
+    }
+
+    @Test
+    @Order(7)
+    void test07UpdateProductDoesNotGrowWithTheBrands() {
+        Long productId = productIds.get(0);
+
+        statementBudget.assertAtMost("PUT /v1/products/{id}", UPDATE_PRODUCT_BUDGET,
+                () -> productService.updateProduct(String.valueOf(productId), ProductDto.builder()
+                        .id(productId)
+                        .name("Renamed product")
+                        .userId(1L)
+                        .category(CategoryType.CLOTHES)
+                        .brandIds(List.of(brandIds.get(1), brandIds.get(2)))
+                        .priceIds(List.of())
+                        .build()));
+
+        assertEquals(List.of(brandIds.get(1), brandIds.get(2)),
+                brandJpaRepository.findBrandIdsByProductId(productId).stream().sorted().toList());
+        assertEquals(PRODUCTS - 1, brandJpaRepository.findById(brandIds.get(0)).orElseThrow().getProductList().size());
+    }
+
+    @Test
+    @Order(8)
+    void test08CreateBrandStaysWithinBudget() {
+        priceCatalog();
+        BrandDto created = statementBudget.assertAtMost("POST /v1/brands", CREATE_BRAND_BUDGET,
+                () -> brandService.createBrand(BrandDto.builder()
+                        .name("New brand")
+                        .userId(1L)
+                        .productIds(productIds)
+                        .build()));
+
+        assertNotNull(created.getId());
+        assertEquals(productIds, created.getProductIds().stream().sorted().toList());
+    }
+
+    @Test
+    @Order(9)
+    void test09UpdateBrandWritesOnlyTheChangedProducts() {
+        priceCatalog();
+        Long brandId = brandIds.get(0);
+        List<Long> keptProductIds = productIds.subList(1, PRODUCTS);
+
+        statementBudget.assertAtMost("PUT /v1/brands/{id}", UPDATE_BRAND_BUDGET,
+                () -> brandService.updateBrand(String.valueOf(brandId), BrandDto.builder()
+                        .id(brandId)
+                        .name("Renamed brand")
+                        .userId(1L)
+                        .productIds(keptProductIds)
+                        .build()));
+
+        assertEquals("Renamed brand", brandJpaRepository.findById(brandId).orElseThrow().getName());
+        assertEquals(keptProductIds, brandJpaRepository.findProductIdsByBrandId(brandId).stream().sorted().toList());
+    }
+
+    @Test
+    @Order(10)
+    void test10UpdateBrandProductsDoesNotGrowWithTheBrand() {
+        Long brandId = brandIds.get(0);
+        Long newProductId = productJpaRepository.save(ProductEntity.builder()
+                .name("New product")
+                .userId(1L)
+                .category(CategoryType.SHOES)
+                .build()).getId();
+
+        statementBudget.assertAtMost("PATCH /v1/brands/{id}/products", UPDATE_BRAND_PRODUCTS_BUDGET,
+                () -> brandService.updateBrandProducts(String.valueOf(brandId), BrandProductsDto.builder()
+                        .addProductIds(List.of(newProductId, productIds.get(1)))
+                        .removeProductIds(List.of(productIds.get(0)))
+                        .build()));
+
+        List<Long> expected = new ArrayList<>(productIds.subList(1, PRODUCTS));
+        expected.add(newProductId);
+        assertEquals(expected, brandJpaRepository.findProductIdsByBrandId(brandId).stream().sorted().toList());
+    }
+
+    @Test
+    @Order(11)
+    void test11ProductPageDoesNotGrowWithItsSize() {
+        priceCatalog();
+        List<Long> ids = new ArrayList<>(productIds);
+        ids.add(0, -1L);
+
+        List<ProductLookupResultDto> page = statementBudget.assertAtMost("GET /v1/products?ids=", PAGE_READ_BUDGET,
+                () -> productService.getProductsByIds(ids, brandIds.get(0), APPLICATION_DATE));
+
+        assertEquals(ids, page.stream().map(ProductLookupResultDto::getId).toList());
+        assertFalse(page.get(0).isFound());
+        for (ProductLookupResultDto result : page.subList(1, page.size())) {
+            assertTrue(result.isFound());
+            assertEquals(2 * BRANDS, result.getProduct().getPriceIds().size());
+            assertEquals(25.45, result.getPrice().getPrice());
+        }
+    }
+
+    @Test
+    @Order(12)
+    void test12BrandPageDoesNotGrowWithItsSize() {
+        priceCatalog();
+
+        List<BrandLookupResultDto> page = statementBudget.assertAtMost("GET /v1/brands?ids=", PAGE_READ_BUDGET,
+                () -> brandService.getBrandsByIds(brandIds, productIds.get(0), APPLICATION_DATE));
+
+        assertEquals(brandIds, page.stream().map(BrandLookupResultDto::getId).toList());
+        for (BrandLookupResultDto result : page) {
+            assertTrue(result.getBrand().getName().startsWith("Brand "));
+            assertNull(result.getBrand().getProductIds());
+            assertEquals(25.45, result.getPrice().getPrice());
+        }
+    }
+
+    private PriceEntity price(ProductEntity product, BrandEntity brand, Integer priceList, Integer priority, Double amount,
+                              LocalDateTime startDate, LocalDateTime endDate) {
+        return PriceEntity.builder()
+                .product(product)
+                .brand(brand)
+                .priceList(priceList)
+                .priority(priority)
+                .price(amount)
+                .currency("EUR")
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
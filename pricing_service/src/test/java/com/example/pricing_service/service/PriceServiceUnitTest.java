@@ -7,7 +7,6 @@ import com.example.pricing_service.domain.model.Brand;
 import com.example.pricing_service.domain.model.Price;
 import com.example.pricing_service.domain.model.Product;
 import com.example.pricing_service.domain.port.PriceRepository;
-import com.example.pricing_service.infraestructure.commons.constants.CategoryType;
 import com.example.pricing_service.infraestructure.commons.exceptions.PriceBadRequestException;
 import com.example.pricing_service.infraestructure.commons.exceptions.PriceNotFoundException;
 import org.junit.jupiter.api.*;
@@ -36,73 +35,40 @@ public class PriceServiceUnitTest {
 
     @BeforeEach
     void setUp() {
-        when(priceRepository.findApplicablePrice(35455L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0)))
-                .thenReturn(Optional.of(Price.builder()
-                        .id(1L)
-                        .brand(Brand.builder()
-                                .id(1L)
-                                .name("ZARA")
-                                .userId(1001L)
-                                .build())
-                        .product(Product.builder()
-                                .id(35455L)
-                                .name("Product Name")
-                                .userId(2001L)
-                                .category(CategoryType.CLOTHES)
-                                .build())
+        when(priceRepository.findApplicablePriceRequest(35455L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0)))
+                .thenReturn(Optional.of(PriceRequest.builder()
+                        .productId(35455L)
+                        .brandId(1L)
                         .priceList(1)
                         .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
                         .endDate(LocalDateTime.of(2020, 12, 31, 23, 59))
                         .price(35.50)
                         .currency("EUR")
-                        .priority(1)
                         .build()));
 
-        when(priceRepository.findApplicablePrice(35455L, 1L, LocalDateTime.of(2020, 6, 14, 16, 0)))
-                .thenReturn(Optional.of(Price.builder()
-                        .id(2L)
-                        .brand(Brand.builder()
-                                .id(1L)
-                                .name("ZARA")
-                                .userId(1001L)
-                                .build())
-                        .product(Product.builder()
-                                .id(35455L)
-                                .name("Product Name")
-                                .userId(2001L)
-                                .category(CategoryType.CLOTHES)
-                                .build())
+        when(priceRepository.findApplicablePriceRequest(35455L, 1L, LocalDateTime.of(2020, 6, 14, 16, 0)))
+                .thenReturn(Optional.of(PriceRequest.builder()
+                        .productId(35455L)
+                        .brandId(1L)
                         .priceList(2)
                         .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
                         .endDate(LocalDateTime.of(2020, 12, 31, 23, 59))
                         .price(25.45)
                         .currency("EUR")
-                        .priority(2)
                         .build()));
 
-        when(priceRepository.findApplicablePrice(35455L, 1L, LocalDateTime.of(2020, 6, 16, 21, 0)))
-                .thenReturn(Optional.of(Price.builder()
-                        .id(4L)
-                        .brand(Brand.builder()
-                                .id(1L)
-                                .name("ZARA")
-                                .userId(1001L)
-                                .build())
-                        .product(Product.builder()
-                                .id(35455L)
-                                .name("Product Name")
-                                .userId(2001L)
-                                .category(CategoryType.CLOTHES)
-                                .build())
+        when(priceRepository.findApplicablePriceRequest(35455L, 1L, LocalDateTime.of(2020, 6, 16, 21, 0)))
+                .thenReturn(Optional.of(PriceRequest.builder()
+                        .productId(35455L)
+                        .brandId(1L)
                         .priceList(4)
                         .startDate(LocalDateTime.of(2020, 6, 16, 0, 0))
                         .endDate(LocalDateTime.of(2020, 12, 31, 23, 59))
                         .price(38.95)
                         .currency("EUR")
-                        .priority(1)
                         .build()));
 
-        when(priceRepository.findApplicablePrice(35455L, 1L, LocalDateTime.of(2024, 9, 2, 18, 0)))
+        when(priceRepository.findApplicablePriceRequest(35455L, 1L, LocalDateTime.of(2024, 9, 2, 18, 0)))
                 .thenReturn(Optional.empty());
     }
 
@@ -159,7 +125,7 @@ public class PriceServiceUnitTest {
                 .currency("EUR")
                 .build();
 
-        when(priceRepository.findMaxPriceListByProductAndBrand(35455L, 1L)).thenReturn(4);
+        when(priceRepository.allocatePriceList(35455L, 1L)).thenReturn(5);
 
         when(priceRepository.savePrice(any(Price.class))).thenAnswer(invocation -> {
             Price savedPrice = invocation.getArgument(0);
@@ -1,13 +1,20 @@
 package com.example.pricing_service.unit.application.service;
 
+import com.example.pricing_service.application.service.PriceService;
 import com.example.pricing_service.application.service.impl.BrandServiceImpl;
 import com.example.pricing_service.domain.dto.BrandDto;
+import com.example.pricing_service.domain.dto.BrandLookupResultDto;
+import com.example.pricing_service.domain.dto.BrandProductsDto;
+import com.example.pricing_service.domain.dto.PriceLookupDto;
+import com.example.pricing_service.domain.dto.PriceLookupResultDto;
 import com.example.pricing_service.domain.dto.request.BrandRequest;
+import com.example.pricing_service.domain.dto.request.PriceRequest;
 import com.example.pricing_service.domain.model.Brand;
-import com.example.pricing_service.domain.model.Product;
 import com.example.pricing_service.domain.port.BrandRepository;
 import com.example.pricing_service.domain.port.ProductRepository;
+import com.example.pricing_service.infraestructure.commons.exceptions.BrandBadRequestException;
 import com.example.pricing_service.infraestructure.commons.exceptions.BrandNotFoundException;
+import com.example.pricing_service.infraestructure.commons.exceptions.ProductNotFoundException;
 import com.example.pricing_service.infraestructure.rest.mapper.BrandMapper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,15 +22,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.BRAND_BATCH_TOO_LARGE;
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.SOME_PRODUCTS_NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -42,6 +58,9 @@ class BrandServiceImplTest {
     @Mock
     private BrandMapper brandMapper;
 
+    @Mock
+    private PriceService priceService;
+
     private BrandRequest mockBrandRequest;
     private BrandDto mockBrandDto;
     private Brand mockBrand;
@@ -51,10 +70,7 @@ class BrandServiceImplTest {
 
         mockBrandRequest = BrandRequest.builder()
                 .name("SomeBrand")
-                .productList(Arrays.asList(Product.builder()
-                        .id(1L)
-                        .name("SomeProduct")
-                        .build()))
+                .productIds(List.of(1L))
                 .build();
 
         mockBrandDto = BrandDto.builder()
@@ -128,40 +144,41 @@ class BrandServiceImplTest {
         when(brandMapper.toBrandFromDto(mockBrandDto)).thenReturn(mockBrand);
         when(brandRepository.saveBrand(any(Brand.class))).thenReturn(mockBrand);
         when(brandMapper.toBrandDto(mockBrand)).thenReturn(mockBrandDto);
-        when(productRepository.findAllById(mockBrandDto.getProductIds())).thenReturn(Arrays.asList(new Product()));
 
         BrandDto result = brandService.createBrand(mockBrandDto);
 
         assertThat(result).isEqualTo(mockBrandDto);
         verify(brandMapper).toBrandFromDto(mockBrandDto);
         verify(brandRepository).saveBrand(mockBrand);
+        verify(productRepository, never()).findAllById(any());
     }
 
     @Test
     @Order(6)
     void test06UpdateBrand_Success() {
-        when(brandRepository.findBrandById("1")).thenReturn(Optional.of(mockBrand));
+        when(brandRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(brandMapper.toBrandFromDto(mockBrandDto)).thenReturn(mockBrand);
         when(brandMapper.toBrandDto(mockBrand)).thenReturn(mockBrandDto);
-        when(productRepository.findAllById(mockBrandDto.getProductIds())).thenReturn(Arrays.asList(new Product()));
         when(brandRepository.saveBrand(any(Brand.class))).thenReturn(mockBrand);
 
         BrandDto result = brandService.updateBrand("1", mockBrandDto);
 
         assertThat(result).isEqualTo(mockBrandDto);
-        verify(brandRepository).findBrandById("1");
         verify(brandRepository).saveBrand(mockBrand);
+        verify(brandRepository, never()).findBrandById(any());
+        verify(productRepository, never()).findAllById(any());
     }
 
     @Test
     @Order(7)
     void test07UpdateBrand_NotFound() {
-        when(brandRepository.findBrandById("1")).thenReturn(Optional.empty());
+        when(brandRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of());
 
         assertThatExceptionOfType(BrandNotFoundException.class)
                 .isThrownBy(() -> brandService.updateBrand("1", mockBrandDto))
                 .withMessageContaining("Error updating Brand with ID 1");
 
-        verify(brandRepository).findBrandById("1");
+        verify(brandRepository, never()).saveBrand(any());
     }
 
     @Test
@@ -209,4 +226,81 @@ class BrandServiceImplTest {
 
         verify(brandRepository).findBrandByName("SomeBrand");
     }
+
+    @Test
+    @Order(12)
+    void test12UpdateBrandProductsWritesOnlyTheGivenProducts() {
+        BrandProductsDto brandProductsDto = BrandProductsDto.builder()
+                .addProductIds(List.of(4L, 5L))
+                .removeProductIds(List.of(1L))
+                .build();
+        when(brandRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(productRepository.findExistingIds(Set.of(4L, 5L))).thenReturn(Set.of(4L, 5L));
+
+        brandService.updateBrandProducts("1", brandProductsDto);
+
+        verify(brandRepository).removeProductsFromBrand(1L, Set.of(1L));
+        verify(brandRepository).addProductsToBrand(1L, Set.of(4L, 5L));
+        verify(brandRepository, never()).findBrandById(any());
+        verify(brandRepository, never()).saveBrand(any());
+        verify(productRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @Order(13)
+    void test13UpdateBrandProductsRejectsInvalidChanges() {
+        assertThatExceptionOfType(BrandBadRequestException.class)
+                .isThrownBy(() -> brandService.updateBrandProducts("1", new BrandProductsDto()));
+        assertThatExceptionOfType(BrandBadRequestException.class)
+                .isThrownBy(() -> brandService.updateBrandProducts("1",
+                        new BrandProductsDto(List.of(2L), List.of(2L))));
+
+        when(brandRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of());
+        assertThatExceptionOfType(BrandNotFoundException.class)
+                .isThrownBy(() -> brandService.updateBrandProducts("1", new BrandProductsDto(List.of(2L), null)));
+
+        when(brandRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(productRepository.findExistingIds(Set.of(2L, 99L))).thenReturn(Set.of(2L));
+        assertThatExceptionOfType(ProductNotFoundException.class)
+                .isThrownBy(() -> brandService.updateBrandProducts("1", new BrandProductsDto(List.of(2L, 99L), null)))
+                .withMessage(SOME_PRODUCTS_NOT_FOUND);
+
+        verify(brandRepository, never()).addProductsToBrand(anyLong(), any());
+        verify(brandRepository, never()).removeProductsFromBrand(anyLong(), any());
+    }
+
+    @Test
+    @Order(14)
+    void test14GetBrandsByIdsAnswersInRequestOrderWithPrices() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+        PriceRequest price = PriceRequest.builder().productId(35455L).brandId(1L).price(25.45).build();
+        when(brandRepository.findAllById(List.of(7L, 1L))).thenReturn(List.of(mockBrand));
+        when(brandMapper.toBrandRequest(mockBrand)).thenReturn(mockBrandRequest);
+        when(priceService.getApplicablePrices(any())).thenReturn(List.of(
+                PriceLookupResultDto.builder().productId(35455L).brandId(1L).found(true).price(price).build()));
+
+        List<BrandLookupResultDto> result = brandService.getBrandsByIds(List.of(7L, 1L), 35455L, date);
+
+        assertThat(result).extracting(BrandLookupResultDto::getId).containsExactly(7L, 1L);
+        assertThat(result).extracting(BrandLookupResultDto::isFound).containsExactly(false, true);
+        assertThat(result.get(0).getBrand()).isNull();
+        assertThat(result.get(1).getBrand()).isEqualTo(mockBrandRequest);
+        assertThat(result.get(1).getPrice()).isEqualTo(price);
+        verify(priceService).getApplicablePrices(argThat((List<PriceLookupDto> lookups) -> lookups.size() == 1
+                && lookups.get(0).getProductId().equals(35455L) && lookups.get(0).getBrandId().equals(1L)
+                && date.equals(lookups.get(0).getApplicationDate())));
+    }
+
+    @Test
+    @Order(15)
+    void test15GetBrandsByIdsRejectsInvalidIds() {
+        assertThatExceptionOfType(BrandBadRequestException.class)
+                .isThrownBy(() -> brandService.getBrandsByIds(null, null, null));
+        assertThatExceptionOfType(BrandBadRequestException.class)
+                .isThrownBy(() -> brandService.getBrandsByIds(LongStream.rangeClosed(1, 1_001).boxed().toList(), null, null))
+                .withMessage(BRAND_BATCH_TOO_LARGE);
+
+        verify(brandRepository, never()).findAllById(any());
+        verifyNoInteractions(priceService);
+    }
 }
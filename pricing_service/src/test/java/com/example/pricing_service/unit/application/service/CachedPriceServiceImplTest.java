@@ -0,0 +1,63 @@
+package com.example.pricing_service.unit.application.service;
+
+import com.example.pricing_service.application.service.impl.CachedPriceServiceImpl;
+import com.example.pricing_service.application.service.impl.PriceServiceImpl;
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.domain.port.PriceRepository;
+import com.example.pricing_service.infraestructure.cache.ApplicablePriceCache;
+import com.example.pricing_service.infraestructure.commons.exceptions.PriceBadRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class CachedPriceServiceImplTest {
+
+    @Mock
+    private PriceServiceImpl priceServiceImpl;
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    private CachedPriceServiceImpl cachedPriceService;
+    private LocalDateTime applicationDate;
+
+    @BeforeEach
+    void setUp() {
+        ApplicablePriceCache applicablePriceCache = new ApplicablePriceCache(1_000_000L, priceRepository,
+                new SimpleMeterRegistry());
+        cachedPriceService = new CachedPriceServiceImpl(priceServiceImpl, applicablePriceCache);
+        applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+    }
+
+    @Test
+    @Order(1)
+    void test01GetApplicablePrice_CachedAfterFirstCall() {
+        PriceRequest priceRequest = PriceRequest.builder().price(25.45).currency("EUR").build();
+        when(priceServiceImpl.getApplicablePrice(35455L, 1L, applicationDate)).thenReturn(priceRequest);
+
+        PriceRequest first = cachedPriceService.getApplicablePrice(35455L, 1L, applicationDate);
+        PriceRequest second = cachedPriceService.getApplicablePrice(35455L, 1L, applicationDate);
+
+        assertSame(priceRequest, first);
+        assertSame(priceRequest, second);
+        verify(priceServiceImpl, times(1)).getApplicablePrice(35455L, 1L, applicationDate);
+    }
+
+    @Test
+    @Order(2)
+    void test02GetApplicablePrice_InvalidParametersBypassCache() {
+        when(priceServiceImpl.getApplicablePrice(null, 1L, applicationDate))
+                .thenThrow(new PriceBadRequestException("Invalid input parameters"));
+
+        assertThrows(PriceBadRequestException.class, () -> cachedPriceService.getApplicablePrice(null, 1L, applicationDate));
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.pricing_service.unit.application.service;
+
+import com.example.pricing_service.application.service.PriceService;
+import com.example.pricing_service.application.service.impl.PriceIngestionServiceImpl;
+import com.example.pricing_service.domain.dto.PriceDto;
+import com.example.pricing_service.domain.dto.PriceIngestionFailureDto;
+import com.example.pricing_service.domain.dto.PriceIngestionReportDto;
+import com.example.pricing_service.domain.port.BrandRepository;
+import com.example.pricing_service.domain.port.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class PriceIngestionServiceImplTest {
+
+    private static final String VALID_ROW = "{\"brand\":1,\"product\":10,\"priceList\":0,\"startDate\":\"2020-06-14T00:00:00\","
+            + "\"endDate\":\"2020-12-31T23:59:59\",\"priority\":0,\"price\":35.50,\"currency\":\"EUR\"}";
+
+    @Mock
+    private PriceService priceService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private BrandRepository brandRepository;
+
+    private PriceIngestionServiceImpl priceIngestionService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        priceIngestionService = new PriceIngestionServiceImpl(priceService, productRepository, brandRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(), objectMapper);
+
+        lenient().when(productRepository.findExistingIds(anyCollection())).thenReturn(Set.of(10L));
+        lenient().when(brandRepository.findExistingIds(anyCollection())).thenReturn(Set.of(1L));
+        lenient().when(priceService.createPrices(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @Order(1)
+    void test01IngestNdjsonInOneBatch() {
+        PriceIngestionReportDto report = priceIngestionService.ingestPrices(body(VALID_ROW + "\n" + VALID_ROW + "\n"));
+
+        assertEquals(2, report.getReceived());
+        assertEquals(2, report.getCreated());
+        assertTrue(report.getFailures().isEmpty());
+        verify(priceService, times(1)).createPrices(anyList());
+        verify(priceService, never()).createPrice(any());
+    }
+
+    @Test
+    @Order(2)
+    void test02IngestArrayReportsInvalidRows() {
+        String invertedDates = VALID_ROW.replace("2020-12-31T23:59:59", "2020-01-01T00:00:00");
+        String unknownProduct = VALID_ROW.replace("\"product\":10", "\"product\":99");
+
+        PriceIngestionReportDto report = priceIngestionService.ingestPrices(
+                body("[" + VALID_ROW + "," + invertedDates + "," + unknownProduct + "]"));
+
+        assertEquals(3, report.getReceived());
+        assertEquals(1, report.getCreated());
+        assertEquals(List.of(2, 3), report.getFailures().stream().map(PriceIngestionFailureDto::getRow).toList());
+        assertEquals(List.of("End date must be after start date"), report.getFailures().get(0).getErrors());
+        assertEquals(List.of("Product 99 not found"), report.getFailures().get(1).getErrors());
+
+        ArgumentCaptor<List<PriceDto>> created = ArgumentCaptor.forClass(List.class);
+        verify(priceService).createPrices(created.capture());
+        assertEquals(1, created.getValue().size());
+    }
+
+    @Test
+    @Order(3)
+    void test03UnreadableRowDoesNotStopTheLoad() {
+        String wrongType = VALID_ROW.replace("\"brand\":1", "\"brand\":\"abc\"");
+
+        PriceIngestionReportDto report = priceIngestionService.ingestPrices(body(wrongType + "\n" + VALID_ROW + "\n"));
+
+        assertEquals(2, report.getReceived());
+        assertEquals(1, report.getCreated());
+        assertEquals(1, report.getFailures().size());
+        assertEquals(1, report.getFailures().get(0).getRow());
+    }
+
+    @Test
+    @Order(4)
+    void test04RejectedBatchIsRetriedRowByRow() {
+        when(priceService.createPrices(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(priceService.createPrice(any(PriceDto.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+
+        PriceIngestionReportDto report = priceIngestionService.ingestPrices(body(VALID_ROW + "\n" + VALID_ROW + "\n"));
+
+        assertEquals(2, report.getReceived());
+        assertEquals(1, report.getCreated());
+        assertEquals(2, report.getFailures().get(0).getRow());
+        assertEquals(List.of("Price conflicts with the stored data"), report.getFailures().get(0).getErrors());
+        verify(priceService, times(2)).createPrice(any(PriceDto.class));
+    }
+
+    @Test
+    @Order(5)
+    void test05MalformedJsonStopsReading() {
+        PriceIngestionReportDto report = priceIngestionService.ingestPrices(body(VALID_ROW + "\n{\"brand\":\n"));
+
+        assertEquals(2, report.getReceived());
+        assertEquals(1, report.getCreated());
+        assertEquals(2, report.getFailures().get(0).getRow());
+        assertTrue(report.getFailures().get(0).getErrors().get(0).startsWith("Malformed JSON"));
+    }
+
+    @Test
+    @Order(6)
+    void test06UnexpectedFailuresDoNotLeakTheirMessage() {
+        when(priceService.createPrices(anyList())).thenThrow(new IllegalStateException("ERROR: relation \"prices\""));
+        when(priceService.createPrice(any(PriceDto.class))).thenThrow(new IllegalStateException("ERROR: relation \"prices\""));
+
+        PriceIngestionReportDto report = priceIngestionService.ingestPrices(body(VALID_ROW + "\n"));
+
+        assertEquals(0, report.getCreated());
+        assertEquals(List.of("Price could not be stored"), report.getFailures().get(0).getErrors());
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
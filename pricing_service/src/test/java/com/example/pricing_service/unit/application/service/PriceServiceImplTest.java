@@ -1,10 +1,18 @@
 package com.example.pricing_service.unit.application.service;
 
 import com.example.pricing_service.application.service.impl.PriceServiceImpl;
+import com.example.pricing_service.domain.dto.BasketDto;
+import com.example.pricing_service.domain.dto.BasketLineDto;
+import com.example.pricing_service.domain.dto.BasketPriceDto;
 import com.example.pricing_service.domain.dto.PriceDto;
+import com.example.pricing_service.domain.dto.PriceLookupDto;
+import com.example.pricing_service.domain.dto.PriceLookupResultDto;
+import com.example.pricing_service.domain.dto.PriceTimelineEntryDto;
 import com.example.pricing_service.domain.dto.request.PriceRequest;
 import com.example.pricing_service.domain.model.Brand;
 import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceInterval;
+import com.example.pricing_service.domain.model.PriceLookup;
 import com.example.pricing_service.domain.model.Product;
 import com.example.pricing_service.domain.port.PriceRepository;
 import com.example.pricing_service.infraestructure.commons.constants.CategoryType;
@@ -17,11 +25,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -103,17 +115,17 @@ class PriceServiceImplTest {
         Long productId = 1L;
         Long brandId = 1L;
 
-        when(priceRepository.findApplicablePrice(productId, brandId, mockApplicationDate))
-                .thenReturn(Optional.of(mockPrice));
-        when(priceMapper.toPriceRequest(mockPrice)).thenReturn(mockPriceRequest);
+        when(priceRepository.findApplicablePriceRequest(productId, brandId, mockApplicationDate))
+                .thenReturn(Optional.of(mockPriceRequest));
 
         PriceRequest result = priceService.getApplicablePrice(productId, brandId, mockApplicationDate);
 
         assertNotNull(result);
         assertEquals(mockPriceRequest, result);
 
-        verify(priceRepository).findApplicablePrice(productId, brandId, mockApplicationDate);
-        verify(priceMapper).toPriceRequest(mockPrice);
+        verify(priceRepository).findApplicablePriceRequest(productId, brandId, mockApplicationDate);
+        verify(priceRepository, never()).findApplicablePrice(any(), any(), any());
+        verify(priceMapper, never()).toPriceRequest(any());
     }
 
     @Test
@@ -122,14 +134,14 @@ class PriceServiceImplTest {
         Long productId = 1L;
         Long brandId = 1L;
 
-        when(priceRepository.findApplicablePrice(productId, brandId, mockApplicationDate))
+        when(priceRepository.findApplicablePriceRequest(productId, brandId, mockApplicationDate))
                 .thenReturn(Optional.empty());
 
         assertThrows(PriceNotFoundException.class, () -> {
             priceService.getApplicablePrice(productId, brandId, mockApplicationDate);
         });
 
-        verify(priceRepository).findApplicablePrice(productId, brandId, mockApplicationDate);
+        verify(priceRepository).findApplicablePriceRequest(productId, brandId, mockApplicationDate);
         verify(priceMapper, never()).toPriceRequest(any());
     }
 
@@ -142,17 +154,17 @@ class PriceServiceImplTest {
             priceService.getApplicablePrice(invalidProductId, 1L, mockApplicationDate);
         });
 
-        verify(priceRepository, never()).findApplicablePrice(anyLong(), anyLong(), any());
+        verify(priceRepository, never()).findApplicablePriceRequest(anyLong(), anyLong(), any());
     }
 
     @Test
     @Order(4)
     void test04CreatePrice_Success() {
-        Integer lastPriceList = 2;
+        Integer allocatedPriceList = 3;
         Price savedPrice = new Price();
 
-        when(priceRepository.findMaxPriceListByProductAndBrand(mockPriceDto.getProduct(), mockPriceDto.getBrand()))
-                .thenReturn(lastPriceList);
+        when(priceRepository.allocatePriceList(mockPriceDto.getProduct(), mockPriceDto.getBrand()))
+                .thenReturn(allocatedPriceList);
         when(priceMapper.toPriceFromDto(mockPriceDto)).thenReturn(mockPrice);
         when(priceRepository.savePrice(mockPrice)).thenReturn(savedPrice);
         when(priceMapper.toPriceDtoFromPrice(savedPrice)).thenReturn(mockPriceDto);
@@ -162,16 +174,17 @@ class PriceServiceImplTest {
         assertNotNull(result);
         assertEquals(mockPriceDto, result);
 
-        verify(priceRepository).findMaxPriceListByProductAndBrand(mockPriceDto.getProduct(), mockPriceDto.getBrand());
+        assertEquals(allocatedPriceList, mockPriceDto.getPriceList());
+        verify(priceRepository).allocatePriceList(mockPriceDto.getProduct(), mockPriceDto.getBrand());
         verify(priceRepository).savePrice(mockPrice);
     }
 
     @Test
     @Order(5)
     void test05CreatePrice_PriceBadRequestException() {
-        Integer lastPriceList = 2;
-        when(priceRepository.findMaxPriceListByProductAndBrand(mockPriceDto.getProduct(), mockPriceDto.getBrand()))
-                .thenReturn(lastPriceList);
+        Integer allocatedPriceList = 3;
+        when(priceRepository.allocatePriceList(mockPriceDto.getProduct(), mockPriceDto.getBrand()))
+                .thenReturn(allocatedPriceList);
         when(priceMapper.toPriceFromDto(mockPriceDto)).thenReturn(mockPrice);
         when(priceRepository.savePrice(any())).thenThrow(new PriceBadRequestException("Error saving a price"));
 
@@ -241,4 +254,159 @@ class PriceServiceImplTest {
 
         verify(priceRepository, never()).findAllById(any());
     }
+
+    @Test
+    @Order(10)
+    void test10GetApplicablePrices_ReportsMissesPerTuple() {
+        PriceLookupDto found = PriceLookupDto.builder().productId(1L).brandId(1L).applicationDate(mockApplicationDate).build();
+        PriceLookupDto missing = PriceLookupDto.builder().productId(2L).brandId(1L).applicationDate(mockApplicationDate).build();
+        PriceLookup foundLookup = PriceLookup.builder().productId(1L).brandId(1L).applicationDate(mockApplicationDate).build();
+        PriceLookup missingLookup = PriceLookup.builder().productId(2L).brandId(1L).applicationDate(mockApplicationDate).build();
+
+        when(priceMapper.toPriceLookup(found)).thenReturn(foundLookup);
+        when(priceMapper.toPriceLookup(missing)).thenReturn(missingLookup);
+        when(priceRepository.findApplicablePrices(List.of(foundLookup, missingLookup)))
+                .thenReturn(List.of(Optional.of(mockPrice), Optional.empty()));
+        when(priceMapper.toPriceRequest(mockPrice)).thenReturn(mockPriceRequest);
+
+        List<PriceLookupResultDto> results = priceService.getApplicablePrices(List.of(found, missing));
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isFound());
+        assertEquals(mockPriceRequest, results.get(0).getPrice());
+        assertFalse(results.get(1).isFound());
+        assertNull(results.get(1).getPrice());
+        assertEquals(2L, results.get(1).getProductId());
+    }
+
+    @Test
+    @Order(11)
+    void test11GetApplicablePrices_PriceBadRequestException() {
+        PriceLookupDto invalid = PriceLookupDto.builder().productId(-1L).brandId(1L).applicationDate(mockApplicationDate).build();
+
+        assertThrows(PriceBadRequestException.class, () -> priceService.getApplicablePrices(List.of(invalid)));
+        assertThrows(PriceBadRequestException.class, () -> priceService.getApplicablePrices(null));
+
+        verify(priceRepository, never()).findApplicablePrices(any());
+    }
+
+    @Test
+    @Order(12)
+    void test12CreatePrices_AllocatesOneBlockPerPair() {
+        PriceDto first = PriceDto.builder().product(1L).brand(1L).build();
+        PriceDto other = PriceDto.builder().product(2L).brand(1L).build();
+        PriceDto second = PriceDto.builder().product(1L).brand(1L).build();
+        List<PriceDto> priceDtos = List.of(first, other, second);
+
+        when(priceRepository.allocatePriceLists(1L, 1L, 2)).thenReturn(4);
+        when(priceRepository.allocatePriceLists(2L, 1L, 1)).thenReturn(1);
+        when(priceMapper.toPriceFromDto(any(PriceDto.class))).thenReturn(mockPrice);
+        when(priceRepository.savePrices(List.of(mockPrice, mockPrice, mockPrice)))
+                .thenReturn(List.of(mockPrice, mockPrice, mockPrice));
+        when(priceMapper.toPriceDtoFromPrice(mockPrice)).thenReturn(mockPriceDto);
+
+        List<PriceDto> result = priceService.createPrices(priceDtos);
+
+        assertEquals(3, result.size());
+        assertEquals(4, first.getPriceList());
+        assertEquals(5, second.getPriceList());
+        assertEquals(1, other.getPriceList());
+        verify(priceRepository, never()).allocatePriceList(anyLong(), anyLong());
+        verify(priceRepository, never()).savePrice(any());
+    }
+
+    @Test
+    @Order(13)
+    void test13ExportApplicablePrices_StreamsEveryPrice() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(priceRepository.streamApplicablePrices(1L, mockApplicationDate))
+                .thenReturn(Stream.of(mockPriceRequest, mockPriceRequest).onClose(() -> closed.set(true)));
+        List<PriceRequest> exported = new ArrayList<>();
+
+        long count = priceService.exportApplicablePrices(1L, mockApplicationDate, exported::add);
+
+        assertEquals(2, count);
+        assertEquals(List.of(mockPriceRequest, mockPriceRequest), exported);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @Order(14)
+    void test14ExportApplicablePrices_PriceBadRequestException() {
+        assertThrows(PriceBadRequestException.class,
+                () -> priceService.exportApplicablePrices(-1L, mockApplicationDate, price -> { }));
+        assertThrows(PriceBadRequestException.class,
+                () -> priceService.exportApplicablePrices(1L, null, price -> { }));
+
+        verify(priceRepository, never()).streamApplicablePrices(any(), any());
+    }
+
+    @Test
+    @Order(15)
+    void test15FindApplicablePrice_MissIsEmpty() {
+        when(priceRepository.findApplicablePriceRequest(1L, 1L, mockApplicationDate)).thenReturn(Optional.empty());
+
+        assertTrue(priceService.findApplicablePrice(1L, 1L, mockApplicationDate).isEmpty());
+        assertThrows(PriceBadRequestException.class, () -> priceService.findApplicablePrice(0L, 1L, mockApplicationDate));
+    }
+
+    @Test
+    @Order(16)
+    void test16GetPriceTimeline() {
+        LocalDateTime to = mockApplicationDate.plusDays(1);
+        PriceInterval interval = new PriceInterval(mockApplicationDate, to, mockPrice);
+        PriceTimelineEntryDto entry = new PriceTimelineEntryDto(mockApplicationDate, to, 1, 100.0, "USD");
+        when(priceRepository.findPriceTimeline(1L, 1L, mockApplicationDate, to)).thenReturn(List.of(interval));
+        when(priceMapper.toPriceTimelineEntryDto(interval)).thenReturn(entry);
+
+        assertEquals(List.of(entry), priceService.getPriceTimeline(1L, 1L, mockApplicationDate, to));
+    }
+
+    @Test
+    @Order(17)
+    void test17GetPriceTimeline_PriceBadRequestException() {
+        LocalDateTime to = mockApplicationDate.plusDays(1);
+
+        assertThrows(PriceBadRequestException.class, () -> priceService.getPriceTimeline(0L, 1L, mockApplicationDate, to));
+        assertThrows(PriceBadRequestException.class, () -> priceService.getPriceTimeline(1L, 1L, null, to));
+        assertThrows(PriceBadRequestException.class, () -> priceService.getPriceTimeline(1L, 1L, mockApplicationDate, null));
+        assertThrows(PriceBadRequestException.class, () -> priceService.getPriceTimeline(1L, 1L, to, mockApplicationDate));
+
+        verify(priceRepository, never()).findPriceTimeline(any(), any(), any(), any());
+    }
+
+    @Test
+    @Order(18)
+    void test18PriceBasketTotalsPerCurrency() {
+        Price eurPrice = Price.builder().id(2L).price(0.10).currency("EUR").build();
+        Price otherEurPrice = Price.builder().id(3L).price(0.20).currency("EUR").build();
+        when(priceRepository.findApplicablePrices(anyList()))
+                .thenReturn(List.of(Optional.of(mockPrice), Optional.of(eurPrice), Optional.empty(), Optional.of(otherEurPrice)));
+        when(priceMapper.toPriceRequest(any(Price.class))).thenReturn(mockPriceRequest);
+
+        BasketPriceDto result = priceService.priceBasket(new BasketDto(mockApplicationDate, List.of(
+                new BasketLineDto(1L, 1L, 2), new BasketLineDto(2L, 1L, 3),
+                new BasketLineDto(3L, 1L, 1), new BasketLineDto(4L, 1L, 1))));
+
+        assertEquals(4, result.getLines().size());
+        assertEquals(new BigDecimal("200.0"), result.getLines().get(0).getLineTotal());
+        assertFalse(result.getLines().get(2).isFound());
+        assertNull(result.getLines().get(2).getLineTotal());
+        assertEquals(List.of(2), result.getMissingLines());
+        assertEquals(0, new BigDecimal("200").compareTo(result.getTotals().get("USD")));
+        assertEquals(0, new BigDecimal("0.5").compareTo(result.getTotals().get("EUR")));
+        verify(priceRepository, times(1)).findApplicablePrices(anyList());
+    }
+
+    @Test
+    @Order(19)
+    void test19PriceBasket_PriceBadRequestException() {
+        assertThrows(PriceBadRequestException.class, () -> priceService.priceBasket(null));
+        assertThrows(PriceBadRequestException.class, () -> priceService.priceBasket(
+                new BasketDto(mockApplicationDate, List.of(new BasketLineDto(1L, 1L, 0)))));
+        assertThrows(PriceBadRequestException.class, () -> priceService.priceBasket(
+                new BasketDto(null, List.of(new BasketLineDto(1L, 1L, 1)))));
+
+        verify(priceRepository, never()).findApplicablePrices(any());
+    }
 }
@@ -3,7 +3,10 @@ package com.example.pricing_service.unit.application.service;
 import com.example.pricing_service.application.service.PriceService;
 import com.example.pricing_service.application.service.impl.ProductServiceImpl;
 import com.example.pricing_service.domain.dto.BrandDto;
+import com.example.pricing_service.domain.dto.PriceLookupResultDto;
 import com.example.pricing_service.domain.dto.ProductDto;
+import com.example.pricing_service.domain.dto.ProductLookupResultDto;
+import com.example.pricing_service.domain.dto.request.PriceRequest;
 import com.example.pricing_service.domain.dto.request.ProductRequest;
 import com.example.pricing_service.domain.model.Brand;
 import com.example.pricing_service.domain.model.Price;
@@ -11,6 +14,8 @@ import com.example.pricing_service.domain.model.Product;
 import com.example.pricing_service.domain.port.BrandRepository;
 import com.example.pricing_service.domain.port.ProductRepository;
 import com.example.pricing_service.infraestructure.commons.exceptions.BrandNotFoundException;
+import com.example.pricing_service.infraestructure.commons.exceptions.ProductAlreadyExistsException;
+import com.example.pricing_service.infraestructure.commons.exceptions.ProductBadRequestException;
 import com.example.pricing_service.infraestructure.commons.exceptions.ProductNotFoundException;
 import com.example.pricing_service.infraestructure.rest.mapper.ProductMapper;
 import org.junit.jupiter.api.*;
@@ -19,12 +24,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -115,34 +125,32 @@ public class ProductServiceImplTest {
     @Test
     @Order(3)
     void test03CreateProduct_Success() {
-        when(brandRepository.findAllById(mockProductDto.getBrandIds())).thenReturn(List.of(mockBrand));
+        when(brandRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
         when(productMapper.toProductFromDto(mockProductDto)).thenReturn(mockProduct);
-        when(productRepository.existsByHashCode(mockProduct.hashCode())).thenReturn(false);
-        when(productRepository.saveProduct(mockProduct)).thenReturn(mockProduct);
+        when(productRepository.saveNewProduct(mockProduct)).thenReturn(Optional.of(mockProduct));
         when(productMapper.toProductDto(mockProduct)).thenReturn(mockProductDto);
-        when(brandRepository.findBrandsByProductId(mockProduct.getId())).thenReturn(List.of(mockBrand));
-        when(brandRepository.findBrandById(anyString())).thenReturn(Optional.of(mockBrand));
-        when(productRepository.findProductById(String.valueOf(mockProduct.getId()))).thenReturn(Optional.of(mockProduct));
+        when(brandRepository.addProductToBrands(mockProduct.getId(), Set.of(1L))).thenReturn(1);
 
         ProductDto result = productService.createProduct(mockProductDto);
         assertNotNull(result);
 
-        verify(productRepository).saveProduct(mockProduct);
-        verify(brandRepository).findAllById(mockProductDto.getBrandIds());
-        verify(brandRepository).findBrandsByProductId(mockProduct.getId());
-        verify(brandRepository, times(mockProductDto.getBrandIds().size())).findBrandById(anyString());
+        verify(productRepository).saveNewProduct(mockProduct);
+        verify(brandRepository).addProductToBrands(mockProduct.getId(), Set.of(1L));
+        verify(brandRepository).removeProductFromBrands(mockProduct.getId(), Set.of());
+        verify(brandRepository, never()).findBrandById(anyString());
+        verify(brandRepository, never()).saveBrand(any());
     }
 
     @Test
     @Order(4)
     void test04CreateProduct_BrandNotFound() {
-        when(brandRepository.findAllById(mockProductDto.getBrandIds())).thenReturn(List.of());
+        when(brandRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of());
 
         assertThrows(BrandNotFoundException.class, () -> {
             productService.createProduct(mockProductDto);
         });
 
-        verify(brandRepository).findAllById(mockProductDto.getBrandIds());
+        verify(productRepository, never()).saveNewProduct(any());
     }
 
     @Test
@@ -152,17 +160,18 @@ public class ProductServiceImplTest {
 
         when(productRepository.saveProduct(mockProduct)).thenReturn(mockProduct);
         when(productMapper.toProductDto(mockProduct)).thenReturn(mockProductDto);
-        when(brandRepository.findBrandsByProductId(mockProduct.getId())).thenReturn(List.of(mockBrand));
-        when(brandRepository.findBrandById(anyString())).thenReturn(Optional.of(mockBrand));
+        when(brandRepository.findBrandIdsByProductId(mockProduct.getId())).thenReturn(Set.of(1L));
         when(productRepository.findProductById(String.valueOf(mockProduct.getId()))).thenReturn(Optional.of(mockProduct));
         when(priceService.findPricesByIds(mockProductDto.getPriceIds())).thenReturn(List.of(new Price(), new Price()));
 
         ProductDto result = productService.updateProduct(productId, mockProductDto);
 
         assertNotNull(result);
-        verify(productRepository, times(2)).findProductById(productId);
+        verify(productRepository).findProductById(productId);
         verify(priceService).findPricesByIds(mockProductDto.getPriceIds());
         verify(productRepository).saveProduct(mockProduct);
+        verify(brandRepository).removeProductFromBrands(mockProduct.getId(), Set.of());
+        verify(brandRepository).addProductToBrands(mockProduct.getId(), Set.of());
     }
 
     @Test
@@ -204,4 +213,89 @@ public class ProductServiceImplTest {
 
         verify(productRepository, never()).deleteById(anyLong());
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(9)
+    void test09UpdateProduct_WritesOnlyTheChangedBrands() {
+        mockProductDto.setBrandIds(Arrays.asList(2L, 3L, 3L));
+        when(productRepository.findProductById("1")).thenReturn(Optional.of(mockProduct));
+        when(brandRepository.findBrandIdsByProductId(1L)).thenReturn(Set.of(1L, 2L));
+        when(brandRepository.addProductToBrands(1L, Set.of(3L))).thenReturn(1);
+        when(productRepository.saveProduct(mockProduct)).thenReturn(mockProduct);
+        when(productMapper.toProductDto(mockProduct)).thenReturn(mockProductDto);
+
+        productService.updateProduct("1", mockProductDto);
+
+        verify(brandRepository).removeProductFromBrands(1L, Set.of(1L));
+        verify(brandRepository).addProductToBrands(1L, Set.of(3L));
+        verify(brandRepository, never()).saveBrand(any());
+    }
+
+    @Test
+    @Order(10)
+    void test10UpdateProduct_UnknownBrand() {
+        mockProductDto.setBrandIds(Arrays.asList(1L, 99L));
+        when(productRepository.findProductById("1")).thenReturn(Optional.of(mockProduct));
+        when(brandRepository.findBrandIdsByProductId(1L)).thenReturn(Set.of(1L));
+        when(brandRepository.addProductToBrands(1L, Set.of(99L))).thenReturn(0);
+
+        assertThrows(BrandNotFoundException.class, () -> productService.updateProduct("1", mockProductDto));
+
+        verify(productRepository, never()).saveProduct(any());
+    }
+
+    @Test
+    @Order(11)
+    void test11CreateProduct_Duplicate() {
+        when(brandRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(productMapper.toProductFromDto(mockProductDto)).thenReturn(mockProduct);
+        when(productRepository.saveNewProduct(mockProduct)).thenReturn(Optional.empty());
+
+        assertThrows(ProductAlreadyExistsException.class, () -> productService.createProduct(mockProductDto));
+
+        verify(brandRepository, never()).addProductToBrands(any(), any());
+    }
+
+    @Test
+    @Order(12)
+    void test12GetProductsByIds_AnswersInRequestOrderWithPrices() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+        Product other = Product.builder().id(2L).name("Product2").build();
+        ProductRequest otherRequest = ProductRequest.builder().name("Product2").build();
+        PriceRequest price = PriceRequest.builder().productId(2L).brandId(1L).price(25.45).build();
+        when(productRepository.findAllById(List.of(2L, 99L, 1L))).thenReturn(List.of(mockProduct, other));
+        when(productMapper.toProductRequest(mockProduct)).thenReturn(mockProductRequest);
+        when(productMapper.toProductRequest(other)).thenReturn(otherRequest);
+        when(priceService.getApplicablePrices(anyList())).thenReturn(List.of(
+                PriceLookupResultDto.builder().productId(1L).brandId(1L).found(false).build(),
+                PriceLookupResultDto.builder().productId(2L).brandId(1L).found(true).price(price).build()));
+
+        List<ProductLookupResultDto> result = productService.getProductsByIds(List.of(2L, 99L, 1L, 2L), 1L, date);
+
+        assertEquals(List.of(2L, 99L, 1L, 2L), result.stream().map(ProductLookupResultDto::getId).toList());
+        assertEquals(List.of(true, false, true, true), result.stream().map(ProductLookupResultDto::isFound).toList());
+        assertEquals(otherRequest, result.get(0).getProduct());
+        assertEquals(price, result.get(0).getPrice());
+        assertNull(result.get(1).getProduct());
+        assertEquals(mockProductRequest, result.get(2).getProduct());
+        assertNull(result.get(2).getPrice());
+        verify(priceService).getApplicablePrices(argThat(lookups -> lookups.size() == 2
+                && lookups.stream().allMatch(lookup -> lookup.getBrandId().equals(1L) && date.equals(lookup.getApplicationDate()))));
+    }
+
+    @Test
+    @Order(13)
+    void test13GetProductsByIds_WithoutBrandLeavesPricesOut() {
+        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(mockProduct));
+        when(productMapper.toProductRequest(mockProduct)).thenReturn(mockProductRequest);
+
+        List<ProductLookupResultDto> result = productService.getProductsByIds(List.of(1L), null, null);
+
+        assertNull(result.get(0).getPrice());
+        verifyNoInteractions(priceService);
+        assertThrows(ProductBadRequestException.class, () -> productService.getProductsByIds(List.of(), null, null));
+        assertThrows(ProductBadRequestException.class, () -> productService.getProductsByIds(Arrays.asList(1L, null), null, null));
+        assertThrows(ProductBadRequestException.class, () -> productService.getProductsByIds(
+                LongStream.rangeClosed(1, 1_001).boxed().toList(), null, null));
+    }
+}
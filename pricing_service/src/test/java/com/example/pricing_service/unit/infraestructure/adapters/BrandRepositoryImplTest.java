@@ -1,6 +1,7 @@
 package com.example.pricing_service.unit.infraestructure.adapters;
 
 import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Product;
 import com.example.pricing_service.infraestructure.adapters.BrandRepositoryImpl;
 import com.example.pricing_service.infraestructure.commons.exceptions.BrandBadRequestException;
 import com.example.pricing_service.infraestructure.entity.BrandEntity;
@@ -14,8 +15,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -79,30 +83,37 @@ class BrandRepositoryImplTest {
     @Test
     @Order(3)
     void test03FindBrandByIdSuccess() {
-        when(brandJpaRepository.findById(1L)).thenReturn(Optional.of(brandEntity));
+        when(brandJpaRepository.findWithProductListById(1L)).thenReturn(Optional.of(brandEntity));
         when(brandMapper.toBrand(brandEntity)).thenReturn(brand);
 
         Optional<Brand> result = brandRepositoryImpl.findBrandById("1");
 
         assertTrue(result.isPresent());
         assertEquals(1L, result.get().getId());
-        verify(brandJpaRepository).findById(1L);
+        verify(brandJpaRepository).findWithProductListById(1L);
         verify(brandMapper).toBrand(brandEntity);
     }
 
     @Test
     @Order(4)
     void test04SaveBrandSuccess() {
-        when(brandMapper.toBrandEntity(any(Brand.class))).thenReturn(brandEntity);
+        Brand newBrand = Brand.builder()
+                .name("Test Brand")
+                .userId(100L)
+                .productList(List.of(Product.builder().id(2L).build()))
+                .build();
         when(brandJpaRepository.save(any(BrandEntity.class))).thenReturn(brandEntity);
+        when(brandJpaRepository.findWithProductListById(1L)).thenReturn(Optional.of(brandEntity));
         when(brandMapper.toBrand(brandEntity)).thenReturn(brand);
 
-        Brand result = brandRepositoryImpl.saveBrand(brand);
+        Brand result = brandRepositoryImpl.saveBrand(newBrand);
 
         assertNotNull(result);
         assertEquals(brand.getId(), result.getId());
-        verify(brandJpaRepository).save(brandEntity);
-        verify(brandMapper).toBrandEntity(brand);
+        verify(brandJpaRepository).save(argThat((BrandEntity saved) -> saved.getId() == null && saved.getProductList().isEmpty()
+                && "Test Brand".equals(saved.getName())));
+        verify(brandJpaRepository).addProductsToBrand(1L, Set.of(2L));
+        verify(brandJpaRepository, never()).findProductIdsByBrandId(any());
         verify(brandMapper).toBrand(brandEntity);
     }
 
@@ -137,14 +148,15 @@ class BrandRepositoryImplTest {
     @Order(8)
     void test08FindAllByIdSuccess() {
         when(brandJpaRepository.findAllById(List.of(1L))).thenReturn(List.of(brandEntity));
-        when(brandMapper.toBrand(brandEntity)).thenReturn(brand);
+        when(brandMapper.toBrandSummary(brandEntity)).thenReturn(brand);
 
         List<Brand> result = brandRepositoryImpl.findAllById(List.of(1L));
 
         assertFalse(result.isEmpty());
         assertEquals(1L, result.get(0).getId());
         verify(brandJpaRepository).findAllById(List.of(1L));
-        verify(brandMapper).toBrand(brandEntity);
+        verify(brandMapper).toBrandSummary(brandEntity);
+        assertTrue(brandRepositoryImpl.findAllById(List.of()).isEmpty());
     }
 
     @Test
@@ -160,4 +172,73 @@ class BrandRepositoryImplTest {
         verify(brandJpaRepository).findBrandsByProductId(1L);
         verify(brandMapper).toBrand(brandEntity);
     }
+
+    @Test
+    @Order(10)
+    void test10AssociationChangesAreSetBased() {
+        when(brandJpaRepository.findBrandIdsByProductId(1L)).thenReturn(List.of(1L, 2L));
+        when(brandJpaRepository.addProductToBrands(1L, Set.of(3L))).thenReturn(1);
+
+        assertEquals(Set.of(1L, 2L), brandRepositoryImpl.findBrandIdsByProductId(1L));
+        assertEquals(1, brandRepositoryImpl.addProductToBrands(1L, Set.of(3L)));
+        brandRepositoryImpl.removeProductFromBrands(1L, Set.of(1L));
+
+        verify(brandJpaRepository).removeProductFromBrands(1L, Set.of(1L));
+        verify(brandJpaRepository, never()).findAllById(any());
+        verify(brandJpaRepository, never()).save(any());
+    }
+
+    @Test
+    @Order(11)
+    void test11EmptyAssociationChangesRunNoStatement() {
+        assertEquals(0, brandRepositoryImpl.addProductToBrands(1L, Set.of()));
+        brandRepositoryImpl.removeProductFromBrands(1L, Set.of());
+
+        verifyNoInteractions(brandJpaRepository);
+    }
+
+    @Test
+    @Order(12)
+    void test12SaveExistingBrandWritesOnlyTheChangedProducts() {
+        Brand updatedBrand = Brand.builder()
+                .id(1L)
+                .name("Renamed Brand")
+                .userId(100L)
+                .productList(List.of(Product.builder().id(2L).build(), Product.builder().id(3L).build()))
+                .build();
+        when(brandJpaRepository.findById(1L)).thenReturn(Optional.of(brandEntity));
+        when(brandJpaRepository.findProductIdsByBrandId(1L)).thenReturn(List.of(1L, 2L));
+        when(brandJpaRepository.findWithProductListById(1L)).thenReturn(Optional.of(brandEntity));
+        when(brandMapper.toBrand(brandEntity)).thenReturn(updatedBrand);
+
+        Brand result = brandRepositoryImpl.saveBrand(updatedBrand);
+
+        assertEquals("Renamed Brand", result.getName());
+        assertEquals("Renamed Brand", brandEntity.getName());
+        verify(brandJpaRepository).removeProductsFromBrand(1L, Set.of(1L));
+        verify(brandJpaRepository).addProductsToBrand(1L, Set.of(3L));
+        verify(brandJpaRepository, never()).save(any());
+        verify(brandMapper, never()).toBrandEntity(any());
+    }
+
+    @Test
+    @Order(13)
+    void test13SaveExistingBrandWithTheSameProductsWritesNoAssociation() {
+        Brand updatedBrand = Brand.builder()
+                .id(1L)
+                .name("Test Brand")
+                .userId(100L)
+                .productList(List.of(Product.builder().id(1L).build()))
+                .build();
+        when(brandJpaRepository.findById(1L)).thenReturn(Optional.of(brandEntity));
+        when(brandJpaRepository.findProductIdsByBrandId(1L)).thenReturn(List.of(1L));
+        when(brandJpaRepository.findWithProductListById(1L)).thenReturn(Optional.of(brandEntity));
+        when(brandMapper.toBrand(brandEntity)).thenReturn(updatedBrand);
+
+        brandRepositoryImpl.saveBrand(updatedBrand);
+
+        verify(brandJpaRepository, never()).addProductsToBrand(anyLong(), any());
+        verify(brandJpaRepository, never()).removeProductsFromBrand(anyLong(), any());
+        verify(brandJpaRepository, never()).save(any());
+    }
 }
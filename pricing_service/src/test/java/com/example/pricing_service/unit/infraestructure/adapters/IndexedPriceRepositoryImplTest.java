@@ -0,0 +1,155 @@
+package com.example.pricing_service.unit.infraestructure.adapters;
+
+import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceLookup;
+import com.example.pricing_service.domain.model.Product;
+import com.example.pricing_service.infraestructure.adapters.IndexedPriceRepositoryImpl;
+import com.example.pricing_service.infraestructure.adapters.PriceRepositoryImpl;
+import com.example.pricing_service.infraestructure.index.PriceIndexLoadedEvent;
+import com.example.pricing_service.infraestructure.index.PriceIntervalIndex;
+import com.example.pricing_service.infraestructure.repository.PriceJpaRepository;
+import com.example.pricing_service.infraestructure.rest.mapper.PriceMapper;
+import com.example.pricing_service.infraestructure.snapshot.PriceSnapshotStore;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class IndexedPriceRepositoryImplTest {
+
+    @Mock
+    private PriceRepositoryImpl priceRepositoryImpl;
+
+    @Mock
+    private PriceJpaRepository priceJpaRepository;
+
+    @Mock
+    private PriceMapper priceMapper;
+
+    @Mock
+    private PriceIntervalIndex priceIntervalIndex;
+
+    @Mock
+    private ObjectProvider<PriceSnapshotStore> priceSnapshotStoreProvider;
+
+    @Mock
+    private PriceSnapshotStore priceSnapshotStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private IndexedPriceRepositoryImpl indexedPriceRepository;
+
+    private Price price;
+    private LocalDateTime applicationDate;
+
+    @BeforeEach
+    void setUp() {
+        applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+        price = Price.builder()
+                .id(1L)
+                .brand(Brand.builder().id(1L).build())
+                .product(Product.builder().id(35455L).build())
+                .priceList(1)
+                .priority(0)
+                .price(35.50)
+                .currency("EUR")
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59))
+                .build();
+    }
+
+    @Test
+    @Order(1)
+    void test01FindApplicablePriceFromIndex() {
+        when(priceIntervalIndex.isReady()).thenReturn(true);
+        when(priceIntervalIndex.findApplicablePrice(35455L, 1L, applicationDate)).thenReturn(Optional.of(price));
+
+        Optional<Price> result = indexedPriceRepository.findApplicablePrice(35455L, 1L, applicationDate);
+
+        assertTrue(result.isPresent());
+        assertEquals(35.50, result.get().getPrice());
+        verify(priceRepositoryImpl, never()).findApplicablePrice(any(), any(), any());
+    }
+
+    @Test
+    @Order(2)
+    void test02FindApplicablePriceFallsBackWhileLoading() {
+        when(priceIntervalIndex.isReady()).thenReturn(false);
+        when(priceRepositoryImpl.findApplicablePrice(35455L, 1L, applicationDate)).thenReturn(Optional.of(price));
+
+        Optional<Price> result = indexedPriceRepository.findApplicablePrice(35455L, 1L, applicationDate);
+
+        assertTrue(result.isPresent());
+        verify(priceIntervalIndex, never()).findApplicablePrice(any(), any(), any());
+    }
+
+    @Test
+    @Order(3)
+    void test03WritesAreDelegated() {
+        when(priceRepositoryImpl.savePrice(price)).thenReturn(price);
+
+        Price result = indexedPriceRepository.savePrice(price);
+        indexedPriceRepository.deletePrice(price);
+
+        assertEquals(price, result);
+        verify(priceRepositoryImpl).savePrice(price);
+        verify(priceRepositoryImpl).deletePrice(price);
+    }
+
+    @Test
+    @Order(4)
+    void test04FindApplicablePricesFromIndex() {
+        PriceLookup hit = PriceLookup.builder().productId(35455L).brandId(1L).applicationDate(applicationDate).build();
+        PriceLookup miss = PriceLookup.builder().productId(99L).brandId(1L).applicationDate(applicationDate).build();
+        when(priceIntervalIndex.isReady()).thenReturn(true);
+        when(priceIntervalIndex.findApplicablePrice(35455L, 1L, applicationDate)).thenReturn(Optional.of(price));
+        when(priceIntervalIndex.findApplicablePrice(99L, 1L, applicationDate)).thenReturn(Optional.empty());
+
+        List<Optional<Price>> result = indexedPriceRepository.findApplicablePrices(List.of(hit, miss));
+
+        assertEquals(List.of(Optional.of(price), Optional.empty()), result);
+        verify(priceRepositoryImpl, never()).findApplicablePrices(any());
+    }
+
+    @Test
+    @Order(5)
+    void test05FindApplicablePriceFromSnapshotWhileLoading() {
+        when(priceIntervalIndex.isReady()).thenReturn(false);
+        when(priceSnapshotStoreProvider.getIfAvailable()).thenReturn(priceSnapshotStore);
+        when(priceSnapshotStore.isAvailable()).thenReturn(true);
+        when(priceSnapshotStore.findApplicablePrice(35455L, 1L, applicationDate)).thenReturn(Optional.of(price));
+
+        Optional<Price> result = indexedPriceRepository.findApplicablePrice(35455L, 1L, applicationDate);
+
+        assertEquals(Optional.of(price), result);
+        verify(priceRepositoryImpl, never()).findApplicablePrice(any(), any(), any());
+    }
+
+    @Test
+    @Order(6)
+    void test06LoadIndexReleasesSnapshotAndAnnouncesIndex() {
+        when(priceJpaRepository.streamAll()).thenReturn(Stream.empty());
+
+        indexedPriceRepository.loadIndex();
+
+        verify(priceIntervalIndex).load(any());
+        verify(priceSnapshotStoreProvider).ifAvailable(any());
+        verify(eventPublisher).publishEvent(any(PriceIndexLoadedEvent.class));
+    }
+}
@@ -2,13 +2,17 @@ package com.example.pricing_service.unit.infraestructure.adapters;
 
 import com.example.pricing_service.domain.model.Brand;
 import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceLookup;
 import com.example.pricing_service.domain.model.Product;
 import com.example.pricing_service.infraestructure.adapters.PriceRepositoryImpl;
+import com.example.pricing_service.infraestructure.adapters.PriceSegmentStore;
+import com.example.pricing_service.infraestructure.cache.PricedPairFilter;
 import com.example.pricing_service.infraestructure.commons.exceptions.PriceBadRequestException;
 import com.example.pricing_service.infraestructure.entity.BrandEntity;
 import com.example.pricing_service.infraestructure.entity.PriceEntity;
 import com.example.pricing_service.infraestructure.entity.ProductEntity;
 import com.example.pricing_service.infraestructure.repository.PriceJpaRepository;
+import com.example.pricing_service.infraestructure.repository.PriceListCounterJpaRepository;
 import com.example.pricing_service.infraestructure.rest.mapper.PriceMapper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +40,15 @@ class PriceRepositoryImplTest {
     @Mock
     private PriceMapper priceMapper;
 
+    @Mock
+    private PriceSegmentStore priceSegmentStore;
+
+    @Mock
+    private PriceListCounterJpaRepository priceListCounterJpaRepository;
+
+    @Mock
+    private PricedPairFilter pricedPairFilter;
+
     @InjectMocks
     private PriceRepositoryImpl priceRepositoryImpl;
 
@@ -50,6 +63,8 @@ class PriceRepositoryImplTest {
 
     @BeforeEach
     public void setUp() {
+        lenient().when(pricedPairFilter.mightHavePrice(any(), any())).thenReturn(true);
+
         brand = Brand.builder()
                 .id(200L)
                 .name("Test Brand")
@@ -69,7 +84,7 @@ class PriceRepositoryImplTest {
                 .id(100L)
                 .name("Test Brand")
                 .userId(1L)
-                .productList(Collections.emptyList())
+                .productList(Collections.emptySet())
                 .build();
 
         productEntity = ProductEntity.builder()
@@ -104,10 +119,8 @@ class PriceRepositoryImplTest {
     @Test
     @Order(1)
     void test01FindApplicablePriceSuccess() {
-        when(priceJpaRepository.findFirstByProductIdAndBrandIdAndStartDateBeforeAndEndDateAfterOrderByPriorityDesc(
-                anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(Optional.of(priceEntity));
-        when(priceMapper.toPrice(priceEntity)).thenReturn(price);
+        when(priceSegmentStore.findApplicablePrice(anyLong(), anyLong(), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(price));
 
         LocalDateTime time = LocalDateTime.now();
 
@@ -115,15 +128,15 @@ class PriceRepositoryImplTest {
 
         assertTrue(result.isPresent());
         assertEquals(9.99, result.get().getPrice());
-        verify(priceJpaRepository).findFirstByProductIdAndBrandIdAndStartDateBeforeAndEndDateAfterOrderByPriorityDesc(100L, 200L, time, time);
-        verify(priceMapper).toPrice(priceEntity);
+        verify(priceSegmentStore).findApplicablePrice(100L, 200L, time);
+        verify(priceJpaRepository, never()).findFirstByProductIdAndBrandIdAndStartDateBeforeAndEndDateAfterOrderByPriorityDesc(
+                any(), any(), any(), any());
     }
 
     @Test
     @Order(2)
     void test02FindApplicablePriceNotFound() {
-        when(priceJpaRepository.findFirstByProductIdAndBrandIdAndStartDateBeforeAndEndDateAfterOrderByPriorityDesc(
-                anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+        when(priceSegmentStore.findApplicablePrice(anyLong(), anyLong(), any(LocalDateTime.class)))
                 .thenReturn(Optional.empty());
 
         LocalDateTime time = LocalDateTime.now();
@@ -131,14 +144,8 @@ class PriceRepositoryImplTest {
         Optional<Price> result = priceRepositoryImpl.findApplicablePrice(100L, 200L, time);
 
         assertFalse(result.isPresent());
-        verify(priceJpaRepository).findFirstByProductIdAndBrandIdAndStartDateBeforeAndEndDateAfterOrderByPriorityDesc(100L, 200L, time, time);
-        /*verify(priceJpaRepository).findFirstByProductIdAndBrandIdAndStartDateBeforeAndEndDateAfterOrderByPriorityDesc(
-                eq(100L),
-                eq(200L),
-                argThat(date -> date.isBefore(LocalDateTime.now().plusNanos(1000)) && date.isAfter(LocalDateTime.now().minusNanos(1000))),
-                argThat(date -> date.isBefore(LocalDateTime.now().plusNanos(1000)) && date.isAfter(LocalDateTime.now().minusNanos(1000)))
-        );*/
-        verify(priceMapper, never()).toPrice(any());
+        verify(priceSegmentStore).findApplicablePrice(100L, 200L, time);
+        verify(priceMapper, never()).toShallowPrice(any());
     }
 
     @Test
@@ -146,15 +153,16 @@ class PriceRepositoryImplTest {
     void test03SavePriceSuccess() {
         when(priceMapper.toPriceEntity(any(Price.class))).thenReturn(priceEntity);
         when(priceJpaRepository.save(any(PriceEntity.class))).thenReturn(priceEntity);
-        when(priceMapper.toPrice(priceEntity)).thenReturn(price);
+        when(priceMapper.toShallowPrice(priceEntity)).thenReturn(price);
 
         Price result = priceRepositoryImpl.savePrice(price);
 
         assertNotNull(result);
         assertEquals(9.99, result.getPrice());
         verify(priceJpaRepository).save(priceEntity);
+        verify(priceSegmentStore).refresh(100L, 100L);
         verify(priceMapper).toPriceEntity(price);
-        verify(priceMapper).toPrice(priceEntity);
+        verify(priceMapper).toShallowPrice(priceEntity);
     }
 
     @Test
@@ -166,6 +174,7 @@ class PriceRepositoryImplTest {
 
         assertEquals("Error saving the price", exception.getMessage());
         verify(priceJpaRepository, never()).save(any());
+        verify(priceSegmentStore, never()).refresh(any(), any());
     }
 
     @Test
@@ -174,7 +183,7 @@ class PriceRepositoryImplTest {
         when(priceJpaRepository.findByBrandIdAndProductIdAndPriceListAndStartDateAndEndDate(
                 anyLong(), anyLong(), anyInt(), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .thenReturn(Optional.of(priceEntity));
-        when(priceMapper.toPrice(priceEntity)).thenReturn(price);
+        when(priceMapper.toShallowPrice(priceEntity)).thenReturn(price);
 
         LocalDateTime time = LocalDateTime.now().minusDays(1);
         LocalDateTime time2 = LocalDateTime.now().plusDays(1);
@@ -184,7 +193,7 @@ class PriceRepositoryImplTest {
         assertTrue(result.isPresent());
         assertEquals(9.99, result.get().getPrice());
         verify(priceJpaRepository).findByBrandIdAndProductIdAndPriceListAndStartDateAndEndDate(200L, 100L, 1, time, time2);
-        verify(priceMapper).toPrice(priceEntity);
+        verify(priceMapper).toShallowPrice(priceEntity);
     }
 
     @Test
@@ -198,7 +207,7 @@ class PriceRepositoryImplTest {
 
         assertFalse(result.isPresent());
         verify(priceJpaRepository).findByBrandIdAndProductIdAndPriceListAndStartDateAndEndDate(200L, 100L, 1, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
-        verify(priceMapper, never()).toPrice(any());
+        verify(priceMapper, never()).toShallowPrice(any());
     }
 
     @Test
@@ -209,6 +218,7 @@ class PriceRepositoryImplTest {
         priceRepositoryImpl.deletePrice(price);
 
         verify(priceJpaRepository).delete(priceEntity);
+        verify(priceSegmentStore).refresh(100L, 100L);
     }
 
     @Test
@@ -220,20 +230,21 @@ class PriceRepositoryImplTest {
 
         assertEquals("Error deleting the price", exception.getMessage());
         verify(priceJpaRepository, never()).delete(any());
+        verify(priceSegmentStore, never()).refresh(any(), any());
     }
 
     @Test
     @Order(9)
     void test09FindAllByIdSuccess() {
         when(priceJpaRepository.findAllById(anyList())).thenReturn(List.of(priceEntity));
-        when(priceMapper.toPrice(priceEntity)).thenReturn(price);
+        when(priceMapper.toShallowPrice(priceEntity)).thenReturn(price);
 
         List<Price> result = priceRepositoryImpl.findAllById(List.of(1L));
 
         assertFalse(result.isEmpty());
         assertEquals(1L, result.get(0).getId());
         verify(priceJpaRepository).findAllById(List.of(1L));
-        verify(priceMapper).toPrice(priceEntity);
+        verify(priceMapper).toShallowPrice(priceEntity);
     }
 
     @Test
@@ -247,12 +258,49 @@ class PriceRepositoryImplTest {
 
     @Test
     @Order(11)
-    void test11FindMaxPriceListByProductAndBrandSuccess() {
-        when(priceJpaRepository.findMaxPriceListByProductAndBrand(100L, 200L)).thenReturn(2);
+    void test11AllocatePriceListSuccess() {
+        when(priceListCounterJpaRepository.allocateNextPriceLists(100L, 200L, 1)).thenReturn(3);
 
-        Integer result = priceRepositoryImpl.findMaxPriceListByProductAndBrand(100L, 200L);
+        Integer result = priceRepositoryImpl.allocatePriceList(100L, 200L);
 
-        assertEquals(2, result);
-        verify(priceJpaRepository).findMaxPriceListByProductAndBrand(100L, 200L);
+        assertEquals(3, result);
+        verify(priceListCounterJpaRepository).allocateNextPriceLists(100L, 200L, 1);
+        verifyNoInteractions(priceJpaRepository);
+    }
+
+    @Test
+    @Order(12)
+    void test12SavePricesRefreshesEachPairOnce() {
+        List<PriceEntity> priceEntities = List.of(priceEntity, priceEntity);
+        when(priceMapper.toPriceEntity(price)).thenReturn(priceEntity);
+        when(priceJpaRepository.saveAll(priceEntities)).thenReturn(priceEntities);
+        when(priceMapper.toShallowPrice(priceEntity)).thenReturn(price);
+
+        List<Price> result = priceRepositoryImpl.savePrices(List.of(price, price));
+
+        assertEquals(2, result.size());
+        verify(priceJpaRepository).flush();
+        verify(priceSegmentStore, times(1)).refresh(100L, 100L);
+        verify(priceJpaRepository, never()).save(any());
+    }
+
+    @Test
+    @Order(13)
+    void test13UnpricedPairsAreNotQueried() {
+        LocalDateTime time = LocalDateTime.now();
+        PriceLookup priced = new PriceLookup(100L, 200L, time);
+        PriceLookup unpriced = new PriceLookup(101L, 200L, time);
+        when(pricedPairFilter.mightHavePrice(101L, 200L)).thenReturn(false);
+        when(priceSegmentStore.findApplicablePrices(List.of(priced))).thenReturn(List.of(Optional.of(price)));
+
+        assertTrue(priceRepositoryImpl.findApplicablePrice(101L, 200L, time).isEmpty());
+        assertTrue(priceRepositoryImpl.findApplicablePriceRequest(101L, 200L, time).isEmpty());
+        assertTrue(priceRepositoryImpl.findNextPriceBoundary(101L, 200L, time).isEmpty());
+        assertEquals(List.of(Optional.empty(), Optional.of(price), Optional.empty()),
+                priceRepositoryImpl.findApplicablePrices(List.of(unpriced, priced, unpriced)));
+
+        verify(priceSegmentStore, never()).findApplicablePrice(any(), any(), any());
+        verify(priceSegmentStore, never()).findApplicablePriceRequest(any(), any(), any());
+        verify(priceJpaRepository, never()).findNextBoundary(any(), any(), any());
     }
 }
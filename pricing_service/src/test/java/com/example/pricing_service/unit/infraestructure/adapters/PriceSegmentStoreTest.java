@@ -0,0 +1,169 @@
+package com.example.pricing_service.unit.infraestructure.adapters;
+
+import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.PriceLookup;
+import com.example.pricing_service.domain.model.Product;
+import com.example.pricing_service.infraestructure.adapters.PriceSegmentStore;
+import com.example.pricing_service.infraestructure.entity.BrandEntity;
+import com.example.pricing_service.infraestructure.entity.PriceEntity;
+import com.example.pricing_service.infraestructure.entity.PriceSegmentEntity;
+import com.example.pricing_service.infraestructure.entity.ProductEntity;
+import com.example.pricing_service.infraestructure.repository.PriceJpaRepository;
+import com.example.pricing_service.infraestructure.repository.PriceSegmentJpaRepository;
+import com.example.pricing_service.infraestructure.repository.ProductJpaRepository;
+import com.example.pricing_service.infraestructure.rest.mapper.BrandMapper;
+import com.example.pricing_service.infraestructure.rest.mapper.PriceMapper;
+import com.example.pricing_service.infraestructure.rest.mapper.ProductMapper;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PriceSegmentStoreTest {
+
+    @Mock
+    private PriceSegmentJpaRepository priceSegmentJpaRepository;
+
+    @Mock
+    private PriceJpaRepository priceJpaRepository;
+
+    @Mock
+    private ProductJpaRepository productJpaRepository;
+
+    @Mock
+    private PriceMapper priceMapper;
+
+    @Mock
+    private BrandMapper brandMapper;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @InjectMocks
+    private PriceSegmentStore priceSegmentStore;
+
+    private PriceEntity baseEntity;
+    private PriceEntity promotionEntity;
+    private Price basePrice;
+    private Price promotionPrice;
+
+    @BeforeEach
+    void setUp() {
+        baseEntity = PriceEntity.builder().id(1L).build();
+        promotionEntity = PriceEntity.builder().id(2L).build();
+        basePrice = price(1L, 0, 35.50, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59));
+        promotionPrice = price(2L, 1, 25.45, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30));
+    }
+
+    @Test
+    @Order(1)
+    void test01FindApplicablePrice() {
+        LocalDateTime time = LocalDateTime.of(2020, 6, 14, 16, 0);
+        PriceSegmentEntity segment = PriceSegmentEntity.builder().priceId(2L).price(25.45).build();
+        when(priceSegmentJpaRepository.findFirstByProductIdAndBrandIdAndSegmentStartLessThanEqualAndSegmentEndGreaterThan(
+                35455L, 1L, time, time)).thenReturn(Optional.of(segment));
+        when(priceMapper.segmentToPrice(segment)).thenReturn(promotionPrice);
+
+        Optional<Price> result = priceSegmentStore.findApplicablePrice(35455L, 1L, time);
+
+        assertTrue(result.isPresent());
+        assertEquals(25.45, result.get().getPrice());
+    }
+
+    @Test
+    @Order(2)
+    @SuppressWarnings("unchecked")
+    void test02RefreshRebuildsNonOverlappingSegments() {
+        when(priceJpaRepository.findByProductIdAndBrandId(35455L, 1L)).thenReturn(List.of(baseEntity, promotionEntity));
+        when(priceMapper.toShallowPrice(baseEntity)).thenReturn(basePrice);
+        when(priceMapper.toShallowPrice(promotionEntity)).thenReturn(promotionPrice);
+        when(productMapper.map(35455L)).thenReturn(ProductEntity.builder().id(35455L).build());
+        when(brandMapper.map(1L)).thenReturn(BrandEntity.builder().id(1L).build());
+
+        priceSegmentStore.refresh(35455L, 1L);
+
+        ArgumentCaptor<List<PriceSegmentEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productJpaRepository).findForUpdateById(35455L);
+        verify(priceSegmentJpaRepository).deleteByProductIdAndBrandId(35455L, 1L);
+        verify(priceSegmentJpaRepository).saveAll(captor.capture());
+
+        List<PriceSegmentEntity> segments = captor.getValue();
+        assertEquals(3, segments.size());
+        assertEquals(List.of(1L, 2L, 1L), segments.stream().map(PriceSegmentEntity::getPriceId).toList());
+        assertEquals(segments.get(0).getSegmentEnd(), segments.get(1).getSegmentStart());
+        assertEquals(segments.get(1).getSegmentEnd(), segments.get(2).getSegmentStart());
+    }
+
+    @Test
+    @Order(3)
+    void test03RefreshWithoutPricesLeavesNoSegments() {
+        when(priceJpaRepository.findByProductIdAndBrandId(35455L, 1L)).thenReturn(List.of());
+
+        priceSegmentStore.refresh(35455L, 1L);
+
+        verify(priceSegmentJpaRepository).deleteByProductIdAndBrandId(35455L, 1L);
+        verify(priceSegmentJpaRepository).saveAll(List.of());
+    }
+
+    @Test
+    @Order(4)
+    void test04FindApplicablePricesResolvesEveryLookup() {
+        LocalDateTime morning = LocalDateTime.of(2020, 6, 14, 10, 0);
+        LocalDateTime afternoon = LocalDateTime.of(2020, 6, 14, 16, 0);
+        ProductEntity product = ProductEntity.builder().id(35455L).build();
+        BrandEntity brand = BrandEntity.builder().id(1L).build();
+        PriceSegmentEntity baseSegment = PriceSegmentEntity.builder().product(product).brand(brand).priceId(1L)
+                .segmentStart(LocalDateTime.of(2020, 6, 14, 0, 0)).segmentEnd(LocalDateTime.of(2020, 6, 14, 15, 0)).build();
+        PriceSegmentEntity saleSegment = PriceSegmentEntity.builder().product(product).brand(brand).priceId(2L)
+                .segmentStart(LocalDateTime.of(2020, 6, 14, 15, 0)).segmentEnd(LocalDateTime.of(2020, 6, 14, 18, 30)).build();
+        when(priceSegmentJpaRepository.findCoveringPairs(List.of(35455L, 99L), List.of(1L, 1L), morning, afternoon))
+                .thenReturn(List.of(saleSegment, baseSegment));
+        when(priceMapper.segmentToPrice(baseSegment)).thenReturn(basePrice);
+        when(priceMapper.segmentToPrice(saleSegment)).thenReturn(promotionPrice);
+
+        List<Optional<Price>> result = priceSegmentStore.findApplicablePrices(List.of(
+                PriceLookup.builder().productId(35455L).brandId(1L).applicationDate(afternoon).build(),
+                PriceLookup.builder().productId(99L).brandId(1L).applicationDate(afternoon).build(),
+                PriceLookup.builder().productId(35455L).brandId(1L).applicationDate(morning).build()));
+
+        assertEquals(List.of(Optional.of(promotionPrice), Optional.empty(), Optional.of(basePrice)), result);
+    }
+
+    @Test
+    @Order(5)
+    void test05BackfillSkipsPopulatedTable() {
+        when(priceSegmentJpaRepository.count()).thenReturn(3L);
+
+        priceSegmentStore.backfill();
+
+        verify(priceJpaRepository, never()).findProductBrandPairs();
+        verify(priceSegmentJpaRepository, never()).saveAll(any());
+    }
+
+    private Price price(Long id, Integer priority, Double amount, LocalDateTime startDate, LocalDateTime endDate) {
+        return Price.builder()
+                .id(id)
+                .brand(Brand.builder().id(1L).build())
+                .product(Product.builder().id(35455L).build())
+                .priceList(id.intValue())
+                .priority(priority)
+                .price(amount)
+                .currency("EUR")
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
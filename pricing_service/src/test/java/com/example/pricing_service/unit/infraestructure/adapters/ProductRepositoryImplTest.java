@@ -2,6 +2,10 @@ package com.example.pricing_service.unit.infraestructure.adapters;
 
 import com.example.pricing_service.domain.model.Product;
 import com.example.pricing_service.infraestructure.adapters.ProductRepositoryImpl;
+import com.example.pricing_service.infraestructure.cache.ProductFingerprint;
+import com.example.pricing_service.infraestructure.cache.ProductFingerprintFilter;
+import com.example.pricing_service.infraestructure.commons.constants.CategoryType;
+import com.example.pricing_service.infraestructure.commons.exceptions.ProductAlreadyExistsException;
 import com.example.pricing_service.infraestructure.commons.exceptions.ProductBadRequestException;
 import com.example.pricing_service.infraestructure.entity.ProductEntity;
 import com.example.pricing_service.infraestructure.repository.ProductJpaRepository;
@@ -11,7 +15,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +35,9 @@ class ProductRepositoryImplTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private ProductFingerprintFilter productFingerprintFilter;
+
     @InjectMocks
     private ProductRepositoryImpl productRepositoryImpl;
 
@@ -58,26 +67,26 @@ class ProductRepositoryImplTest {
     @Test
     @Order(1)
     void test01FindProductById_Success() {
-        when(productJpaRepository.findById(100L)).thenReturn(Optional.of(productEntity));
+        when(productJpaRepository.findWithPriceListById(100L)).thenReturn(Optional.of(productEntity));
         when(productMapper.toProduct(productEntity)).thenReturn(product);
 
         Optional<Product> result = productRepositoryImpl.findProductById("100");
 
         assertTrue(result.isPresent());
         assertEquals(product, result.get());
-        verify(productJpaRepository).findById(100L);
+        verify(productJpaRepository).findWithPriceListById(100L);
         verify(productMapper).toProduct(productEntity);
     }
 
     @Test
     @Order(2)
     void test02FindProductById_NotFound() {
-        when(productJpaRepository.findById(100L)).thenReturn(Optional.empty());
+        when(productJpaRepository.findWithPriceListById(100L)).thenReturn(Optional.empty());
 
         Optional<Product> result = productRepositoryImpl.findProductById("100");
 
         assertFalse(result.isPresent());
-        verify(productJpaRepository).findById(100L);
+        verify(productJpaRepository).findWithPriceListById(100L);
         verify(productMapper, never()).toProduct(any());
     }
 
@@ -85,14 +94,14 @@ class ProductRepositoryImplTest {
     @Order(3)
     void test03SaveProduct_Success() {
         when(productMapper.toProductEntity(product)).thenReturn(productEntity);
-        when(productJpaRepository.save(productEntity)).thenReturn(productEntity);
+        when(productJpaRepository.saveAndFlush(productEntity)).thenReturn(productEntity);
         when(productMapper.toProduct(productEntity)).thenReturn(product);
 
         Product result = productRepositoryImpl.saveProduct(product);
 
         assertEquals(product, result);
         verify(productMapper).toProductEntity(product);
-        verify(productJpaRepository).save(productEntity);
+        verify(productJpaRepository).saveAndFlush(productEntity);
         verify(productMapper).toProduct(productEntity);
     }
 
@@ -115,26 +124,143 @@ class ProductRepositoryImplTest {
 
     @Test
     @Order(6)
-    void test06ExistsByHashCode() {
-        when(productJpaRepository.existsByHashCode(12345)).thenReturn(true);
+    void test06SaveNewProduct_SkipsTheLookupWhenTheFilterRulesItOut() {
+        long fingerprint = ProductFingerprint.of("Test Product", 1L, null);
+        when(productMapper.toProductEntity(product)).thenReturn(productEntity);
+        when(productFingerprintFilter.mightContainAny(any())).thenReturn(false);
+        when(productJpaRepository.saveAndFlush(productEntity)).thenReturn(productEntity);
+        when(productMapper.toProduct(productEntity)).thenReturn(product);
 
-        boolean exists = productRepositoryImpl.existsByHashCode(12345);
+        Optional<Product> result = productRepositoryImpl.saveNewProduct(product);
 
-        assertTrue(exists);
-        verify(productJpaRepository).existsByHashCode(12345);
+        assertEquals(Optional.of(product), result);
+        assertEquals(fingerprint, productEntity.getFingerprint());
+        verify(productJpaRepository, never()).findByFingerprints(any());
+        verify(productFingerprintFilter).mark(fingerprint);
     }
 
     @Test
     @Order(7)
     void test07FindAllById() {
-        when(productJpaRepository.findAllById(anyList())).thenReturn(List.of(productEntity));
+        when(productJpaRepository.findWithPriceListByIdIn(anyList())).thenReturn(List.of(productEntity));
         when(productMapper.toProduct(productEntity)).thenReturn(product);
 
         List<Product> result = productRepositoryImpl.findAllById(List.of(100L));
 
         assertEquals(1, result.size());
         assertEquals(product, result.get(0));
-        verify(productJpaRepository).findAllById(anyList());
+        verify(productJpaRepository).findWithPriceListByIdIn(anyList());
+        assertTrue(productRepositoryImpl.findAllById(List.of()).isEmpty());
         verify(productMapper).toProduct(productEntity);
     }
+
+    @Test
+    @Order(8)
+    void test08SaveNewProduct_Duplicate() {
+        ProductEntity stored = ProductEntity.builder()
+                .id(7L)
+                .name("Test Product")
+                .userId(1L)
+                .fingerprint(ProductFingerprint.of("Test Product", 1L, null))
+                .build();
+        when(productMapper.toProductEntity(product)).thenReturn(productEntity);
+        when(productFingerprintFilter.mightContainAny(any())).thenReturn(true);
+        when(productJpaRepository.findByFingerprints(any())).thenReturn(List.of(stored));
+
+        assertTrue(productRepositoryImpl.saveNewProduct(product).isEmpty());
+
+        verify(productJpaRepository, never()).saveAndFlush(any());
+        verify(productFingerprintFilter, never()).mark(anyLong());
+    }
+
+    @Test
+    @Order(9)
+    void test09SaveNewProduct_CollisionTakesTheNextSlot() {
+        long[] candidates = ProductFingerprint.candidates("Test Product", 1L, null);
+        ProductEntity colliding = ProductEntity.builder()
+                .id(7L)
+                .name("Other product")
+                .userId(2L)
+                .category(CategoryType.SHOES)
+                .fingerprint(candidates[0])
+                .build();
+        when(productMapper.toProductEntity(product)).thenReturn(productEntity);
+        when(productFingerprintFilter.mightContainAny(candidates)).thenReturn(true);
+        when(productJpaRepository.findByFingerprints(Arrays.stream(candidates).boxed().toList()))
+                .thenReturn(List.of(colliding));
+        when(productJpaRepository.saveAndFlush(productEntity)).thenReturn(productEntity);
+        when(productMapper.toProduct(productEntity)).thenReturn(product);
+
+        assertEquals(Optional.of(product), productRepositoryImpl.saveNewProduct(product));
+
+        assertEquals(candidates[1], productEntity.getFingerprint());
+        verify(productFingerprintFilter).mark(candidates[1]);
+    }
+
+    @Test
+    @Order(10)
+    void test10SaveProduct_RenameTakesAFreeSlot() {
+        long[] candidates = ProductFingerprint.candidates("Test Product", 1L, null);
+        ProductEntity stored = ProductEntity.builder()
+                .id(100L)
+                .name("Old name")
+                .userId(1L)
+                .fingerprint(ProductFingerprint.of("Old name", 1L, null))
+                .build();
+        ProductEntity colliding = ProductEntity.builder()
+                .id(7L)
+                .name("Other product")
+                .userId(2L)
+                .fingerprint(candidates[0])
+                .build();
+        when(productMapper.toProductEntity(product)).thenReturn(productEntity);
+        when(productJpaRepository.findById(100L)).thenReturn(Optional.of(stored));
+        when(productFingerprintFilter.mightContainAny(candidates)).thenReturn(true);
+        when(productJpaRepository.findByFingerprints(Arrays.stream(candidates).boxed().toList()))
+                .thenReturn(List.of(colliding));
+        when(productJpaRepository.saveAndFlush(productEntity)).thenReturn(productEntity);
+        when(productMapper.toProduct(productEntity)).thenReturn(product);
+
+        assertEquals(product, productRepositoryImpl.saveProduct(product));
+
+        assertEquals(candidates[1], productEntity.getFingerprint());
+    }
+
+    @Test
+    @Order(11)
+    void test11SaveProduct_RenameToAnotherProductConflicts() {
+        ProductEntity stored = ProductEntity.builder()
+                .id(100L)
+                .name("Old name")
+                .userId(1L)
+                .fingerprint(ProductFingerprint.of("Old name", 1L, null))
+                .build();
+        ProductEntity duplicate = ProductEntity.builder()
+                .id(7L)
+                .name("Test Product")
+                .userId(1L)
+                .fingerprint(ProductFingerprint.of("Test Product", 1L, null))
+                .build();
+        when(productMapper.toProductEntity(product)).thenReturn(productEntity);
+        when(productJpaRepository.findById(100L)).thenReturn(Optional.of(stored));
+        when(productFingerprintFilter.mightContainAny(any())).thenReturn(true);
+        when(productJpaRepository.findByFingerprints(any())).thenReturn(List.of(duplicate));
+
+        assertThrows(ProductAlreadyExistsException.class, () -> productRepositoryImpl.saveProduct(product));
+
+        verify(productJpaRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @Order(12)
+    void test12SaveNewProduct_UniqueViolationConflicts() {
+        when(productMapper.toProductEntity(product)).thenReturn(productEntity);
+        when(productFingerprintFilter.mightContainAny(any())).thenReturn(false);
+        when(productJpaRepository.saveAndFlush(productEntity))
+                .thenThrow(new DataIntegrityViolationException("uk_products_fingerprint"));
+
+        assertThrows(ProductAlreadyExistsException.class, () -> productRepositoryImpl.saveNewProduct(product));
+
+        verify(productFingerprintFilter, never()).mark(anyLong());
+    }
 }
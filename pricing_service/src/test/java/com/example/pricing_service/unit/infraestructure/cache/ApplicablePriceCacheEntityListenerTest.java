@@ -0,0 +1,44 @@
+package com.example.pricing_service.unit.infraestructure.cache;
+
+import com.example.pricing_service.infraestructure.cache.ApplicablePriceCache;
+import com.example.pricing_service.infraestructure.cache.ApplicablePriceCacheEntityListener;
+import com.example.pricing_service.infraestructure.entity.BrandEntity;
+import com.example.pricing_service.infraestructure.entity.PriceEntity;
+import com.example.pricing_service.infraestructure.entity.ProductEntity;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ApplicablePriceCacheEntityListenerTest {
+
+    @Mock
+    private ApplicablePriceCache applicablePriceCache;
+
+    @Mock
+    private ObjectProvider<ApplicablePriceCache> applicablePriceCacheProvider;
+
+    @InjectMocks
+    private ApplicablePriceCacheEntityListener applicablePriceCacheEntityListener;
+
+    @Test
+    @Order(1)
+    void test01OnChangeInvalidatesPair() {
+        PriceEntity priceEntity = PriceEntity.builder()
+                .id(1L)
+                .brand(BrandEntity.builder().id(1L).build())
+                .product(ProductEntity.builder().id(35455L).build())
+                .build();
+        when(applicablePriceCacheProvider.getObject()).thenReturn(applicablePriceCache);
+
+        applicablePriceCacheEntityListener.onChange(priceEntity);
+
+        verify(applicablePriceCache).invalidate(35455L, 1L);
+    }
+}
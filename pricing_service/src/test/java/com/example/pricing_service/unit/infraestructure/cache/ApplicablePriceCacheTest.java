@@ -0,0 +1,212 @@
+package com.example.pricing_service.unit.infraestructure.cache;
+
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.domain.port.PriceRepository;
+import com.example.pricing_service.infraestructure.cache.ApplicablePriceCache;
+import com.example.pricing_service.infraestructure.commons.exceptions.PriceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.*;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ApplicablePriceCacheTest {
+
+    private static final LocalDateTime SALE_START = LocalDateTime.of(2020, 6, 14, 15, 0);
+    private static final LocalDateTime SALE_END = LocalDateTime.of(2020, 6, 14, 18, 30);
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicablePriceCache applicablePriceCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(SALE_START.plusMinutes(30));
+        meterRegistry = new SimpleMeterRegistry();
+        applicablePriceCache = new ApplicablePriceCache(1_000_000L, priceRepository, meterRegistry, clock);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @Order(1)
+    void test01RequestsInsideWindowHitCache() {
+        LocalDateTime now = clock.now();
+        when(priceRepository.findNextPriceBoundary(35455L, 1L, now)).thenReturn(Optional.of(SALE_END));
+
+        PriceRequest first = applicablePriceCache.get(35455L, 1L, now, loader(25.45));
+        PriceRequest second = applicablePriceCache.get(35455L, 1L, now.plusHours(2), loader(25.45));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, applicablePriceCache.stats().hitCount());
+        assertEquals(1, applicablePriceCache.stats().missCount());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "applicablePrices").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @Order(2)
+    void test02RequestsOutsideWindowReload() {
+        LocalDateTime now = clock.now();
+        when(priceRepository.findNextPriceBoundary(any(), any(), any())).thenReturn(Optional.of(SALE_END));
+
+        applicablePriceCache.get(35455L, 1L, now, loader(25.45));
+        applicablePriceCache.get(35455L, 1L, SALE_END, loader(35.50));
+        applicablePriceCache.get(35455L, 1L, now.minusMinutes(1), loader(25.45));
+
+        assertEquals(3, loads.get());
+        assertEquals(0, applicablePriceCache.stats().hitCount());
+        assertEquals(3, applicablePriceCache.stats().missCount());
+        assertEquals(3.0, meterRegistry.get("cache.gets").tag("cache", "applicablePrices").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    @Order(3)
+    void test03EntryExpiresAtNextBoundary() {
+        LocalDateTime now = clock.now();
+        when(priceRepository.findNextPriceBoundary(35455L, 1L, now)).thenReturn(Optional.of(SALE_END));
+
+        applicablePriceCache.get(35455L, 1L, now, loader(25.45));
+        clock.advance(Duration.ofHours(2).plusMinutes(59));
+        applicablePriceCache.get(35455L, 1L, now, loader(25.45));
+        clock.advance(Duration.ofMinutes(2));
+        applicablePriceCache.get(35455L, 1L, now, loader(25.45));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @Order(4)
+    void test04PastWindowsDoNotExpire() {
+        LocalDateTime past = LocalDateTime.of(2020, 6, 13, 10, 0);
+        when(priceRepository.findNextPriceBoundary(35455L, 1L, past)).thenReturn(Optional.of(SALE_START));
+
+        applicablePriceCache.get(35455L, 1L, past, loader(35.50));
+        clock.advance(Duration.ofDays(365));
+        applicablePriceCache.get(35455L, 1L, past, loader(35.50));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @Order(5)
+    void test05InvalidateOnlyDropsTouchedPair() {
+        LocalDateTime now = clock.now();
+
+        applicablePriceCache.get(35455L, 1L, now, loader(25.45));
+        applicablePriceCache.get(35455L, 2L, now, loader(30.50));
+
+        applicablePriceCache.invalidate(35455L, 1L);
+        applicablePriceCache.get(35455L, 1L, now, loader(38.95));
+        applicablePriceCache.get(35455L, 2L, now, loader(30.50));
+
+        assertEquals(3, loads.get());
+        assertEquals(38.95, applicablePriceCache.get(35455L, 1L, now, loader(0.0)).getPrice());
+    }
+
+    @Test
+    @Order(6)
+    void test06LoaderExceptionsAreNotCached() {
+        Supplier<PriceRequest> notFound = () -> {
+            loads.incrementAndGet();
+            throw new PriceNotFoundException("Price not found");
+        };
+
+        assertThrows(PriceNotFoundException.class, () -> applicablePriceCache.get(35455L, 1L, clock.now(), notFound));
+        assertThrows(PriceNotFoundException.class, () -> applicablePriceCache.get(35455L, 1L, clock.now(), notFound));
+
+        assertEquals(2, loads.get());
+        assertEquals(0, applicablePriceCache.estimatedSize());
+    }
+
+    @Test
+    @Order(7)
+    void test07FindReportsMissesWithoutCachingThem() {
+        LocalDateTime now = clock.now();
+        when(priceRepository.findNextPriceBoundary(35455L, 1L, now)).thenReturn(Optional.of(SALE_END));
+        Supplier<Optional<PriceRequest>> missing = () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        };
+
+        assertTrue(applicablePriceCache.find(35455L, 1L, now, missing).isEmpty());
+        assertTrue(applicablePriceCache.find(35455L, 1L, now, missing).isEmpty());
+        assertEquals(0, applicablePriceCache.estimatedSize());
+
+        PriceRequest found = applicablePriceCache.find(35455L, 1L, now, () -> Optional.of(loader(25.45).get())).orElseThrow();
+
+        assertSame(found, applicablePriceCache.find(35455L, 1L, now, missing).orElseThrow());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @Order(8)
+    void test08LoadRacingWithInvalidationIsNotCached() {
+        LocalDateTime now = clock.now();
+        Supplier<PriceRequest> replacedWhileLoading = () -> {
+            PriceRequest replaced = loader(25.45).get();
+            applicablePriceCache.invalidate(35455L, 1L);
+            return replaced;
+        };
+
+        assertEquals(25.45, applicablePriceCache.get(35455L, 1L, now, replacedWhileLoading).getPrice());
+        assertEquals(0, applicablePriceCache.estimatedSize());
+        assertEquals(38.95, applicablePriceCache.get(35455L, 1L, now, loader(38.95)).getPrice());
+        assertEquals(2, loads.get());
+    }
+
+    private Supplier<PriceRequest> loader(Double price) {
+        return () -> {
+            loads.incrementAndGet();
+            return PriceRequest.builder().price(price).currency("EUR").build();
+        };
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(LocalDateTime start) {
+            this.instant = start.toInstant(ZoneOffset.UTC);
+        }
+
+        LocalDateTime now() {
+            return LocalDateTime.now(this);
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
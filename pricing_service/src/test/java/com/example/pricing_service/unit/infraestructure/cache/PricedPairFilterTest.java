@@ -0,0 +1,117 @@
+package com.example.pricing_service.unit.infraestructure.cache;
+
+import com.example.pricing_service.infraestructure.cache.PricedPairFilter;
+import com.example.pricing_service.infraestructure.repository.PriceJpaRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PricedPairFilterTest {
+
+    @Mock
+    private PriceJpaRepository priceJpaRepository;
+
+    private PricedPairFilter pricedPairFilter;
+
+    @BeforeEach
+    void setUp() {
+        pricedPairFilter = new PricedPairFilter(priceJpaRepository, true);
+    }
+
+    @Test
+    @Order(1)
+    void test01EveryPairMightHavePriceUntilBuilt() {
+        assertFalse(pricedPairFilter.isReady());
+        assertTrue(pricedPairFilter.mightHavePrice(35455L, 1L));
+        assertTrue(pricedPairFilter.mightHavePrice(99L, 2L));
+    }
+
+    @Test
+    @Order(2)
+    void test02RebuildKeepsOnlyPricedPairs() {
+        when(priceJpaRepository.streamProductBrandPairs()).thenReturn(Stream.of(
+                new Object[]{35455L, 1L}, new Object[]{35456L, 1L}, new Object[]{35455L, 2L}));
+
+        pricedPairFilter.rebuild();
+
+        assertTrue(pricedPairFilter.isReady());
+        assertTrue(pricedPairFilter.mightHavePrice(35455L, 1L));
+        assertTrue(pricedPairFilter.mightHavePrice(35456L, 1L));
+        assertTrue(pricedPairFilter.mightHavePrice(35455L, 2L));
+        assertFalse(pricedPairFilter.mightHavePrice(35456L, 2L));
+        assertFalse(pricedPairFilter.mightHavePrice(99L, 1L));
+        assertFalse(pricedPairFilter.mightHavePrice(35455L, 3L));
+        assertTrue(pricedPairFilter.mightHavePrice(Integer.MAX_VALUE + 1L, 1L));
+        assertTrue(pricedPairFilter.mightHavePrice(null, 1L));
+    }
+
+    @Test
+    @Order(3)
+    void test03MarkedPairsSurviveRebuild() {
+        when(priceJpaRepository.streamProductBrandPairs())
+                .thenReturn(Stream.<Object[]>of(new Object[]{35455L, 1L}))
+                .thenAnswer(invocation -> {
+                    pricedPairFilter.markPriced(7L, 1L);
+                    return Stream.<Object[]>of(new Object[]{35455L, 1L});
+                });
+        pricedPairFilter.rebuild();
+
+        pricedPairFilter.markPriced(8L, 1L);
+        assertTrue(pricedPairFilter.mightHavePrice(8L, 1L));
+
+        pricedPairFilter.rebuild();
+
+        assertTrue(pricedPairFilter.mightHavePrice(7L, 1L));
+        assertFalse(pricedPairFilter.mightHavePrice(8L, 1L));
+    }
+
+    @Test
+    @Order(4)
+    void test04DisabledFilterNeverReadsTheDatabase() {
+        PricedPairFilter disabled = new PricedPairFilter(priceJpaRepository, false);
+
+        disabled.rebuild();
+
+        assertFalse(disabled.isReady());
+        assertTrue(disabled.mightHavePrice(99L, 1L));
+        verifyNoInteractions(priceJpaRepository);
+    }
+
+    @Test
+    @Order(5)
+    void test05PairsAreMarkedOnceCommittedEvenWhileRebuilding() {
+        when(priceJpaRepository.streamProductBrandPairs())
+                .thenReturn(Stream.<Object[]>of(new Object[]{35455L, 1L}))
+                .thenAnswer(invocation -> {
+                    commit();
+                    return Stream.<Object[]>of(new Object[]{35455L, 1L});
+                });
+        pricedPairFilter.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            pricedPairFilter.markPriced(7L, 1L);
+            assertFalse(pricedPairFilter.mightHavePrice(7L, 1L));
+
+            pricedPairFilter.rebuild();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(pricedPairFilter.mightHavePrice(7L, 1L));
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.pricing_service.unit.infraestructure.cache;
+
+import com.example.pricing_service.infraestructure.cache.ProductFingerprint;
+import com.example.pricing_service.infraestructure.cache.ProductFingerprintFilter;
+import com.example.pricing_service.infraestructure.commons.constants.CategoryType;
+import com.example.pricing_service.infraestructure.repository.ProductJpaRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ProductFingerprintFilterTest {
+
+    private static final int STORED = 10_000;
+
+    @Mock
+    private ProductJpaRepository productJpaRepository;
+
+    private ProductFingerprintFilter productFingerprintFilter;
+
+    @BeforeEach
+    void setUp() {
+        productFingerprintFilter = new ProductFingerprintFilter(productJpaRepository, true, STORED);
+    }
+
+    @Test
+    @Order(1)
+    void test01EveryFingerprintMightBeStoredUntilBuilt() {
+        assertFalse(productFingerprintFilter.isReady());
+        assertTrue(productFingerprintFilter.mightContainAny(candidates("Product 1")));
+    }
+
+    @Test
+    @Order(2)
+    void test02RebuildRulesOutMostNewContent() {
+        when(productJpaRepository.count()).thenReturn((long) STORED);
+        when(productJpaRepository.streamFingerprints()).thenReturn(LongStream.range(0, STORED)
+                .mapToObj(i -> ProductFingerprint.of("Product " + i, 1L, CategoryType.CLOTHES)));
+
+        productFingerprintFilter.rebuild();
+
+        assertTrue(productFingerprintFilter.isReady());
+        for (int i = 0; i < STORED; i++) {
+            assertTrue(productFingerprintFilter.mightContainAny(candidates("Product " + i)));
+        }
+        long falsePositives = LongStream.range(STORED, 2 * STORED)
+                .filter(i -> productFingerprintFilter.mightContainAny(candidates("Product " + i)))
+                .count();
+        assertTrue(falsePositives < STORED / 20, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @Order(3)
+    void test03MarkedFingerprintsSurviveRebuild() {
+        long markedWhileRebuilding = ProductFingerprint.of("Product 7", 1L, CategoryType.CLOTHES);
+        when(productJpaRepository.streamFingerprints())
+                .thenReturn(Stream.empty())
+                .thenAnswer(invocation -> {
+                    productFingerprintFilter.mark(markedWhileRebuilding);
+                    return Stream.empty();
+                });
+        productFingerprintFilter.rebuild();
+
+        productFingerprintFilter.mark(ProductFingerprint.of("Product 8", 1L, CategoryType.CLOTHES));
+        assertTrue(productFingerprintFilter.mightContainAny(candidates("Product 8")));
+
+        productFingerprintFilter.rebuild();
+
+        assertTrue(productFingerprintFilter.mightContainAny(candidates("Product 7")));
+        assertFalse(productFingerprintFilter.mightContainAny(candidates("Product 8")));
+    }
+
+    @Test
+    @Order(4)
+    void test04DisabledFilterNeverReadsTheDatabase() {
+        ProductFingerprintFilter disabled = new ProductFingerprintFilter(productJpaRepository, false, STORED);
+
+        disabled.rebuild();
+
+        assertFalse(disabled.isReady());
+        assertTrue(disabled.mightContainAny(candidates("Product 1")));
+        verifyNoInteractions(productJpaRepository);
+    }
+
+    @Test
+    @Order(5)
+    void test05ContentHasDistinctCandidates() {
+        long[] candidates = candidates("Product 1");
+
+        assertEquals(ProductFingerprint.SLOTS, LongStream.of(candidates).distinct().count());
+        assertEquals(ProductFingerprint.of("Product 1", 1L, CategoryType.CLOTHES), candidates[0]);
+        assertTrue(ProductFingerprint.isCandidate(candidates[3], "Product 1", 1L, CategoryType.CLOTHES));
+        assertNotEquals(candidates[0], ProductFingerprint.of("Product 1", 1L, null));
+        assertNotEquals(candidates[0], ProductFingerprint.of("Product 1", 2L, CategoryType.CLOTHES));
+    }
+
+    private static long[] candidates(String name) {
+        return ProductFingerprint.candidates(name, 1L, CategoryType.CLOTHES);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.pricing_service.unit.infraestructure.generator;
+
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.Product;
+import com.example.pricing_service.infraestructure.cache.ProductFingerprint;
+import com.example.pricing_service.infraestructure.generator.CatalogGenerator;
+import com.example.pricing_service.infraestructure.index.PriceTimeline;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CatalogGeneratorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final CatalogGenerator.Settings SETTINGS =
+            new CatalogGenerator.Settings(5, 500, 2, 6, 42L, START, 90);
+
+    @Test
+    @Order(1)
+    void test01SameSeedGivesTheSameCatalog() {
+        List<String> first = describe(generate(SETTINGS));
+        List<String> second = describe(generate(SETTINGS));
+        List<String> other = describe(generate(new CatalogGenerator.Settings(5, 500, 2, 6, 43L, START, 90)));
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    @Test
+    @Order(2)
+    void test02CatalogHasTheConfiguredShape() {
+        CatalogGenerator generator = new CatalogGenerator(SETTINGS);
+        List<CatalogGenerator.GeneratedProduct> products = generate(SETTINGS);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), generator.brands().stream().map(brand -> brand.getId()).toList());
+        assertEquals(500, products.size());
+        assertEquals(6_000, generator.priceCount());
+
+        long expectedPriceId = 1;
+        Set<Long> fingerprints = new HashSet<>();
+        for (CatalogGenerator.GeneratedProduct generated : products) {
+            Product product = generated.product();
+            assertTrue(fingerprints.add(ProductFingerprint.of(product.getName(), product.getUserId(), product.getCategory())));
+            assertEquals(2, generated.brandIds().size());
+            assertEquals(12, generated.prices().size());
+            for (Price price : generated.prices()) {
+                assertEquals(expectedPriceId++, price.getId());
+                assertTrue(generated.brandIds().contains(price.getBrand().getId()));
+                assertTrue(price.getStartDate().isBefore(price.getEndDate()));
+                assertFalse(price.getEndDate().isAfter(START.plusDays(90)));
+                assertEquals(price.getPrice(), Math.round(price.getPrice() * 100) / 100.0);
+            }
+        }
+    }
+
+    @Test
+    @Order(3)
+    void test03EveryPairIsPricedOverTheWholeHorizon() {
+        for (CatalogGenerator.GeneratedProduct generated : generate(SETTINGS)) {
+            for (Long brandId : generated.brandIds()) {
+                List<Price> pairPrices = generated.prices().stream()
+                        .filter(price -> price.getBrand().getId().equals(brandId))
+                        .toList();
+                PriceTimeline timeline = PriceTimeline.of(pairPrices);
+                Price base = pairPrices.get(0);
+
+                assertEquals(1, base.getPriceList());
+                assertEquals(START, base.getStartDate());
+                assertTrue(timeline.findApplicablePrice(START.plusHours(1)).isPresent());
+                assertTrue(timeline.findApplicablePrice(START.plusDays(45)).isPresent());
+                assertTrue(timeline.findApplicablePrice(START.plusDays(90).minusHours(1)).isPresent());
+                pairPrices.stream().skip(1)
+                        .forEach(price -> assertTrue(price.getPrice() < base.getPrice() && price.getPriority() > 0));
+            }
+        }
+    }
+
+    @Test
+    @Order(4)
+    void test04InvalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CatalogGenerator(new CatalogGenerator.Settings(2, 10, 3, 4, 42L, START, 90)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CatalogGenerator(new CatalogGenerator.Settings(2, 10, 1, 0, 42L, START, 90)));
+    }
+
+    private static List<String> describe(List<CatalogGenerator.GeneratedProduct> products) {
+        return products.stream()
+                .flatMap(generated -> generated.prices().stream()
+                        .map(price -> String.join("|", generated.product().getName(),
+                                String.valueOf(generated.product().getCategory()), String.valueOf(price.getId()),
+                                String.valueOf(price.getBrand().getId()), String.valueOf(price.getPriceList()),
+                                String.valueOf(price.getPriority()), String.valueOf(price.getPrice()),
+                                String.valueOf(price.getStartDate()), String.valueOf(price.getEndDate()))))
+                .toList();
+    }
+
+    private static List<CatalogGenerator.GeneratedProduct> generate(CatalogGenerator.Settings settings) {
+        List<CatalogGenerator.GeneratedProduct> products = new ArrayList<>();
+        new CatalogGenerator(settings).forEachProduct(1L, products::add);
+        return products;
+    }
+}
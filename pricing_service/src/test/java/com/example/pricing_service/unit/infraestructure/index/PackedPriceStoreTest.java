@@ -0,0 +1,172 @@
+package com.example.pricing_service.unit.infraestructure.index;
+
+import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.Product;
+import com.example.pricing_service.infraestructure.index.PackedPriceStore;
+import com.example.pricing_service.infraestructure.index.PriceTimeline;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PackedPriceStoreTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    @Test
+    @Order(1)
+    void test01LookupsAgreeWithTheTimeline() {
+        Random random = new Random(42);
+        PackedPriceStore.Builder builder = new PackedPriceStore.Builder();
+        List<PriceTimeline> timelines = new ArrayList<>();
+        for (long productId = 1; productId <= 50; productId++) {
+            List<Price> prices = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(6); i++) {
+                LocalDateTime start = ORIGIN.plusHours(random.nextInt(48));
+                prices.add(price(productId * 100 + i, productId, random.nextInt(3), random.nextInt(3),
+                        (100 + random.nextInt(9_900)) / 100.0, start, start.plusHours(1 + random.nextInt(24))));
+            }
+            assertTrue(builder.add(productId, 1L, prices));
+            timelines.add(PriceTimeline.of(prices));
+        }
+        PackedPriceStore store = builder.build();
+
+        for (long productId = 1; productId <= 50; productId++) {
+            PriceTimeline timeline = timelines.get((int) productId - 1);
+            for (int minutes = 0; minutes < 80 * 60; minutes += 30) {
+                LocalDateTime date = ORIGIN.plusMinutes(minutes);
+                int row = store.findRow(productId, 1L, date);
+                Optional<Price> packed = row == PackedPriceStore.NOT_FOUND
+                        ? Optional.empty() : Optional.of(store.toPrice(row, productId, 1L));
+                Optional<Price> expected = timeline.findApplicablePrice(date);
+
+                assertEquals(expected.map(Price::getId), packed.map(Price::getId), productId + " at " + date);
+                assertEquals(expected.map(Price::getPrice), packed.map(Price::getPrice), productId + " at " + date);
+                assertEquals(timeline.findNextBoundary(date).map(PackedPriceStoreTest::micros)
+                                .orElse(PackedPriceStore.NO_BOUNDARY),
+                        store.findNextBoundary(productId, 1L, date), productId + " at " + date);
+            }
+        }
+        assertEquals(PackedPriceStore.NOT_FOUND, store.findRow(51L, 1L, ORIGIN.plusHours(1)));
+        assertEquals(PackedPriceStore.NOT_FOUND, store.findRow(1L, 2L, ORIGIN.plusHours(1)));
+    }
+
+    @Test
+    @Order(2)
+    void test02RowsKeepEveryField() {
+        PackedPriceStore.Builder builder = new PackedPriceStore.Builder();
+        assertTrue(builder.add(35455L, 1L, List.of(
+                price(7L, 35455L, 4, null, 35.50, ORIGIN, ORIGIN.plusDays(1)))));
+        PackedPriceStore store = builder.build();
+
+        Price price = store.toPrice(store.findRow(35455L, 1L, ORIGIN.plusHours(1)), 35455L, 1L);
+
+        assertEquals(7L, price.getId());
+        assertEquals(35455L, price.getProduct().getId());
+        assertEquals(1L, price.getBrand().getId());
+        assertEquals(4, price.getPriceList());
+        assertNull(price.getPriority());
+        assertEquals(ORIGIN, price.getStartDate());
+        assertEquals(ORIGIN.plusDays(1), price.getEndDate());
+        assertEquals(35.50, price.getPrice());
+        assertEquals("EUR", price.getCurrency());
+        assertEquals(List.of(7L), store.getPrices(35455L, 1L).stream().map(Price::getId).toList());
+    }
+
+    @Test
+    @Order(3)
+    void test03PricesThatDoNotFitAreRejected() {
+        PackedPriceStore.Builder builder = new PackedPriceStore.Builder();
+
+        assertFalse(builder.add(1L, 1L, List.of(price(1L, 1L, 1, 0, 10.005, ORIGIN, ORIGIN.plusDays(1)))));
+        assertFalse(builder.add(Integer.MAX_VALUE + 1L, 1L, List.of(price(2L, 1L, 1, 0, 10.00, ORIGIN, ORIGIN.plusDays(1)))));
+        assertTrue(builder.add(1L, 1L, List.of(price(3L, 1L, 1, 0, 10.00, ORIGIN, ORIGIN.plusDays(1)))));
+
+        PackedPriceStore store = builder.build();
+        assertEquals(1, store.size());
+        assertEquals(3L, store.toPrice(store.findRow(1L, 1L, ORIGIN.plusHours(1)), 1L, 1L).getId());
+    }
+
+    @Test
+    @Order(4)
+    void test04FootprintPerMillionPrices() {
+        PackedPriceStore.Builder builder = new PackedPriceStore.Builder();
+        for (long productId = 1; productId <= 250_000; productId++) {
+            List<Price> prices = new ArrayList<>(4);
+            for (int i = 0; i < 4; i++) {
+                prices.add(price(productId * 4 + i, productId, i, i, 10.00 + i, ORIGIN.plusDays(i), ORIGIN.plusDays(i + 2)));
+            }
+            builder.add(productId, 1L, prices);
+        }
+
+        PackedPriceStore.Footprint footprint = builder.build().getFootprint();
+
+        assertEquals(1_000_000, footprint.prices());
+        assertEquals(250_000, footprint.pairs());
+        assertTrue(footprint.bytesPerPrice() < 64, "bytes per price: " + footprint.bytesPerPrice());
+        assertEquals(footprint.bytes(), footprint.bytesPerMillionPrices());
+    }
+
+    @Test
+    @Order(5)
+    void test05LongHistoryUnderABasePriceAgreesWithTheTimeline() {
+        Random random = new Random(7);
+        List<Price> prices = new ArrayList<>();
+        prices.add(price(1L, 1L, 1, 0, 35.50, ORIGIN, ORIGIN.plusDays(400)));
+        for (int day = 0; day < 365; day++) {
+            LocalDateTime start = ORIGIN.plusDays(day).plusHours(random.nextInt(12));
+            prices.add(price(10L + day, 1L, 2 + random.nextInt(2), 1 + random.nextInt(2), 19.99, start,
+                    start.plusHours(1 + random.nextInt(36))));
+        }
+        prices.add(price(2L, 1L, 9, 9, 9.99, ORIGIN.plusDays(3), ORIGIN.plusDays(3)));
+        prices.add(price(3L, 1L, 9, 9, 9.99, ORIGIN.plusDays(4), ORIGIN.plusDays(4).plusNanos(1_000)));
+        PackedPriceStore.Builder builder = new PackedPriceStore.Builder();
+        assertTrue(builder.add(1L, 1L, prices));
+        PackedPriceStore store = builder.build();
+        PriceTimeline timeline = PriceTimeline.of(prices);
+
+        List<LocalDateTime> dates = new ArrayList<>();
+        for (Price price : prices) {
+            for (LocalDateTime boundary : List.of(price.getStartDate(), price.getEndDate())) {
+                dates.add(boundary.minusNanos(1_000));
+                dates.add(boundary);
+                dates.add(boundary.plusNanos(1_000));
+            }
+        }
+        for (LocalDateTime date : dates) {
+            int row = store.findRow(1L, 1L, date);
+            assertEquals(timeline.findApplicablePrice(date).map(Price::getId),
+                    row == PackedPriceStore.NOT_FOUND ? Optional.empty() : Optional.of(store.toPrice(row, 1L, 1L).getId()),
+                    "at " + date);
+            assertEquals(timeline.findNextBoundary(date).map(PackedPriceStoreTest::micros)
+                    .orElse(PackedPriceStore.NO_BOUNDARY), store.findNextBoundary(1L, 1L, date), "at " + date);
+        }
+    }
+
+    private static long micros(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + date.getNano() / 1_000;
+    }
+
+    private Price price(Long id, Long productId, Integer priceList, Integer priority, Double amount,
+                        LocalDateTime startDate, LocalDateTime endDate) {
+        return Price.builder()
+                .id(id)
+                .brand(Brand.builder().id(1L).build())
+                .product(Product.builder().id(productId).build())
+                .priceList(priceList)
+                .priority(priority)
+                .price(amount)
+                .currency("EUR")
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.pricing_service.unit.infraestructure.index;
+
+import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.Product;
+import com.example.pricing_service.infraestructure.entity.BrandEntity;
+import com.example.pricing_service.infraestructure.entity.PriceEntity;
+import com.example.pricing_service.infraestructure.entity.ProductEntity;
+import com.example.pricing_service.infraestructure.index.PriceIndexEntityListener;
+import com.example.pricing_service.infraestructure.index.PriceIntervalIndex;
+import com.example.pricing_service.infraestructure.rest.mapper.PriceMapper;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PriceIndexEntityListenerTest {
+
+    @Mock
+    private PriceIntervalIndex priceIntervalIndex;
+
+    @Mock
+    private PriceMapper priceMapper;
+
+    @InjectMocks
+    private PriceIndexEntityListener priceIndexEntityListener;
+
+    private PriceEntity priceEntity;
+    private Price price;
+
+    @BeforeEach
+    void setUp() {
+        priceEntity = PriceEntity.builder().id(1L).build();
+        price = Price.builder()
+                .id(1L)
+                .brand(Brand.builder().id(1L).build())
+                .product(Product.builder().id(35455L).build())
+                .build();
+        when(priceMapper.toShallowPrice(priceEntity)).thenReturn(price);
+    }
+
+    @Test
+    @Order(1)
+    void test01OnSaveAddsPrice() {
+        priceIndexEntityListener.onSave(priceEntity);
+
+        verify(priceIntervalIndex).add(price);
+    }
+
+    @Test
+    @Order(2)
+    void test02OnRemoveRemovesPrice() {
+        priceIndexEntityListener.onRemove(priceEntity);
+
+        verify(priceIntervalIndex).remove(price);
+    }
+
+    @Test
+    @Order(3)
+    void test03OnUpdateRemovesThePriceFromThePairItLeaves() {
+        priceEntity.setProduct(ProductEntity.builder().id(35455L).build());
+        priceEntity.setBrand(BrandEntity.builder().id(1L).build());
+        priceEntity.rememberStoredPair();
+        priceEntity.setBrand(BrandEntity.builder().id(2L).build());
+
+        priceIndexEntityListener.onUpdate(priceEntity);
+
+        verify(priceIntervalIndex).remove(argThat(previous -> previous.getId().equals(1L)
+                && previous.getProduct().getId().equals(35455L) && previous.getBrand().getId().equals(1L)));
+        verify(priceIntervalIndex).add(price);
+    }
+
+    @Test
+    @Order(4)
+    void test04OnUpdateWithinThePairOnlyReplacesThePrice() {
+        priceEntity.setProduct(ProductEntity.builder().id(35455L).build());
+        priceEntity.setBrand(BrandEntity.builder().id(1L).build());
+        priceEntity.rememberStoredPair();
+
+        priceIndexEntityListener.onUpdate(priceEntity);
+
+        verify(priceIntervalIndex).add(price);
+        verify(priceIntervalIndex, never()).remove(any());
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.pricing_service.unit.infraestructure.index;
+
+import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.Product;
+import com.example.pricing_service.infraestructure.index.PriceIntervalIndex;
+import com.example.pricing_service.infraestructure.index.PriceTimeline;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PriceIntervalIndexTest {
+
+    private PriceIntervalIndex priceIntervalIndex;
+
+    private Price basePrice;
+    private Price afternoonPrice;
+    private Price morningPrice;
+    private Price lastPrice;
+
+    @BeforeEach
+    void setUp() {
+        priceIntervalIndex = new PriceIntervalIndex();
+
+        basePrice = price(1L, 1, 0, 35.50,
+                LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59));
+        afternoonPrice = price(2L, 2, 1, 25.45,
+                LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30));
+        morningPrice = price(3L, 3, 1, 30.50,
+                LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0));
+        lastPrice = price(4L, 4, 1, 38.95,
+                LocalDateTime.of(2020, 6, 15, 16, 0), LocalDateTime.of(2020, 12, 31, 23, 59));
+
+        priceIntervalIndex.load(Stream.of(basePrice, afternoonPrice, morningPrice, lastPrice));
+    }
+
+    @Test
+    @Order(1)
+    void test01FindApplicablePriceResolvesPriority() {
+        assertTrue(priceIntervalIndex.isReady());
+        assertEquals(35.50, find(LocalDateTime.of(2020, 6, 14, 10, 0)).orElseThrow().getPrice());
+        assertEquals(25.45, find(LocalDateTime.of(2020, 6, 14, 16, 0)).orElseThrow().getPrice());
+        assertEquals(35.50, find(LocalDateTime.of(2020, 6, 14, 21, 0)).orElseThrow().getPrice());
+        assertEquals(30.50, find(LocalDateTime.of(2020, 6, 15, 10, 0)).orElseThrow().getPrice());
+        assertEquals(38.95, find(LocalDateTime.of(2020, 6, 16, 21, 0)).orElseThrow().getPrice());
+    }
+
+    @Test
+    @Order(2)
+    void test02BoundariesAreExclusive() {
+        assertTrue(find(LocalDateTime.of(2020, 6, 14, 0, 0)).isEmpty());
+        assertEquals(35.50, find(LocalDateTime.of(2020, 6, 14, 15, 0)).orElseThrow().getPrice());
+        assertEquals(35.50, find(LocalDateTime.of(2020, 6, 14, 18, 30)).orElseThrow().getPrice());
+        assertTrue(find(LocalDateTime.of(2020, 12, 31, 23, 59)).isEmpty());
+    }
+
+    @Test
+    @Order(3)
+    void test03FindApplicablePriceNotFound() {
+        assertTrue(find(LocalDateTime.of(2024, 9, 2, 18, 0)).isEmpty());
+        assertTrue(priceIntervalIndex.findApplicablePrice(99L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0)).isEmpty());
+    }
+
+    @Test
+    @Order(4)
+    void test04AddAndRemoveUpdateTheTimeline() {
+        Price flashSale = price(5L, 5, 2, 19.99,
+                LocalDateTime.of(2020, 6, 14, 9, 0), LocalDateTime.of(2020, 6, 14, 11, 0));
+
+        priceIntervalIndex.add(flashSale);
+        assertEquals(19.99, find(LocalDateTime.of(2020, 6, 14, 10, 0)).orElseThrow().getPrice());
+
+        priceIntervalIndex.remove(flashSale);
+        assertEquals(35.50, find(LocalDateTime.of(2020, 6, 14, 10, 0)).orElseThrow().getPrice());
+
+        priceIntervalIndex.remove(basePrice);
+        assertTrue(find(LocalDateTime.of(2020, 6, 14, 10, 0)).isEmpty());
+    }
+
+    @Test
+    @Order(5)
+    void test05ReloadKeepsLiveWrites() {
+        Price updated = price(1L, 1, 0, 40.00,
+                LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59));
+        priceIntervalIndex.add(updated);
+
+        priceIntervalIndex.load(Stream.of(basePrice));
+
+        assertEquals(40.00, find(LocalDateTime.of(2020, 6, 14, 10, 0)).orElseThrow().getPrice());
+    }
+
+    @Test
+    @Order(6)
+    void test06FindNextBoundary() {
+        assertEquals(LocalDateTime.of(2020, 6, 14, 15, 0),
+                priceIntervalIndex.findNextBoundary(35455L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0)).orElseThrow());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 18, 30),
+                priceIntervalIndex.findNextBoundary(35455L, 1L, LocalDateTime.of(2020, 6, 14, 18, 30)).orElseThrow());
+        assertEquals(LocalDateTime.of(2020, 12, 31, 23, 59),
+                priceIntervalIndex.findNextBoundary(35455L, 1L, LocalDateTime.of(2020, 6, 16, 0, 0)).orElseThrow());
+        assertTrue(priceIntervalIndex.findNextBoundary(35455L, 1L, LocalDateTime.of(2021, 1, 1, 0, 0)).isEmpty());
+        assertTrue(priceIntervalIndex.findNextBoundary(99L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0)).isEmpty());
+    }
+
+    @Test
+    @Order(7)
+    void test07PricesThatDoNotPackStayInTheTimeline() {
+        Price oddAmount = price(5L, 5, 2, 19.995,
+                LocalDateTime.of(2020, 6, 14, 9, 0), LocalDateTime.of(2020, 6, 14, 11, 0));
+
+        priceIntervalIndex.load(Stream.of(basePrice, oddAmount));
+
+        assertEquals(19.995, find(LocalDateTime.of(2020, 6, 14, 10, 0)).orElseThrow().getPrice());
+        assertEquals(35.50, find(LocalDateTime.of(2020, 6, 14, 12, 0)).orElseThrow().getPrice());
+        assertEquals(3, priceIntervalIndex.segments().count());
+    }
+
+    @Test
+    @Order(8)
+    void test08RemovingEveryPackedPriceEmptiesThePair() {
+        Stream.of(basePrice, afternoonPrice, morningPrice, lastPrice).forEach(priceIntervalIndex::remove);
+
+        assertTrue(find(LocalDateTime.of(2020, 6, 14, 10, 0)).isEmpty());
+        assertTrue(priceIntervalIndex.findNextBoundary(35455L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0)).isEmpty());
+        assertEquals(0, priceIntervalIndex.segments().count());
+        assertEquals(4, priceIntervalIndex.getFootprint().prices());
+    }
+
+    @Test
+    @Order(9)
+    void test09SegmentsAreClippedToTheWindow() {
+        LocalDateTime from = LocalDateTime.of(2020, 6, 14, 12, 0);
+        LocalDateTime to = LocalDateTime.of(2020, 6, 15, 12, 0);
+
+        List<PriceTimeline.Segment> segments = priceIntervalIndex.findSegments(35455L, 1L, from, to);
+
+        assertEquals(List.of(35.50, 25.45, 35.50, 30.50, 35.50),
+                segments.stream().map(segment -> segment.price().getPrice()).toList());
+        assertEquals(from, segments.get(0).start());
+        assertEquals(to, segments.get(segments.size() - 1).end());
+        for (int i = 1; i < segments.size(); i++) {
+            assertEquals(segments.get(i - 1).end(), segments.get(i).start());
+        }
+        segments.forEach(segment -> assertEquals(segment.price().getId(),
+                find(segment.start()).map(Price::getId).orElseThrow(), segment.toString()));
+        assertTrue(priceIntervalIndex.findSegments(35455L, 1L, LocalDateTime.of(2020, 1, 1, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 0, 0)).isEmpty());
+        assertTrue(priceIntervalIndex.findSegments(99L, 1L, from, to).isEmpty());
+    }
+
+    @Test
+    @Order(10)
+    void test10RemovalOfAnAlreadyLoadedPriceSurvivesTheLoad() {
+        PriceIntervalIndex loading = new PriceIntervalIndex();
+
+        loading.load(Stream.of(basePrice, afternoonPrice, morningPrice)
+                .peek(price -> {
+                    if (price == morningPrice) {
+                        loading.remove(afternoonPrice);
+                    }
+                }));
+
+        assertEquals(35.50, loading.findApplicablePrice(35455L, 1L, LocalDateTime.of(2020, 6, 14, 16, 0))
+                .orElseThrow().getPrice());
+        assertEquals(LocalDateTime.of(2020, 6, 15, 0, 0),
+                loading.findNextBoundary(35455L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0)).orElseThrow());
+        assertEquals(3, loading.segments().count());
+    }
+
+    private Optional<Price> find(LocalDateTime applicationDate) {
+        return priceIntervalIndex.findApplicablePrice(35455L, 1L, applicationDate);
+    }
+
+    private Price price(Long id, Integer priceList, Integer priority, Double amount, LocalDateTime startDate, LocalDateTime endDate) {
+        return Price.builder()
+                .id(id)
+                .brand(Brand.builder().id(1L).name("ZARA").build())
+                .product(Product.builder().id(35455L).name("Product Name").build())
+                .priceList(priceList)
+                .priority(priority)
+                .price(amount)
+                .currency("EUR")
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
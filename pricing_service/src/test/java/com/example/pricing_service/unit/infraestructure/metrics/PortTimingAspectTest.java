@@ -0,0 +1,129 @@
+package com.example.pricing_service.unit.infraestructure.metrics;
+
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.domain.port.PriceRepository;
+import com.example.pricing_service.infraestructure.metrics.PortTimingAspect;
+import com.example.pricing_service.infraestructure.metrics.ServerTimingFilter;
+import com.example.pricing_service.infraestructure.metrics.StageTimings;
+import com.example.pricing_service.infraestructure.metrics.TimedJacksonHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PortTimingAspectTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    private SimpleMeterRegistry meterRegistry;
+    private PriceRepository database;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PriceRequest priceRequest = new PriceRequest(35455L, 1L, 1, LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59), 35.50, "EUR");
+        PriceRepository target = mock(PriceRepository.class);
+        when(target.findApplicablePriceRequest(any(), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(2);
+            return Optional.of(priceRequest);
+        });
+        database = timed(target);
+    }
+
+    @Test
+    @Order(1)
+    void test01EveryPortMethodGetsItsTimer() {
+        database.findApplicablePriceRequest(35455L, 1L, APPLICATION_DATE);
+        database.findApplicablePriceRequest(35455L, 1L, APPLICATION_DATE);
+
+        Timer timer = meterRegistry.get(PortTimingAspect.REPOSITORY_TIMER)
+                .tag("method", "findApplicablePriceRequest")
+                .timer();
+        assertEquals(2, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 4);
+        assertEquals(1, meterRegistry.get(PortTimingAspect.REPOSITORY_TIMER).timers().size());
+    }
+
+    @Test
+    @Order(2)
+    void test02NestedRepositoriesCountOnceTowardsTheDatabase() {
+        PriceRepository target = mock(PriceRepository.class);
+        when(target.findApplicablePriceRequest(any(), any(), any())).thenAnswer(invocation ->
+                database.findApplicablePriceRequest(invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2)));
+        PriceRepository outer = timed(target);
+
+        StageTimings timings = StageTimings.start();
+        long start = System.nanoTime();
+        try {
+            outer.findApplicablePriceRequest(35455L, 1L, APPLICATION_DATE);
+        } finally {
+            timings.stop();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertTrue(timings.getNanos(StageTimings.Stage.DB) >= 2_000_000);
+        assertTrue(timings.getNanos(StageTimings.Stage.DB) <= elapsed);
+        assertEquals(0, timings.getNanos(StageTimings.Stage.MAPPING));
+        assertEquals(2, meterRegistry.get(PortTimingAspect.REPOSITORY_TIMER).timers().stream()
+                .mapToLong(Timer::count).sum());
+    }
+
+    @Test
+    @Order(3)
+    void test03ResponsesCarryTheServerTimingHeader() throws Exception {
+        TimedJacksonHttpMessageConverter converter =
+                new TimedJacksonHttpMessageConverter(new ObjectMapper().registerModule(new JavaTimeModule()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ServerTimingFilter().doFilter(new MockHttpServletRequest("GET", "/v1/prices"), response, (req, res) -> {
+            Object body = database.findApplicablePriceRequest(35455L, 1L, APPLICATION_DATE).orElseThrow();
+            converter.write(body, MediaType.APPLICATION_JSON,
+                    new ServletServerHttpResponse((HttpServletResponse) res));
+        });
+
+        String serverTiming = response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER);
+        assertNotNull(serverTiming);
+        assertTrue(serverTiming.matches("db;dur=\\d+\\.\\d{3}, map;dur=\\d+\\.\\d{3}, ser;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}"),
+                serverTiming);
+        assertFalse(serverTiming.startsWith("db;dur=0.000"), serverTiming);
+        assertFalse(serverTiming.contains("ser;dur=0.000"), serverTiming);
+        assertTrue(response.getContentAsString().contains("\"price\":35.5"), response.getContentAsString());
+    }
+
+    @Test
+    @Order(4)
+    void test04ResponsesWithoutBodyStillCarryTheHeader() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ServerTimingFilter().doFilter(new MockHttpServletRequest("DELETE", "/v1/prices"), response,
+                (req, res) -> ((HttpServletResponse) res).setStatus(204));
+
+        assertEquals(204, response.getStatus());
+        assertNotNull(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER));
+    }
+
+    private PriceRepository timed(PriceRepository target) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new PortTimingAspect(meterRegistry));
+        return proxyFactory.getProxy();
+    }
+}
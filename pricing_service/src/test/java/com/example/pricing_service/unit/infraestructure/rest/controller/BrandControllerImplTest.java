@@ -3,7 +3,6 @@ package com.example.pricing_service.unit.infraestructure.rest.controller;
 import com.example.pricing_service.application.service.BrandService;
 import com.example.pricing_service.domain.dto.BrandDto;
 import com.example.pricing_service.domain.dto.request.BrandRequest;
-import com.example.pricing_service.domain.model.Product;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.*;
@@ -46,10 +45,7 @@ class BrandControllerImplTest {
         objectMapper.registerModule(new JavaTimeModule());
         mockBrandRequest = BrandRequest.builder()
                 .name("SomeBrand")
-                .productList(Arrays.asList(Product.builder()
-                        .id(1L)
-                        .name("SomeProduct")
-                        .build()))
+                .productIds(Arrays.asList(1L))
                 .build();
 
         mockBrandDto = BrandDto.builder()
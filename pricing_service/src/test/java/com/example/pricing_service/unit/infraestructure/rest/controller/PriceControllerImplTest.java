@@ -1,5 +1,6 @@
 package com.example.pricing_service.unit.infraestructure.rest.controller;
 
+import com.example.pricing_service.application.service.PriceIngestionService;
 import com.example.pricing_service.application.service.PriceService;
 import com.example.pricing_service.domain.dto.PriceDto;
 import com.example.pricing_service.domain.dto.request.PriceRequest;
@@ -18,6 +19,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRICE_BAD_REQUEST;
 import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRICE_NOT_FOUND;
@@ -36,6 +38,9 @@ class PriceControllerImplTest {
     @MockBean
     private PriceService priceService;
 
+    @MockBean
+    private PriceIngestionService priceIngestionService;
+
     private ObjectMapper objectMapper;
 
     @BeforeEach
@@ -43,29 +48,29 @@ class PriceControllerImplTest {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
 
-        when(priceService.getApplicablePrice(any(Long.class), any(Long.class), any(LocalDateTime.class)))
+        when(priceService.findApplicablePrice(any(Long.class), any(Long.class), any(LocalDateTime.class)))
                 .thenAnswer(invocation -> {
                     Long productId = invocation.getArgument(0);
                     Long brandId = invocation.getArgument(1);
                     LocalDateTime applicationDate = invocation.getArgument(2);
 
                     if (applicationDate.equals(LocalDateTime.of(2020, 6, 14, 10, 0))) {
-                        return new PriceRequest(productId, brandId, 1, LocalDateTime.of(2020, 6, 14, 0, 0),
-                                LocalDateTime.of(2020, 12, 31, 23, 59), 35.50, "EUR");
+                        return Optional.of(new PriceRequest(productId, brandId, 1, LocalDateTime.of(2020, 6, 14, 0, 0),
+                                LocalDateTime.of(2020, 12, 31, 23, 59), 35.50, "EUR"));
                     } else if (applicationDate.equals(LocalDateTime.of(2020, 6, 14, 16, 0))) {
-                        return new PriceRequest(productId, brandId, 2, LocalDateTime.of(2020, 6, 14, 0, 0),
-                                LocalDateTime.of(2020, 12, 31, 23, 59), 25.45, "EUR");
+                        return Optional.of(new PriceRequest(productId, brandId, 2, LocalDateTime.of(2020, 6, 14, 0, 0),
+                                LocalDateTime.of(2020, 12, 31, 23, 59), 25.45, "EUR"));
                     } else if (applicationDate.equals(LocalDateTime.of(2020, 6, 14, 21, 0))) {
-                        return new PriceRequest(productId, brandId, 1, LocalDateTime.of(2020, 6, 14, 0, 0),
-                                LocalDateTime.of(2020, 12, 31, 23, 59), 35.50, "EUR");
+                        return Optional.of(new PriceRequest(productId, brandId, 1, LocalDateTime.of(2020, 6, 14, 0, 0),
+                                LocalDateTime.of(2020, 12, 31, 23, 59), 35.50, "EUR"));
                     } else if (applicationDate.equals(LocalDateTime.of(2020, 6, 15, 10, 0))) {
-                        return new PriceRequest(productId, brandId, 3, LocalDateTime.of(2020, 6, 15, 0, 0),
-                                LocalDateTime.of(2020, 6, 15, 11, 0), 30.50, "EUR");
+                        return Optional.of(new PriceRequest(productId, brandId, 3, LocalDateTime.of(2020, 6, 15, 0, 0),
+                                LocalDateTime.of(2020, 6, 15, 11, 0), 30.50, "EUR"));
                     } else if (applicationDate.equals(LocalDateTime.of(2020, 6, 16, 21, 0))) {
-                        return new PriceRequest(productId, brandId, 4, LocalDateTime.of(2020, 6, 16, 0, 0),
-                                LocalDateTime.of(2020, 12, 31, 23, 59), 38.95, "EUR");
+                        return Optional.of(new PriceRequest(productId, brandId, 4, LocalDateTime.of(2020, 6, 16, 0, 0),
+                                LocalDateTime.of(2020, 12, 31, 23, 59), 38.95, "EUR"));
                     } else if (applicationDate.equals(LocalDateTime.of(2020, 6, 17, 10, 0))) {
-                        throw new PriceNotFoundException(PRICE_NOT_FOUND);
+                        return Optional.empty();
                     } else {
                         throw new PriceBadRequestException(PRICE_BAD_REQUEST);
                     }
@@ -190,7 +195,8 @@ class PriceControllerImplTest {
                         .param("brandId", "1")
                         .param("applicationDate", "2020-06-17T10:00:00")
                         .accept(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(PRICE_NOT_FOUND));
     }
 
     /**
@@ -0,0 +1,93 @@
+package com.example.pricing_service.unit.infraestructure.rest.controller;
+
+import com.example.pricing_service.application.service.PriceService;
+import com.example.pricing_service.domain.dto.request.PriceRequest;
+import com.example.pricing_service.infraestructure.commons.exceptions.GlobalExceptionHandler;
+import com.example.pricing_service.infraestructure.commons.exceptions.PriceBadRequestException;
+import com.example.pricing_service.infraestructure.rest.controller.PriceControllerImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRICE_BAD_REQUEST;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PriceExportTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Mock
+    private PriceService priceService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mockMvc = MockMvcBuilders.standaloneSetup(new PriceControllerImpl(priceService, null, objectMapper))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @Order(1)
+    @SuppressWarnings("unchecked")
+    void test01EveryLineEndsWithNewline() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<PriceRequest> consumer = invocation.getArgument(2);
+            consumer.accept(price(35455L, 25.45));
+            consumer.accept(price(35456L, 30.50));
+            return 2L;
+        }).when(priceService).exportApplicablePrices(eq(1L), eq(APPLICATION_DATE), any(Consumer.class));
+
+        String body = mockMvc.perform(get("/v1/prices/export").param("brandId", "1")
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n", -1);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"productId\":35455"));
+        assertTrue(lines[1].startsWith("{\"productId\":35456"));
+        assertEquals("", lines[2]);
+    }
+
+    @Test
+    @Order(2)
+    @SuppressWarnings("unchecked")
+    void test02InvalidRequestIsAnsweredWithItsError() throws Exception {
+        when(priceService.exportApplicablePrices(eq(-1L), eq(APPLICATION_DATE), any(Consumer.class)))
+                .thenThrow(new PriceBadRequestException(PRICE_BAD_REQUEST));
+
+        mockMvc.perform(get("/v1/prices/export").param("brandId", "-1")
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message").value(PRICE_BAD_REQUEST));
+    }
+
+    private static PriceRequest price(Long productId, Double amount) {
+        return new PriceRequest(productId, 1L, 1, LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59), amount, "EUR");
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.pricing_service.unit.infraestructure.rest.controller;
+
+import com.example.pricing_service.application.service.impl.PriceServiceImpl;
+import com.example.pricing_service.domain.port.PriceRepository;
+import com.example.pricing_service.infraestructure.commons.error.ErrorResponse;
+import com.example.pricing_service.infraestructure.commons.exceptions.GlobalExceptionHandler;
+import com.example.pricing_service.infraestructure.commons.exceptions.PriceNotFoundException;
+import com.example.pricing_service.infraestructure.rest.controller.PriceControllerImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRICE_BAD_REQUEST;
+import static com.example.pricing_service.infraestructure.commons.constants.ExceptionMessages.PRICE_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * A price lookup that misses is answered through the controller and the service without throwing, with the same
+ * pre-serialized body the exception handler writes. Its cost against a hit is measured by ApplicablePriceBenchmark.
+ */
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PriceLookupMissPathTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    private PriceControllerImpl priceController;
+
+    @BeforeEach
+    void setUp() {
+        priceController = new PriceControllerImpl(new PriceServiceImpl(priceRepository, null), null, null);
+    }
+
+    @Test
+    @Order(1)
+    void test01MissAnswersWithThePreSerializedError() throws Exception {
+        when(priceRepository.findApplicablePriceRequest(99L, 1L, APPLICATION_DATE)).thenReturn(Optional.empty());
+
+        ResponseEntity<?> response = priceController.getPrice(99L, 1L, APPLICATION_DATE);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(PRICE_NOT_FOUND, new ObjectMapper().readValue((byte[]) response.getBody(), ErrorResponse.class).getMessage());
+
+        ResponseEntity<byte[]> handled = new GlobalExceptionHandler()
+                .handlePriceNotFoundException(new PriceNotFoundException(PRICE_NOT_FOUND));
+        assertArrayEquals((byte[]) response.getBody(), handled.getBody());
+        assertEquals(0, new PriceNotFoundException(PRICE_NOT_FOUND).getStackTrace().length);
+    }
+
+    @Test
+    @Order(2)
+    void test02ErrorBodiesAreWrittenAsJson() throws Exception {
+        when(priceRepository.findApplicablePriceRequest(99L, 1L, APPLICATION_DATE)).thenReturn(Optional.empty());
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(priceController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mockMvc.perform(get("/v1/prices").param("productId", "99").param("brandId", "1")
+                        .param("applicationDate", "2020-06-14T10:00:00").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message").value(PRICE_NOT_FOUND));
+        mockMvc.perform(get("/v1/prices").param("productId", "-1").param("brandId", "1")
+                        .param("applicationDate", "2020-06-14T10:00:00").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(PRICE_BAD_REQUEST));
+    }
+}
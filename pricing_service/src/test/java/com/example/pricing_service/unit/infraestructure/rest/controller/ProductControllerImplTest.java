@@ -3,7 +3,6 @@ package com.example.pricing_service.unit.infraestructure.rest.controller;
 import com.example.pricing_service.application.service.ProductService;
 import com.example.pricing_service.domain.dto.ProductDto;
 import com.example.pricing_service.domain.dto.request.ProductRequest;
-import com.example.pricing_service.domain.model.Price;
 import com.example.pricing_service.infraestructure.commons.constants.CategoryType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -15,7 +14,6 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -46,18 +44,10 @@ class ProductControllerImplTest {
     void setUp() {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
-        Price mockPrice = Price.builder()
-                .id(1L)
-                .price(99.99)
-                .currency("USD")
-                .startDate(LocalDateTime.now())
-                .endDate(LocalDateTime.now().plusDays(10))
-                .build();
-
         mockProductRequest = ProductRequest.builder()
                 .name("SomeProduct")
                 .category(CategoryType.CLOTHES)
-                .priceList(List.of(mockPrice))
+                .priceIds(List.of(1L))
                 .build();
 
         mockProductDto = ProductDto.builder()
@@ -80,8 +70,7 @@ class ProductControllerImplTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.name").value(mockProductRequest.getName()))
                 .andExpect(jsonPath("$.category").value(mockProductRequest.getCategory().name()))
-                .andExpect(jsonPath("$.priceList[0].price").value(mockProductRequest.getPriceList().get(0).getPrice()))
-                .andExpect(jsonPath("$.priceList[0].currency").value(mockProductRequest.getPriceList().get(0).getCurrency()));
+                .andExpect(jsonPath("$.priceIds[0]").value(1));
 
         verify(productService).getProductById("1");
     }
@@ -4,6 +4,8 @@ import com.example.pricing_service.domain.dto.BrandDto;
 import com.example.pricing_service.domain.dto.request.BrandRequest;
 import com.example.pricing_service.domain.model.Brand;
 import com.example.pricing_service.infraestructure.entity.BrandEntity;
+import com.example.pricing_service.infraestructure.entity.PriceEntity;
+import com.example.pricing_service.infraestructure.entity.ProductEntity;
 import com.example.pricing_service.infraestructure.rest.mapper.BrandMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.MethodOrderer;
@@ -14,8 +16,11 @@ import org.mapstruct.factory.Mappers;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @ExtendWith(MockitoExtension.class)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -136,4 +141,32 @@ class BrandMapperTest {
 
         assertThat(brandId).isNull();
     }
+
+    @Test
+    void testToBrandStopsAtItsProducts() {
+        BrandEntity brandEntity = BrandEntity.builder().id(1L).name("SomeBrand").build();
+        ProductEntity productEntity = ProductEntity.builder()
+                .id(2L)
+                .name("SomeProduct")
+                .priceList(List.of(PriceEntity.builder().id(3L).brand(brandEntity).build()))
+                .build();
+        brandEntity.setProductList(Set.of(productEntity));
+
+        Brand brand = brandMapper.toBrand(brandEntity);
+        BrandRequest brandRequest = brandMapper.toBrandRequest(brand);
+
+        assertThat(brand.getProductList()).extracting("id", "name").containsExactly(tuple(2L, "SomeProduct"));
+        assertThat(brand.getProductList().get(0).getPriceList()).isNull();
+        assertThat(brandRequest.getProductIds()).containsExactly(2L);
+    }
+
+    @Test
+    void testToBrandFromDtoReferencesProductsById() {
+        BrandDto brandDto = BrandDto.builder().id(1L).name("SomeBrand").productIds(List.of(2L, 3L)).build();
+
+        Brand brand = brandMapper.toBrandFromDto(brandDto);
+
+        assertThat(brand.getProductList()).extracting("id").containsExactly(2L, 3L);
+        assertThat(brandMapper.toBrandDto(brand).getProductIds()).containsExactly(2L, 3L);
+    }
 }
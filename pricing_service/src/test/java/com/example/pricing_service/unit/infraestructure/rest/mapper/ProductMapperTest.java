@@ -2,9 +2,13 @@ package com.example.pricing_service.unit.infraestructure.rest.mapper;
 
 import com.example.pricing_service.domain.dto.ProductDto;
 import com.example.pricing_service.domain.dto.request.ProductRequest;
+import com.example.pricing_service.domain.model.Price;
 import com.example.pricing_service.domain.model.Product;
+import com.example.pricing_service.infraestructure.entity.BrandEntity;
+import com.example.pricing_service.infraestructure.entity.PriceEntity;
 import com.example.pricing_service.infraestructure.entity.ProductEntity;
 import com.example.pricing_service.infraestructure.rest.mapper.ProductMapper;
+import com.example.pricing_service.infraestructure.rest.mapper.ReferenceMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
@@ -12,8 +16,11 @@ import org.junit.jupiter.api.TestMethodOrder;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -26,6 +33,7 @@ class ProductMapperTest {
     @BeforeEach
     void setUp() {
         productMapper = Mappers.getMapper(ProductMapper.class);
+        ReflectionTestUtils.setField(productMapper, "referenceMapper", Mappers.getMapper(ReferenceMapper.class));
     }
 
     @Test
@@ -154,4 +162,28 @@ class ProductMapperTest {
 
         assertThat(productId).isNull();
     }
+
+    @Test
+    void testToProductStopsAtItsPrices() {
+        BrandEntity brandEntity = BrandEntity.builder().id(2L).name("SomeBrand").build();
+        ProductEntity productEntity = ProductEntity.builder().id(1L).name("SomeProduct").build();
+        brandEntity.setProductList(Set.of(productEntity));
+        productEntity.setPriceList(List.of(PriceEntity.builder()
+                .id(3L)
+                .brand(brandEntity)
+                .product(productEntity)
+                .price(35.50)
+                .build()));
+
+        Product product = productMapper.toProduct(productEntity);
+        ProductRequest productRequest = productMapper.toProductRequest(product);
+
+        Price price = product.getPriceList().get(0);
+        assertThat(price.getPrice()).isEqualTo(35.50);
+        assertThat(price.getBrand().getId()).isEqualTo(2L);
+        assertThat(price.getBrand().getName()).isNull();
+        assertThat(price.getBrand().getProductList()).isNull();
+        assertThat(price.getProduct().getPriceList()).isNull();
+        assertThat(productRequest.getPriceIds()).containsExactly(3L);
+    }
 }
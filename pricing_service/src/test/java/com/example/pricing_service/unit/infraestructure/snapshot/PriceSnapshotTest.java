@@ -0,0 +1,142 @@
+package com.example.pricing_service.unit.infraestructure.snapshot;
+
+import com.example.pricing_service.domain.model.Brand;
+import com.example.pricing_service.domain.model.Price;
+import com.example.pricing_service.domain.model.Product;
+import com.example.pricing_service.infraestructure.index.PriceIntervalIndex;
+import com.example.pricing_service.infraestructure.snapshot.PriceSnapshot;
+import com.example.pricing_service.infraestructure.snapshot.PriceSnapshotStore;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PriceSnapshotTest {
+
+    @TempDir
+    private Path directory;
+
+    private Path file;
+    private PriceIntervalIndex priceIntervalIndex;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("prices.snapshot");
+        priceIntervalIndex = new PriceIntervalIndex();
+        priceIntervalIndex.load(Stream.of(
+                price(1L, 35455L, 1, 0, 35.50, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59)),
+                price(2L, 35455L, 2, 1, 25.45, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)),
+                price(3L, 35455L, 3, 1, 30.50, LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0)),
+                price(4L, 10L, 1, null, 12.00, LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2021, 1, 1, 0, 0))));
+    }
+
+    @Test
+    @Order(1)
+    void test01SnapshotAnswersLikeTheIndex() throws IOException {
+        new PriceSnapshotStore(file, priceIntervalIndex).write();
+        PriceSnapshot snapshot = PriceSnapshot.open(file).orElseThrow();
+
+        List<LocalDateTime> dates = List.of(
+                LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 10, 0),
+                LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.of(2020, 6, 14, 16, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30),
+                LocalDateTime.of(2020, 6, 15, 10, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59),
+                LocalDateTime.of(2024, 1, 1, 0, 0));
+        for (LocalDateTime date : dates) {
+            Optional<Price> expected = priceIntervalIndex.findApplicablePrice(35455L, 1L, date);
+            Optional<Price> actual = snapshot.findApplicablePrice(35455L, 1L, date);
+            assertEquals(expected.map(Price::getId), actual.map(Price::getId), date.toString());
+            assertEquals(expected.map(Price::getPrice), actual.map(Price::getPrice), date.toString());
+        }
+        assertEquals(priceIntervalIndex.segments().count(), snapshot.size());
+    }
+
+    @Test
+    @Order(2)
+    void test02SnapshotKeepsEveryField() throws IOException {
+        new PriceSnapshotStore(file, priceIntervalIndex).write();
+        Price price = PriceSnapshot.open(file).orElseThrow()
+                .findApplicablePrice(10L, 1L, LocalDateTime.of(2020, 6, 1, 0, 0)).orElseThrow();
+
+        assertEquals(4L, price.getId());
+        assertEquals(10L, price.getProduct().getId());
+        assertEquals(1L, price.getBrand().getId());
+        assertEquals(1, price.getPriceList());
+        assertNull(price.getPriority());
+        assertEquals(LocalDateTime.of(2020, 1, 1, 0, 0), price.getStartDate());
+        assertEquals(LocalDateTime.of(2021, 1, 1, 0, 0), price.getEndDate());
+        assertEquals(12.00, price.getPrice());
+        assertEquals("EUR", price.getCurrency());
+        assertTrue(PriceSnapshot.open(file).orElseThrow().findApplicablePrice(11L, 1L, LocalDateTime.of(2020, 6, 1, 0, 0)).isEmpty());
+    }
+
+    @Test
+    @Order(3)
+    void test03NextBoundaryFollowsTheSegments() throws IOException {
+        new PriceSnapshotStore(file, priceIntervalIndex).write();
+        PriceSnapshot snapshot = PriceSnapshot.open(file).orElseThrow();
+
+        assertEquals(LocalDateTime.of(2020, 6, 14, 0, 0, 0, 1_000),
+                snapshot.findNextBoundary(35455L, 1L, LocalDateTime.of(2020, 1, 1, 0, 0)).orElseThrow());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 15, 0, 0, 1_000),
+                snapshot.findNextBoundary(35455L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0)).orElseThrow());
+        assertTrue(snapshot.findNextBoundary(35455L, 1L, LocalDateTime.of(2021, 1, 1, 0, 0)).isEmpty());
+    }
+
+    @Test
+    @Order(4)
+    void test04StoreServesTheSnapshotUntilReleased() {
+        new PriceSnapshotStore(file, priceIntervalIndex).write();
+
+        PriceSnapshotStore restarted = new PriceSnapshotStore(file, new PriceIntervalIndex());
+        restarted.open();
+
+        assertTrue(restarted.isAvailable());
+        assertEquals(25.45, restarted.findApplicablePrice(35455L, 1L, LocalDateTime.of(2020, 6, 14, 16, 0))
+                .orElseThrow().getPrice());
+        assertEquals(-1, restarted.write());
+
+        restarted.release();
+
+        assertFalse(restarted.isAvailable());
+        assertTrue(restarted.findApplicablePrice(35455L, 1L, LocalDateTime.of(2020, 6, 14, 16, 0)).isEmpty());
+    }
+
+    @Test
+    @Order(5)
+    void test05InvalidFilesAreIgnored() throws IOException {
+        assertTrue(PriceSnapshot.open(file).isEmpty());
+
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16,
+                17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32});
+
+        assertTrue(PriceSnapshot.open(file).isEmpty());
+    }
+
+    private Price price(Long id, Long productId, Integer priceList, Integer priority, Double amount,
+                        LocalDateTime startDate, LocalDateTime endDate) {
+        return Price.builder()
+                .id(id)
+                .brand(Brand.builder().id(1L).build())
+                .product(Product.builder().id(productId).build())
+                .priceList(priceList)
+                .priority(priority)
+                .price(amount)
+                .currency("EUR")
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}